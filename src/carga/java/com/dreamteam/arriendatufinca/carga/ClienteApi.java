@@ -0,0 +1,72 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+// Cliente HTTP compartido por todos los usuarios virtuales; los fallos de conexión se reportan con estado -1
+final class ClienteApi {
+    record Respuesta(int estado, String cuerpo) {
+        boolean exitosa() {
+            return estado >= 200 && estado < 300;
+        }
+    }
+
+    private final HttpClient http;
+    private final String base;
+    private final ObjectMapper json;
+
+    ClienteApi(String base) {
+        this.http = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+        this.base = base.endsWith("/") ? base : base + "/";
+        this.json = new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    Respuesta get(String ruta) {
+        return enviar(HttpRequest.newBuilder(URI.create(base + ruta)).GET());
+    }
+
+    Respuesta put(String ruta) {
+        return enviar(HttpRequest.newBuilder(URI.create(base + ruta)).PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    Respuesta post(String ruta, Object cuerpo) {
+        try {
+            return enviar(HttpRequest.newBuilder(URI.create(base + ruta))
+                                     .header("Content-Type", "application/json")
+                                     .POST(HttpRequest.BodyPublishers.ofString(json.writeValueAsString(cuerpo))));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    <T> T leer(Respuesta respuesta, Class<T> tipo) {
+        if (!respuesta.exitosa()) {
+            throw new IllegalStateException("Respuesta " + respuesta.estado() + ": " + respuesta.cuerpo());
+        }
+        try {
+            return json.readValue(respuesta.cuerpo(), tipo);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private Respuesta enviar(HttpRequest.Builder peticion) {
+        try {
+            HttpResponse<String> respuesta = http.send(peticion.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+            return new Respuesta(respuesta.statusCode(), respuesta.body());
+        } catch (IOException e) {
+            return new Respuesta(-1, e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Respuesta(-1, e.getMessage());
+        }
+    }
+}
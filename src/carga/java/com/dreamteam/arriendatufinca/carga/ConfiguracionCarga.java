@@ -0,0 +1,58 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Parámetros de la prueba de carga, recibidos como argumentos clave=valor
+final class ConfiguracionCarga {
+    private static final String MEZCLA_DEFECTO = "propiedad.pagina:25,propiedad.buscar:15,propiedad.detalle:15,solicitud.detalle:10,"
+                                               + "solicitud.crear:5,calificacion.resenas:10,calificacion.resumen:5,cuenta.login:15";
+
+    final String url;
+    final int usuarios;
+    final int calentamientoSegundos;
+    final int duracionSegundos;
+    final int propiedades;
+    final int arrendatarios;
+    final long semilla;
+    final String salida;
+    final Map<String, Integer> mezcla;
+
+    private ConfiguracionCarga(Map<String, String> valores) {
+        url = valores.getOrDefault("url", "");
+        usuarios = Integer.parseInt(valores.getOrDefault("usuarios", "16"));
+        calentamientoSegundos = Integer.parseInt(valores.getOrDefault("calentamiento", "10"));
+        duracionSegundos = Integer.parseInt(valores.getOrDefault("duracion", "30"));
+        propiedades = Integer.parseInt(valores.getOrDefault("propiedades", "200"));
+        arrendatarios = Integer.parseInt(valores.getOrDefault("arrendatarios", "100"));
+        semilla = Long.parseLong(valores.getOrDefault("semilla", "42"));
+        salida = valores.getOrDefault("salida", "target/carga");
+        mezcla = leerMezcla(valores.getOrDefault("mezcla", MEZCLA_DEFECTO));
+    }
+
+    static ConfiguracionCarga desde(String[] args) {
+        return new ConfiguracionCarga(leerArgumentos(args));
+    }
+
+    static Map<String, String> leerArgumentos(String[] args) {
+        Map<String, String> valores = new LinkedHashMap<>();
+        for (String arg : args) {
+            int igual = arg.indexOf('=');
+            if (igual <= 0) {
+                throw new IllegalArgumentException("Argumento inválido, se espera clave=valor: " + arg);
+            }
+            valores.put(arg.substring(0, igual), arg.substring(igual + 1));
+        }
+        return valores;
+    }
+
+    // Formato operacion:peso separado por comas
+    private static Map<String, Integer> leerMezcla(String texto) {
+        Map<String, Integer> mezcla = new LinkedHashMap<>();
+        for (String parte : texto.split(",")) {
+            String[] operacionPeso = parte.trim().split(":");
+            mezcla.put(operacionPeso[0], Integer.parseInt(operacionPeso[1]));
+        }
+        return mezcla;
+    }
+}
@@ -0,0 +1,54 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+
+// Identificadores sembrados que usan las operaciones de carga
+final class DatosCarga {
+    // Las reservas usan franjas de tres días desde esta fecha, una franja nueva por solicitud, para no generar traslapes
+    private static final LocalDateTime INICIO_RESERVAS = LocalDateTime.of(2100, 1, 1, 15, 0);
+
+    static final String CONTRASENA = "carga-123";
+
+    final List<CuentaDTO> arrendadores = new ArrayList<>();
+    final List<CuentaDTO> arrendatarios = new ArrayList<>();
+    final List<SimplePropiedadDTO> propiedades = new ArrayList<>();
+    // Crece durante la carga mientras otros hilos leen: agregar no copia la colección
+    final IdsConcurrentes solicitudes = new IdsConcurrentes();
+    final List<String> departamentos = new ArrayList<>();
+    private AtomicIntegerArray franjas;
+
+    void prepararFranjas() {
+        franjas = new AtomicIntegerArray(propiedades.size());
+    }
+
+    <T> T cualquiera(List<T> elementos, Random random) {
+        return elementos.get(random.nextInt(elementos.size()));
+    }
+
+    SimpleSolicitudDTO nuevaSolicitud(Random random) {
+        int indice = random.nextInt(propiedades.size());
+        SimplePropiedadDTO propiedad = propiedades.get(indice);
+        LocalDateTime inicio = INICIO_RESERVAS.plusDays(3L * franjas.getAndIncrement(indice));
+
+        SimplePropiedadDTO referencia = new SimplePropiedadDTO();
+        referencia.setIdPropiedad(propiedad.getIdPropiedad());
+        CuentaDTO arrendatario = new CuentaDTO();
+        arrendatario.setIdCuenta(cualquiera(arrendatarios, random).getIdCuenta());
+
+        SimpleSolicitudDTO solicitud = new SimpleSolicitudDTO();
+        solicitud.setPropiedad(referencia);
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setFechaInicio(inicio);
+        solicitud.setFechaFinal(inicio.plusDays(2));
+        solicitud.setCantidadPersonas(1 + random.nextInt(propiedad.getCantidadHabitaciones()));
+        return solicitud;
+    }
+}
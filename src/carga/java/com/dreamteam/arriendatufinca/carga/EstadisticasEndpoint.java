@@ -0,0 +1,71 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+// Latencias en microsegundos y conteo de respuestas de una operación
+final class EstadisticasEndpoint {
+    private static final long LATENCIA_MAXIMA = TimeUnit.MINUTES.toMicros(1);
+
+    private final String nombre;
+    private final Histogram latencias = new ConcurrentHistogram(LATENCIA_MAXIMA, 3);
+    private final LongAdder errores = new LongAdder();
+    private final LongAdder rechazos = new LongAdder();
+
+    EstadisticasEndpoint(String nombre) {
+        this.nombre = nombre;
+    }
+
+    // Errores: 5xx o fallas de conexión; rechazos: respuestas 4xx de reglas de negocio
+    void registrar(long inicioNanos, int estado) {
+        latencias.recordValue(Math.min(LATENCIA_MAXIMA, (System.nanoTime() - inicioNanos) / 1000));
+        if (estado >= 500 || estado < 0) {
+            errores.increment();
+        } else if (estado >= 400) {
+            rechazos.increment();
+        }
+    }
+
+    void reiniciar() {
+        latencias.reset();
+        errores.reset();
+        rechazos.reset();
+    }
+
+    String nombre() {
+        return nombre;
+    }
+
+    long total() {
+        return latencias.getTotalCount();
+    }
+
+    String resumen(double segundos) {
+        long total = total();
+        return String.format("%-22s %9d %10.1f %9.2f %9.2f %9.2f %9.2f %8.2f%% %8.2f%%", nombre, total, total / segundos,
+                             milisegundos(50), milisegundos(95), milisegundos(99), latencias.getMaxValue() / 1000.0,
+                             porcentaje(errores.sum(), total), porcentaje(rechazos.sum(), total));
+    }
+
+    // Distribución completa en formato .hgrm, en milisegundos
+    void escribirHistograma(Path directorio) throws IOException {
+        try (PrintStream salida = new PrintStream(new FileOutputStream(directorio.resolve(nombre + ".hgrm").toFile()))) {
+            latencias.outputPercentileDistribution(salida, 1000.0);
+        }
+    }
+
+    private double milisegundos(double percentil) {
+        return latencias.getValueAtPercentile(percentil) / 1000.0;
+    }
+
+    private static double porcentaje(long parte, long total) {
+        return total == 0 ? 0 : 100.0 * parte / total;
+    }
+}
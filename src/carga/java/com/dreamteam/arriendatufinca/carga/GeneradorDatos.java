@@ -0,0 +1,349 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.dreamteam.arriendatufinca.ArriendatufincaApplication;
+import com.dreamteam.arriendatufinca.entities.GeneradorIds;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+
+// Genera datos sintéticos a gran escala con inserciones JDBC por lotes y varios hilos.
+// Cada bloque usa su propio generador aleatorio derivado de la semilla y de su posición, y los ids se asignan
+// a partir del máximo existente, así que el resultado no depende del número de hilos ni del orden de ejecución.
+// Uso: mvn -Pcarga test-compile exec:exec -Dcarga.main=com.dreamteam.arriendatufinca.carga.GeneradorDatos
+//          -Dcarga.args="propiedades=200000 solicitudes=10 hilos=8 [jdbc=jdbc:mysql://... usuario=... contrasena=...]"
+public final class GeneradorDatos {
+    private static final String JDBC_DEFECTO = "jdbc:h2:file:./target/carga/datos;MODE=MySQL;DATABASE_TO_LOWER=TRUE";
+    private static final int CUENTAS_POR_BLOQUE = 1000;
+    private static final int PROPIEDADES_POR_BLOQUE = 100;
+
+    private static final String[] NOMBRES = {"Ana", "Carlos", "Diana", "Felipe", "Juliana", "Andrés", "Camila", "Santiago", "Valentina", "Mateo"};
+    private static final String[] APELLIDOS = {"Gómez", "Rodríguez", "Martínez", "López", "García", "Pérez", "Ramírez", "Torres", "Díaz", "Moreno"};
+    private static final String[] TIPOS_INGRESO = {"Carretera pavimentada", "Carretera destapada", "Camino peatonal"};
+    private static final String[] COMENTARIOS = {"Excelente estadía", "Todo en orden", "Podría mejorar la limpieza", "Muy buena atención", "Recomendado"};
+    // Distribución acumulada de puntajes 1 a 5, cargada hacia las calificaciones altas
+    private static final int[] PUNTAJES_ACUMULADOS = {5, 12, 27, 60, 100};
+
+    private static final String INSERTAR_CUENTA = "INSERT INTO cuenta (id_cuenta, nombre_cuenta, contrasena, email, estado) VALUES (?, ?, ?, ?, ?)";
+    private static final String INSERTAR_ARRENDADOR = "INSERT INTO arrendador (id_cuenta) VALUES (?)";
+    private static final String INSERTAR_ARRENDATARIO = "INSERT INTO arrendatario (id_cuenta) VALUES (?)";
+    private static final String INSERTAR_PROPIEDAD = "INSERT INTO propiedad (id_propiedad, id_arrendador, nombre_propiedad, descripcion_propiedad, municipio, "
+            + "departamento, tipo_ingreso, cantidad_habitaciones, cantidad_banos, permite_mascotas, tiene_piscina, tiene_asador, valor_noche, estado, "
+            + "suma_puntajes, cantidad_calificaciones) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERTAR_SOLICITUD = "INSERT INTO solicitud (id_solicitud, id_arrendatario, id_propiedad, id_estado_solicitud, fecha_inicio, "
+            + "fecha_final, fecha_creacion, cantidad_personas, arrendador_calificado, arrendatario_calificado, propiedad_calificado) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERTAR_CALIFICACION = "INSERT INTO calificacion (id_calificacion, id_calificado, id_calificador, id_propiedad, id_solicitud, "
+            + "tipo_calificacion, comentario, puntaje, fecha_calificacion) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    // Mismo cálculo que data.sql, para las cuentas que aún no tienen resumen
+    private static final String RECONSTRUIR_RESUMENES = "INSERT INTO resumen_reputacion (id_cuenta, cantidad_calificaciones, suma_puntajes, "
+            + "calificaciones_cero, calificaciones_uno, calificaciones_dos, calificaciones_tres, calificaciones_cuatro, calificaciones_cinco, ultima_calificacion) "
+            + "SELECT c.id_calificado, COUNT(*), SUM(c.puntaje), "
+            + "SUM(CASE WHEN c.puntaje = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN c.puntaje = 1 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN c.puntaje = 2 THEN 1 ELSE 0 END), SUM(CASE WHEN c.puntaje = 3 THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN c.puntaje = 4 THEN 1 ELSE 0 END), SUM(CASE WHEN c.puntaje = 5 THEN 1 ELSE 0 END), MAX(c.fecha_calificacion) "
+            + "FROM calificacion c WHERE c.tipo_calificacion IN (0, 1) "
+            + "AND NOT EXISTS (SELECT 1 FROM resumen_reputacion r WHERE r.id_cuenta = c.id_calificado) GROUP BY c.id_calificado";
+
+    private final DataSource dataSource;
+    private final long semilla;
+    private final int arrendadores;
+    private final int arrendatarios;
+    private final int propiedades;
+    private final int solicitudesPorPropiedad;
+    private final int hilos;
+    private final int lote;
+    private final LocalDateTime referencia;
+    private final List<String[]> ubicaciones;
+
+    private final Map<SolicitudStatus, Integer> estados = new EnumMap<>(SolicitudStatus.class);
+    private final AtomicLong filas = new AtomicLong();
+    private int primeraCuenta;
+    private int primeraPropiedad;
+    private int primeraSolicitud;
+    private int primeraCalificacion;
+
+    private GeneradorDatos(DataSource dataSource, Map<String, String> valores) throws Exception {
+        this.dataSource = dataSource;
+        semilla = Long.parseLong(valores.getOrDefault("semilla", "42"));
+        propiedades = Integer.parseInt(valores.getOrDefault("propiedades", "20000"));
+        arrendadores = Integer.parseInt(valores.getOrDefault("arrendadores", String.valueOf(Math.max(1, propiedades / 20))));
+        arrendatarios = Integer.parseInt(valores.getOrDefault("arrendatarios", String.valueOf(Math.max(1, propiedades / 2))));
+        solicitudesPorPropiedad = Integer.parseInt(valores.getOrDefault("solicitudes", "10"));
+        hilos = Integer.parseInt(valores.getOrDefault("hilos", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        lote = Integer.parseInt(valores.getOrDefault("lote", "1000"));
+        // Fecha fija para que el estado de cada solicitud no dependa del día en que se generan los datos
+        referencia = LocalDateTime.parse(valores.getOrDefault("referencia", "2026-01-01T00:00:00"));
+        ubicaciones = SembradorDatos.leerUbicaciones();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> valores = ConfiguracionCarga.leerArgumentos(args);
+        String jdbc = valores.getOrDefault("jdbc", JDBC_DEFECTO);
+        int hilos = Integer.parseInt(valores.getOrDefault("hilos", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        List<String> propiedadesSpring = new ArrayList<>(List.of(
+                "--spring.datasource.url=" + jdbc,
+                "--spring.datasource.username=" + valores.getOrDefault("usuario", "sa"),
+                "--spring.datasource.password=" + valores.getOrDefault("contrasena", ""),
+                "--spring.datasource.hikari.maximum-pool-size=" + (hilos + 2),
+                "--spring.jpa.hibernate.ddl-auto=update",
+                "--spring.jpa.show-sql=false",
+                "--logging.level.root=WARN"));
+        if (jdbc.startsWith("jdbc:h2:")) {
+            propiedadesSpring.add("--spring.datasource.driver-class-name=org.h2.Driver");
+            propiedadesSpring.add("--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect");
+        }
+        // La aplicación arranca sin servidor web solo para crear el esquema y sembrar estado_solicitud con data.sql;
+        // se pasan como argumentos para que tengan prioridad sobre application.properties
+        try (ConfigurableApplicationContext contexto = new SpringApplicationBuilder(ArriendatufincaApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(propiedadesSpring.toArray(new String[0]))) {
+            new GeneradorDatos(contexto.getBean(DataSource.class), valores).generar();
+        }
+    }
+
+    private void generar() throws Exception {
+        long inicio = System.nanoTime();
+        try (Connection conexion = dataSource.getConnection()) {
+            leerEstados(conexion);
+            primeraCuenta = siguienteId(conexion, "cuenta", "id_cuenta");
+            primeraPropiedad = siguienteId(conexion, "propiedad", "id_propiedad");
+            primeraSolicitud = siguienteId(conexion, "solicitud", "id_solicitud");
+            primeraCalificacion = siguienteId(conexion, "calificacion", "id_calificacion");
+        }
+
+        ExecutorService trabajadores = Executors.newFixedThreadPool(hilos);
+        try {
+            // Las cuentas deben existir antes que las propiedades y solicitudes que las referencian
+            int cuentas = arrendadores + arrendatarios;
+            List<Future<?>> tareas = new ArrayList<>();
+            for (int bloque = 0; bloque * CUENTAS_POR_BLOQUE < cuentas; bloque++) {
+                int desde = bloque * CUENTAS_POR_BLOQUE;
+                int hasta = Math.min(cuentas, desde + CUENTAS_POR_BLOQUE);
+                SplittableRandom random = aleatorio(1, bloque);
+                tareas.add(trabajadores.submit(() -> {
+                    generarCuentas(desde, hasta, random);
+                    return null;
+                }));
+            }
+            esperar(tareas);
+            for (int bloque = 0; bloque * PROPIEDADES_POR_BLOQUE < propiedades; bloque++) {
+                int desde = bloque * PROPIEDADES_POR_BLOQUE;
+                int hasta = Math.min(propiedades, desde + PROPIEDADES_POR_BLOQUE);
+                SplittableRandom random = aleatorio(2, bloque);
+                tareas.add(trabajadores.submit(() -> {
+                    generarPropiedades(desde, hasta, random);
+                    return null;
+                }));
+            }
+            esperar(tareas);
+        } finally {
+            trabajadores.shutdown();
+        }
+
+        try (Connection conexion = dataSource.getConnection(); Statement sentencia = conexion.createStatement()) {
+            sentencia.executeUpdate(RECONSTRUIR_RESUMENES);
+            ajustarGeneradorIds(conexion);
+        }
+        double segundos = (System.nanoTime() - inicio) / 1e9;
+        System.out.printf("%d filas generadas en %.1f s (%.0f filas/s) con %d hilos%n", filas.get(), segundos, filas.get() / segundos, hilos);
+    }
+
+    private void generarCuentas(int desde, int hasta, SplittableRandom random) throws SQLException {
+        List<Object[]> cuentas = new ArrayList<>();
+        List<Object[]> arrendadoresBloque = new ArrayList<>();
+        List<Object[]> arrendatariosBloque = new ArrayList<>();
+        for (int i = desde; i < hasta; i++) {
+            int id = primeraCuenta + i;
+            boolean esArrendador = i < arrendadores;
+            String nombre = NOMBRES[random.nextInt(NOMBRES.length)] + " " + APELLIDOS[random.nextInt(APELLIDOS.length)];
+            String email = (esArrendador ? "arrendador-" : "arrendatario-") + id + "@datos.test";
+            cuentas.add(new Object[] {id, nombre, "clave-" + id, email, Estado.ACTIVE.ordinal()});
+            (esArrendador ? arrendadoresBloque : arrendatariosBloque).add(new Object[] {id});
+        }
+        try (Connection conexion = dataSource.getConnection()) {
+            conexion.setAutoCommit(false);
+            insertar(conexion, INSERTAR_CUENTA, cuentas);
+            insertar(conexion, INSERTAR_ARRENDADOR, arrendadoresBloque);
+            insertar(conexion, INSERTAR_ARRENDATARIO, arrendatariosBloque);
+            conexion.commit();
+        }
+    }
+
+    // Cada propiedad lleva su historial de solicitudes consecutivas y las calificaciones de las que ya terminaron
+    private void generarPropiedades(int desde, int hasta, SplittableRandom random) throws SQLException {
+        List<Object[]> propiedadesBloque = new ArrayList<>();
+        List<Object[]> solicitudes = new ArrayList<>();
+        List<Object[]> calificaciones = new ArrayList<>();
+        for (int p = desde; p < hasta; p++) {
+            int idPropiedad = primeraPropiedad + p;
+            int idArrendador = primeraCuenta + random.nextInt(arrendadores);
+            String[] ubicacion = ubicaciones.get(random.nextInt(ubicaciones.size()));
+            int habitaciones = 1 + random.nextInt(10);
+            long sumaPuntajes = 0;
+            int cantidadCalificaciones = 0;
+
+            LocalDateTime fecha = referencia.minusDays(30 + random.nextInt(Math.max(1, solicitudesPorPropiedad * 12)));
+            for (int j = 0; j < solicitudesPorPropiedad; j++) {
+                int indice = p * solicitudesPorPropiedad + j;
+                int idSolicitud = primeraSolicitud + indice;
+                int idArrendatario = primeraCuenta + arrendadores + random.nextInt(arrendatarios);
+                LocalDateTime inicio = fecha.plusDays(random.nextInt(10)).withHour(15);
+                LocalDateTime fin = inicio.plusDays(2 + random.nextInt(6)).withHour(11);
+                fecha = fin;
+                SolicitudStatus estado = estado(fin, random);
+                // POR_CALIFICAR tiene algunas calificaciones pendientes; CERRADA las tiene todas
+                boolean[] calificado = new boolean[TipoCalificacion.values().length];
+                if (estado == SolicitudStatus.CERRADA) {
+                    calificado[0] = calificado[1] = calificado[2] = true;
+                } else if (estado == SolicitudStatus.POR_CALIFICAR) {
+                    calificado[random.nextInt(calificado.length)] = random.nextBoolean();
+                }
+                for (TipoCalificacion tipo : TipoCalificacion.values()) {
+                    if (!calificado[tipo.ordinal()]) {
+                        continue;
+                    }
+                    int puntaje = puntaje(random);
+                    boolean alArrendatario = tipo == TipoCalificacion.ARRENDADOR_A_ARRENDATARIO;
+                    calificaciones.add(new Object[] {primeraCalificacion + indice * 3 + tipo.ordinal(),
+                            alArrendatario ? idArrendatario : idArrendador, alArrendatario ? idArrendador : idArrendatario,
+                            idPropiedad, idSolicitud, tipo.ordinal(), COMENTARIOS[random.nextInt(COMENTARIOS.length)], puntaje,
+                            fin.plusHours(1 + random.nextInt(24 * 7))});
+                    if (tipo == TipoCalificacion.ARRENDATARIO_A_PROPIEDAD) {
+                        sumaPuntajes += puntaje;
+                        cantidadCalificaciones++;
+                    }
+                }
+                solicitudes.add(new Object[] {idSolicitud, idArrendatario, idPropiedad, estados.get(estado), inicio, fin,
+                        inicio.minusDays(1 + random.nextInt(60)), 1 + random.nextInt(habitaciones),
+                        calificado[TipoCalificacion.ARRENDATARIO_A_ARRENDADOR.ordinal()],
+                        calificado[TipoCalificacion.ARRENDADOR_A_ARRENDATARIO.ordinal()],
+                        calificado[TipoCalificacion.ARRENDATARIO_A_PROPIEDAD.ordinal()]});
+            }
+            propiedadesBloque.add(new Object[] {idPropiedad, idArrendador, "Finca " + ubicacion[1] + " " + idPropiedad,
+                    "Finca en " + ubicacion[1] + ", " + ubicacion[0], ubicacion[1], ubicacion[0], TIPOS_INGRESO[random.nextInt(TIPOS_INGRESO.length)],
+                    habitaciones, 1 + random.nextInt(4), random.nextBoolean(), random.nextBoolean(), random.nextBoolean(),
+                    100000f + 10000f * random.nextInt(90), Estado.ACTIVE.ordinal(), sumaPuntajes, cantidadCalificaciones});
+        }
+        try (Connection conexion = dataSource.getConnection()) {
+            conexion.setAutoCommit(false);
+            insertar(conexion, INSERTAR_PROPIEDAD, propiedadesBloque);
+            insertar(conexion, INSERTAR_SOLICITUD, solicitudes);
+            insertar(conexion, INSERTAR_CALIFICACION, calificaciones);
+            conexion.commit();
+        }
+    }
+
+    // Las solicitudes terminadas antes de la fecha de referencia ya pasaron por todo el flujo
+    private SolicitudStatus estado(LocalDateTime fin, SplittableRandom random) {
+        int valor = random.nextInt(100);
+        if (fin.isBefore(referencia)) {
+            return valor < 70 ? SolicitudStatus.CERRADA : valor < 85 ? SolicitudStatus.POR_CALIFICAR : SolicitudStatus.RECHAZADA;
+        }
+        return valor < 50 ? SolicitudStatus.PENDIENTE : valor < 80 ? SolicitudStatus.POR_PAGAR : SolicitudStatus.RECHAZADA;
+    }
+
+    private static int puntaje(SplittableRandom random) {
+        int valor = random.nextInt(100);
+        int puntaje = 0;
+        while (valor >= PUNTAJES_ACUMULADOS[puntaje]) {
+            puntaje++;
+        }
+        return puntaje + 1;
+    }
+
+    private void insertar(Connection conexion, String sql, List<Object[]> filasTabla) throws SQLException {
+        try (PreparedStatement sentencia = conexion.prepareStatement(sql)) {
+            int pendientes = 0;
+            for (Object[] fila : filasTabla) {
+                for (int i = 0; i < fila.length; i++) {
+                    sentencia.setObject(i + 1, fila[i]);
+                }
+                sentencia.addBatch();
+                if (++pendientes == lote) {
+                    sentencia.executeBatch();
+                    pendientes = 0;
+                }
+            }
+            if (pendientes > 0) {
+                sentencia.executeBatch();
+            }
+        }
+        filas.addAndGet(filasTabla.size());
+    }
+
+    private void leerEstados(Connection conexion) throws SQLException {
+        try (Statement sentencia = conexion.createStatement();
+             ResultSet resultado = sentencia.executeQuery("SELECT id_estado_solicitud, nombre_estado_solicitud FROM estado_solicitud")) {
+            while (resultado.next()) {
+                SolicitudStatus estado = SolicitudStatus.fromNombre(resultado.getString(2));
+                if (estado != null) {
+                    estados.put(estado, resultado.getInt(1));
+                }
+            }
+        }
+        for (SolicitudStatus estado : SolicitudStatus.values()) {
+            estados.putIfAbsent(estado, estado.getId());
+        }
+    }
+
+    // Después del máximo existente y de los ids que generador_id ya pudo haber reservado para la aplicación
+    private static int siguienteId(Connection conexion, String tabla, String columna) throws SQLException {
+        try (PreparedStatement sentencia = conexion.prepareStatement("SELECT GREATEST(COALESCE(MAX(" + columna + "), 0) + 1, "
+                + "COALESCE((SELECT g." + GeneradorIds.COLUMNA_SIGUIENTE + " FROM " + GeneradorIds.TABLA + " g WHERE g."
+                + GeneradorIds.COLUMNA_ENTIDAD + " = ?), 1)) FROM " + tabla)) {
+            sentencia.setString(1, tabla);
+            try (ResultSet resultado = sentencia.executeQuery()) {
+                resultado.next();
+                return resultado.getInt(1);
+            }
+        }
+    }
+
+    // Los ids explícitos no avanzan generador_id; sin este ajuste la aplicación reservaría ids ya usados
+    private static void ajustarGeneradorIds(Connection conexion) throws SQLException {
+        String[][] entidades = {{"cuenta", "id_cuenta"}, {"propiedad", "id_propiedad"}, {"solicitud", "id_solicitud"}, {"calificacion", "id_calificacion"}};
+        try (PreparedStatement sentencia = conexion.prepareStatement("UPDATE " + GeneradorIds.TABLA + " SET "
+                + GeneradorIds.COLUMNA_SIGUIENTE + " = ? WHERE " + GeneradorIds.COLUMNA_ENTIDAD + " = ? AND " + GeneradorIds.COLUMNA_SIGUIENTE + " < ?")) {
+            for (String[] entidad : entidades) {
+                int siguiente = siguienteId(conexion, entidad[0], entidad[1]);
+                sentencia.setInt(1, siguiente);
+                sentencia.setString(2, entidad[0]);
+                sentencia.setInt(3, siguiente);
+                sentencia.executeUpdate();
+            }
+        }
+    }
+
+    private SplittableRandom aleatorio(int fase, int bloque) {
+        return new SplittableRandom(semilla * 0x9E3779B97F4A7C15L + fase * 0x632BE59BD9B4E019L + bloque);
+    }
+
+    private static void esperar(List<Future<?>> tareas) throws Exception {
+        for (Future<?> tarea : tareas) {
+            tarea.get();
+        }
+        tareas.clear();
+    }
+}
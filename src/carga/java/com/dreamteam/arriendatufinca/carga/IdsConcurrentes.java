@@ -0,0 +1,48 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Ids que los hilos de carga agregan mientras otros leen uno al azar. Agregar no copia nada: cada id ocupa
+// una posición de un bloque fijo y los bloques no se mueven. Los ids nunca son 0, así que una posición en 0
+// está reservada pero aún sin escribir y la lectura elige otra.
+final class IdsConcurrentes {
+    private static final int BITS_BLOQUE = 14;
+    private static final int TAMANO_BLOQUE = 1 << BITS_BLOQUE;
+    private static final int MAXIMO_BLOQUES = 1 << 12;
+
+    private final AtomicReferenceArray<AtomicIntegerArray> bloques = new AtomicReferenceArray<>(MAXIMO_BLOQUES);
+    private final AtomicInteger reservadas = new AtomicInteger();
+
+    void add(int id) {
+        int posicion = reservadas.getAndIncrement();
+        bloque(posicion).set(posicion & (TAMANO_BLOQUE - 1), id);
+    }
+
+    int cualquiera(Random random) {
+        while (true) {
+            int posicion = random.nextInt(reservadas.get());
+            AtomicIntegerArray bloque = bloques.get(posicion >>> BITS_BLOQUE);
+            int id = bloque == null ? 0 : bloque.get(posicion & (TAMANO_BLOQUE - 1));
+            if (id != 0) {
+                return id;
+            }
+        }
+    }
+
+    int size() {
+        return reservadas.get();
+    }
+
+    private AtomicIntegerArray bloque(int posicion) {
+        int indice = posicion >>> BITS_BLOQUE;
+        AtomicIntegerArray bloque = bloques.get(indice);
+        if (bloque == null) {
+            bloques.compareAndSet(indice, null, new AtomicIntegerArray(TAMANO_BLOQUE));
+            bloque = bloques.get(indice);
+        }
+        return bloque;
+    }
+}
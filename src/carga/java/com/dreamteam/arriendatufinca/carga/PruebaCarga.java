@@ -0,0 +1,160 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.dreamteam.arriendatufinca.ArriendatufincaApplication;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.validation.LoginRequest;
+
+// Prueba de carga HTTP: arranca la aplicación sobre H2 (perfil test), siembra datos por la API y mide cada operación
+// con usuarios virtuales en lazo cerrado. Uso: mvn -Pcarga test-compile exec:exec -Dcarga.args="usuarios=32 duracion=60"
+public final class PruebaCarga {
+
+    @FunctionalInterface
+    private interface Operacion {
+        ClienteApi.Respuesta ejecutar(ClienteApi cliente, DatosCarga datos, Random random);
+    }
+
+    private static final Map<String, Operacion> OPERACIONES = new LinkedHashMap<>();
+
+    static {
+        OPERACIONES.put("propiedad.pagina", (cliente, datos, random) -> cliente.get("api/propiedad/pagina?tamano=20"));
+        OPERACIONES.put("propiedad.buscar", (cliente, datos, random) ->
+                cliente.get("api/propiedad/buscar?tamano=20&departamento=" + URLEncoder.encode(datos.cualquiera(datos.departamentos, random), StandardCharsets.UTF_8)));
+        OPERACIONES.put("propiedad.detalle", (cliente, datos, random) ->
+                cliente.get("api/propiedad/" + datos.cualquiera(datos.propiedades, random).getIdPropiedad()));
+        OPERACIONES.put("solicitud.detalle", (cliente, datos, random) ->
+                cliente.get("api/solicitud/" + datos.solicitudes.cualquiera(random)));
+        OPERACIONES.put("solicitud.crear", (cliente, datos, random) -> {
+            ClienteApi.Respuesta respuesta = cliente.post("api/solicitud", datos.nuevaSolicitud(random));
+            if (respuesta.exitosa()) {
+                datos.solicitudes.add(cliente.leer(respuesta, SimpleSolicitudDTO.class).getIdSolicitud());
+            }
+            return respuesta;
+        });
+        OPERACIONES.put("calificacion.resenas", (cliente, datos, random) ->
+                cliente.get("api/calificacion/calificado/" + datos.cualquiera(datos.arrendatarios, random).getIdCuenta() + "/pagina?tamano=20"));
+        OPERACIONES.put("calificacion.resumen", (cliente, datos, random) ->
+                cliente.get("api/calificacion/calificado/" + datos.cualquiera(datos.arrendadores, random).getIdCuenta() + "/resumen"));
+        OPERACIONES.put("cuenta.login", (cliente, datos, random) -> {
+            CuentaDTO cuenta = datos.cualquiera(datos.arrendatarios, random);
+            return cliente.post("api/cuenta/login", new LoginRequest(cuenta.getEmail(), DatosCarga.CONTRASENA));
+        });
+    }
+
+    private PruebaCarga() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        ConfiguracionCarga configuracion = ConfiguracionCarga.desde(args);
+        ConfigurableApplicationContext contexto = null;
+        String url = configuracion.url;
+        if (url.isBlank()) {
+            contexto = new SpringApplicationBuilder(ArriendatufincaApplication.class)
+                    .profiles("test")
+                    .properties("server.port=0", "spring.jpa.show-sql=false", "spring.h2.console.enabled=false",
+                                "spring.jpa.properties.hibernate.generate_statistics=false", "logging.level.root=WARN")
+                    .run();
+            url = "http://localhost:" + contexto.getEnvironment().getProperty("local.server.port") + "/";
+        }
+        try {
+            ejecutar(configuracion, new ClienteApi(url));
+        } finally {
+            if (contexto != null) {
+                contexto.close();
+            }
+        }
+    }
+
+    private static void ejecutar(ConfiguracionCarga configuracion, ClienteApi cliente) throws Exception {
+        long inicioSiembra = System.nanoTime();
+        DatosCarga datos = new SembradorDatos(cliente, configuracion.semilla).sembrar(configuracion);
+        System.out.printf("Datos sembrados en %.1f s: %d propiedades, %d arrendatarios, %d solicitudes%n",
+                          (System.nanoTime() - inicioSiembra) / 1e9, datos.propiedades.size(), datos.arrendatarios.size(), datos.solicitudes.size());
+
+        List<EstadisticasEndpoint> estadisticas = new ArrayList<>();
+        List<Operacion> operaciones = new ArrayList<>();
+        int[] pesosAcumulados = new int[configuracion.mezcla.size()];
+        int pesoTotal = 0;
+        for (Map.Entry<String, Integer> entrada : configuracion.mezcla.entrySet()) {
+            Operacion operacion = OPERACIONES.get(entrada.getKey());
+            if (operacion == null) {
+                throw new IllegalArgumentException("Operación desconocida: " + entrada.getKey() + ", opciones: " + OPERACIONES.keySet());
+            }
+            pesoTotal += entrada.getValue();
+            pesosAcumulados[operaciones.size()] = pesoTotal;
+            operaciones.add(operacion);
+            estadisticas.add(new EstadisticasEndpoint(entrada.getKey()));
+        }
+
+        long fin = System.nanoTime() + TimeUnit.SECONDS.toNanos(configuracion.calentamientoSegundos + configuracion.duracionSegundos);
+        ExecutorService usuarios = Executors.newFixedThreadPool(configuracion.usuarios);
+        for (int u = 0; u < configuracion.usuarios; u++) {
+            Random random = new Random(configuracion.semilla + u);
+            int total = pesoTotal;
+            usuarios.execute(() -> {
+                while (System.nanoTime() < fin) {
+                    int indice = elegir(pesosAcumulados, random.nextInt(total));
+                    long inicio = System.nanoTime();
+                    int estado;
+                    try {
+                        estado = operaciones.get(indice).ejecutar(cliente, datos, random).estado();
+                    } catch (RuntimeException e) {
+                        estado = -1;
+                    }
+                    estadisticas.get(indice).registrar(inicio, estado);
+                }
+            });
+        }
+        // Lo medido durante el calentamiento se descarta
+        TimeUnit.SECONDS.sleep(configuracion.calentamientoSegundos);
+        estadisticas.forEach(EstadisticasEndpoint::reiniciar);
+        long inicioMedicion = System.nanoTime();
+        usuarios.shutdown();
+        usuarios.awaitTermination(configuracion.duracionSegundos + 60L, TimeUnit.SECONDS);
+        double segundos = (System.nanoTime() - inicioMedicion) / 1e9;
+
+        reportar(configuracion, estadisticas, segundos);
+    }
+
+    private static int elegir(int[] pesosAcumulados, int valor) {
+        int indice = 0;
+        while (valor >= pesosAcumulados[indice]) {
+            indice++;
+        }
+        return indice;
+    }
+
+    private static void reportar(ConfiguracionCarga configuracion, List<EstadisticasEndpoint> estadisticas, double segundos) throws Exception {
+        Path directorio = Path.of(configuracion.salida);
+        Files.createDirectories(directorio);
+        StringBuilder reporte = new StringBuilder();
+        reporte.append(String.format("%d usuarios, %.1f s medidos (latencias en ms)%n", configuracion.usuarios, segundos));
+        reporte.append(String.format("%-22s %9s %10s %9s %9s %9s %9s %9s %9s%n", "operacion", "total", "req/s", "p50", "p95", "p99", "max", "errores", "4xx"));
+        long total = 0;
+        for (EstadisticasEndpoint estadistica : estadisticas) {
+            reporte.append(estadistica.resumen(segundos)).append(System.lineSeparator());
+            estadistica.escribirHistograma(directorio);
+            total += estadistica.total();
+        }
+        reporte.append(String.format("%-22s %9d %10.1f%n", "total", total, total / segundos));
+        System.out.print(reporte);
+        Files.writeString(directorio.resolve("resumen.txt"), reporte);
+        System.out.println("Histogramas HDR en " + directorio.toAbsolutePath());
+    }
+}
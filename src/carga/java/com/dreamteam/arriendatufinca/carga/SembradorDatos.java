@@ -0,0 +1,136 @@
+package com.dreamteam.arriendatufinca.carga;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.validation.SignUpRequest;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Departamento;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Municipio;
+
+// Crea los datos a través de la API, así los índices en memoria de la aplicación quedan consistentes
+final class SembradorDatos {
+    private static final String[] TIPOS_INGRESO = {"Carretera pavimentada", "Carretera destapada", "Camino peatonal"};
+
+    private final ClienteApi cliente;
+    private final Random random;
+
+    SembradorDatos(ClienteApi cliente, long semilla) {
+        this.cliente = cliente;
+        this.random = new Random(semilla);
+    }
+
+    DatosCarga sembrar(ConfiguracionCarga configuracion) throws IOException {
+        DatosCarga datos = new DatosCarga();
+        List<String[]> ubicaciones = leerUbicaciones();
+
+        int cantidadArrendadores = Math.max(1, configuracion.propiedades / 5);
+        for (int i = 0; i < cantidadArrendadores; i++) {
+            datos.arrendadores.add(registrar("api/arrendador", "arrendador", i));
+        }
+        for (int i = 0; i < configuracion.arrendatarios; i++) {
+            datos.arrendatarios.add(registrar("api/arrendatario", "arrendatario", i));
+        }
+        LinkedHashSet<String> departamentos = new LinkedHashSet<>();
+        for (int i = 0; i < configuracion.propiedades; i++) {
+            String[] ubicacion = ubicaciones.get(random.nextInt(ubicaciones.size()));
+            SimplePropiedadDTO propiedad = cliente.leer(cliente.post("api/propiedad", propiedad(i, ubicacion, datos)), SimplePropiedadDTO.class);
+            datos.propiedades.add(propiedad);
+            departamentos.add(ubicacion[0]);
+        }
+        datos.departamentos.addAll(departamentos);
+        datos.prepararFranjas();
+        // La respuesta de la solicitud no trae el arrendador de la propiedad; se toma de lo sembrado
+        Map<Integer, Integer> arrendadorPorPropiedad = new HashMap<>();
+        for (SimplePropiedadDTO propiedad : datos.propiedades) {
+            arrendadorPorPropiedad.put(propiedad.getIdPropiedad(), propiedad.getArrendador().getIdCuenta());
+        }
+
+        // Dos solicitudes por propiedad; la mitad se cierra con sus tres calificaciones
+        for (int i = 0; i < configuracion.propiedades * 2; i++) {
+            SimpleSolicitudDTO solicitud = cliente.leer(cliente.post("api/solicitud", datos.nuevaSolicitud(random)), SimpleSolicitudDTO.class);
+            datos.solicitudes.add(solicitud.getIdSolicitud());
+            if (i % 2 == 0) {
+                calificar(solicitud, arrendadorPorPropiedad);
+            }
+        }
+        return datos;
+    }
+
+    private CuentaDTO registrar(String ruta, String rol, int indice) {
+        SignUpRequest registro = new SignUpRequest();
+        registro.setCuenta(new CuentaDTO(null, rol + "-" + indice, rol + "-" + indice + "@carga.test"));
+        registro.setContrasena(DatosCarga.CONTRASENA);
+        return cliente.leer(cliente.post(ruta, registro), CuentaDTO.class);
+    }
+
+    private SimplePropiedadDTO propiedad(int indice, String[] ubicacion, DatosCarga datos) {
+        SimplePropiedadDTO propiedad = new SimplePropiedadDTO();
+        propiedad.setNombrePropiedad("Finca " + indice);
+        propiedad.setDescripcionPropiedad("Finca de prueba de carga número " + indice + " en " + ubicacion[1]);
+        propiedad.setDepartamento(ubicacion[0]);
+        propiedad.setMunicipio(ubicacion[1]);
+        propiedad.setTipoIngreso(TIPOS_INGRESO[random.nextInt(TIPOS_INGRESO.length)]);
+        propiedad.setCantidadHabitaciones(2 + random.nextInt(9));
+        propiedad.setCantidadBanos(1 + random.nextInt(4));
+        propiedad.setPermiteMascotas(random.nextBoolean());
+        propiedad.setTienePiscina(random.nextBoolean());
+        propiedad.setTieneAsador(random.nextBoolean());
+        propiedad.setValorNoche(100000f + 10000f * random.nextInt(50));
+        CuentaDTO arrendador = new CuentaDTO();
+        arrendador.setIdCuenta(datos.arrendadores.get(indice % datos.arrendadores.size()).getIdCuenta());
+        propiedad.setArrendador(arrendador);
+        return propiedad;
+    }
+
+    private void calificar(SimpleSolicitudDTO solicitud, Map<Integer, Integer> arrendadorPorPropiedad) {
+        Integer id = solicitud.getIdSolicitud();
+        cliente.leer(cliente.put("api/solicitud/aprobar/" + id), SimpleSolicitudDTO.class);
+        cliente.leer(cliente.put("api/solicitud/pagar/" + id), SimpleSolicitudDTO.class);
+        Integer idArrendatario = solicitud.getArrendatario().getIdCuenta();
+        Integer idPropiedad = solicitud.getPropiedad().getIdPropiedad();
+        Integer idArrendador = arrendadorPorPropiedad.get(idPropiedad);
+        cliente.leer(cliente.post("api/calificacion", calificacion(TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, idArrendador, idArrendatario, idPropiedad, id)), CalificacionDTO.class);
+        cliente.leer(cliente.post("api/calificacion", calificacion(TipoCalificacion.ARRENDATARIO_A_ARRENDADOR, idArrendatario, idArrendador, idPropiedad, id)), CalificacionDTO.class);
+        cliente.leer(cliente.post("api/calificacion", calificacion(TipoCalificacion.ARRENDATARIO_A_PROPIEDAD, idArrendatario, idArrendador, idPropiedad, id)), CalificacionDTO.class);
+    }
+
+    private CalificacionDTO calificacion(TipoCalificacion tipo, Integer idCalificador, Integer idCalificado, Integer idPropiedad, Integer idSolicitud) {
+        CalificacionDTO calificacion = new CalificacionDTO();
+        calificacion.setTipoCalificacion(tipo.getValue());
+        calificacion.setPuntaje(1 + random.nextInt(5));
+        calificacion.setComentario("Comentario de prueba de carga");
+        calificacion.setCalificador(new CuentaDTO(idCalificador, null, null));
+        calificacion.setCalificado(new CuentaDTO(idCalificado, null, null));
+        BasePropiedadDTO propiedad = new BasePropiedadDTO();
+        propiedad.setIdPropiedad(idPropiedad);
+        calificacion.setPropiedad(propiedad);
+        BaseSolicitudDTO solicitud = new BaseSolicitudDTO();
+        solicitud.setIdSolicitud(idSolicitud);
+        calificacion.setSolicitud(solicitud);
+        return calificacion;
+    }
+
+    // Pares (departamento, municipio) válidos del mismo catálogo que usa la aplicación
+    static List<String[]> leerUbicaciones() {
+        List<String[]> ubicaciones = new ArrayList<>();
+        for (Departamento departamento : new CatalogoGeografico().getDepartamentos()) {
+            for (Municipio municipio : departamento.getMunicipios()) {
+                ubicaciones.add(new String[] {departamento.getNombre(), municipio.getNombre()});
+            }
+        }
+        return ubicaciones;
+    }
+}
@@ -0,0 +1,80 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.services.IndiceTextoPropiedad;
+
+// Latencia de IndiceTextoPropiedad.buscar sobre 100 mil propiedades sintéticas. SampleTime reporta los percentiles
+// (p0.50, p0.99, p0.999); el criterio es p0.99 por debajo de 10 ms para cada tipo de consulta.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusquedaTextoBenchmark {
+    private static final int PROPIEDADES = 100_000;
+    private static final int LIMITE = 20;
+    private static final String[] PALABRAS = {
+        "finca", "casa", "cabana", "piscina", "asador", "jacuzzi", "vista", "montana", "rio", "lago",
+        "campestre", "familiar", "amplia", "tranquila", "bosque", "cafetal", "chimenea", "kiosko", "cancha", "hamacas",
+        "terraza", "jardin", "mirador", "quebrada", "sendero", "caballos", "huerta", "wifi", "parqueadero", "fogata"
+    };
+    private static final String[][] UBICACIONES = {
+        {"Girardot", "Cundinamarca"}, {"Anapoima", "Cundinamarca"}, {"Melgar", "Tolima"}, {"Guatapé", "Antioquia"},
+        {"Villeta", "Cundinamarca"}, {"Salento", "Quindío"}, {"Villa de Leyva", "Boyacá"}, {"San Gil", "Santander"}
+    };
+
+    // Un término muy frecuente, uno poco frecuente, varios términos y uno que no existe
+    @Param({"finca", "fogata", "casa piscina girardot", "inexistente"})
+    private String consulta;
+
+    private IndiceTextoPropiedad indice;
+
+    @Setup
+    public void setUp() {
+        indice = new IndiceTextoPropiedad();
+        Random random = new Random(42);
+        for (int id = 1; id <= PROPIEDADES; id++) {
+            String[] ubicacion = UBICACIONES[random.nextInt(UBICACIONES.length)];
+            Propiedad propiedad = new Propiedad();
+            propiedad.setIdPropiedad(id);
+            propiedad.setEstado(Estado.ACTIVE);
+            propiedad.setNombrePropiedad(texto(random, 3));
+            propiedad.setDescripcionPropiedad(texto(random, 15));
+            propiedad.setMunicipio(ubicacion[0]);
+            propiedad.setDepartamento(ubicacion[1]);
+            indice.indexar(propiedad);
+        }
+    }
+
+    // Sesgada hacia las primeras palabras, como en un vocabulario real
+    private static String texto(Random random, int palabras) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < palabras; i++) {
+            int indice = (int) (PALABRAS.length * Math.pow(random.nextDouble(), 2));
+            texto.append(PALABRAS[indice]).append(' ');
+        }
+        return texto.toString();
+    }
+
+    @Benchmark
+    public Object buscar() {
+        return indice.buscar(consulta, LIMITE);
+    }
+}
@@ -0,0 +1,124 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.dreamteam.arriendatufinca.repository.CalificacionRepository;
+import com.dreamteam.arriendatufinca.repository.CuentaRepository;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.ResumenReputacionRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+import com.dreamteam.arriendatufinca.services.CalificacionService;
+import com.dreamteam.arriendatufinca.services.CatalogoEstadosSolicitud;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico;
+import com.dreamteam.arriendatufinca.services.EstadisticasRegion;
+import com.dreamteam.arriendatufinca.services.RankingPropiedades;
+
+// Validación y registro de una calificación en CalificacionService con repositorios en memoria
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalificacionServiceBenchmark {
+    private CalificacionService calificacionService;
+    private CatalogoEstadosSolicitud catalogo;
+    private Solicitud solicitud;
+    private CalificacionDTO calificacionValida;
+    private CalificacionDTO calificacionPuntajeInvalido;
+
+    @Setup
+    public void setUp() {
+        catalogo = new CatalogoEstadosSolicitud(RepositorioEnMemoria.de(EstadoSolicitudRepository.class).crear());
+
+        Arrendador arrendador = new Arrendador("arrendador", "contrasena", "arrendador@example.com");
+        arrendador.setIdCuenta(1);
+        Arrendatario arrendatario = new Arrendatario("arrendatario", "contrasena", "arrendatario@example.com");
+        arrendatario.setIdCuenta(2);
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(3);
+        propiedad.setArrendador(arrendador);
+        solicitud = new Solicitud();
+        solicitud.setIdSolicitud(4);
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setFechaInicio(LocalDateTime.of(2024, 1, 10, 15, 0));
+        solicitud.setFechaFinal(LocalDateTime.of(2024, 1, 12, 11, 0));
+
+        calificacionService = new CalificacionService(
+                RepositorioEnMemoria.de(CalificacionRepository.class).responder("save", argumentos -> argumentos[0]).crear(),
+                RepositorioEnMemoria.de(CuentaRepository.class).crear(),
+                RepositorioEnMemoria.de(SolicitudRepository.class).responder("findByIdConParticipantes", argumentos -> Optional.of(solicitud)).crear(),
+                RepositorioEnMemoria.de(PropiedadRepository.class).responder("registrarPuntaje", argumentos -> 1).crear(),
+                RepositorioEnMemoria.de(ResumenReputacionRepository.class).responder("registrarCalificacion", argumentos -> 1).crear(),
+                new ModelMapperConfiguration().modelMapper(), catalogo,
+                new EstadisticasRegion(new CatalogoGeografico()),
+                new RankingPropiedades(3.5, 5));
+
+        calificacionValida = calificacion(4);
+        calificacionPuntajeInvalido = calificacion(7);
+    }
+
+    @Benchmark
+    public Object calificacionValida() {
+        reiniciarSolicitud();
+        return calificacionService.saveNewCalificacion(calificacionValida);
+    }
+
+    @Benchmark
+    public Object calificacionInvalida() {
+        reiniciarSolicitud();
+        try {
+            return calificacionService.saveNewCalificacion(calificacionPuntajeInvalido);
+        } catch (ResponseStatusException e) {
+            return e;
+        }
+    }
+
+    private void reiniciarSolicitud() {
+        solicitud.setEstadoSolicitud(catalogo.referencia(SolicitudStatus.POR_CALIFICAR));
+        solicitud.setArrendatarioCalificado(false);
+    }
+
+    private static CalificacionDTO calificacion(int puntaje) {
+        CalificacionDTO calificacionDTO = new CalificacionDTO();
+        calificacionDTO.setTipoCalificacion(TipoCalificacion.ARRENDADOR_A_ARRENDATARIO.getValue());
+        calificacionDTO.setPuntaje(puntaje);
+        calificacionDTO.setComentario("Muy bien");
+        calificacionDTO.setCalificador(new CuentaDTO(1, "arrendador", "arrendador@example.com"));
+        calificacionDTO.setCalificado(new CuentaDTO(2, "arrendatario", "arrendatario@example.com"));
+        BasePropiedadDTO propiedadDTO = new BasePropiedadDTO();
+        propiedadDTO.setIdPropiedad(3);
+        calificacionDTO.setPropiedad(propiedadDTO);
+        BaseSolicitudDTO solicitudDTO = new BaseSolicitudDTO();
+        solicitudDTO.setIdSolicitud(4);
+        calificacionDTO.setSolicitud(solicitudDTO);
+        return calificacionDTO;
+    }
+}
@@ -0,0 +1,145 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dreamteam.arriendatufinca.entities.GeneradorIds;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.TableGenerator;
+
+// Inserción masiva de solicitudes con ids IDENTITY (sin lotes JDBC) frente a ids de tabla pooled-lo (en lotes).
+// H2 en memoria no tiene viaje de red, así que la diferencia contra MySQL real es mayor que la medida aquí.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class InsercionMasivaBenchmark {
+    private static final int FILAS = 10_000;
+    private static final int LOTE = 50;
+
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(SolicitudIdentity.class)
+                .addAnnotatedClass(SolicitudTabla.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:insercion;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_USER, "sa")
+                .setProperty(AvailableSettings.JAKARTA_JDBC_PASSWORD, "")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.STATEMENT_BATCH_SIZE, String.valueOf(LOTE))
+                .setProperty(AvailableSettings.ORDER_INSERTS, "true")
+                .setProperty(AvailableSettings.PREFERRED_POOLED_OPTIMIZER, "pooled-lo")
+                .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public void identity() {
+        insertar(SolicitudIdentity::new);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(FILAS)
+    public void tablaPooledLo() {
+        insertar(SolicitudTabla::new);
+    }
+
+    // Mismo patrón que una importación: flush y clear por cada lote para no crecer el contexto de persistencia
+    private void insertar(IntFunction<SolicitudBase> nueva) {
+        try (Session session = sessionFactory.openSession()) {
+            session.beginTransaction();
+            for (int i = 0; i < FILAS; i++) {
+                session.persist(nueva.apply(i));
+                if ((i + 1) % LOTE == 0) {
+                    session.flush();
+                    session.clear();
+                }
+            }
+            session.getTransaction().commit();
+        }
+    }
+
+    @MappedSuperclass
+    public abstract static class SolicitudBase {
+        private Integer idPropiedad;
+        private Integer idArrendatario;
+        private LocalDate fechaInicio;
+        private LocalDate fechaFinal;
+        private Integer cantidadPersonas;
+        private Integer estado;
+
+        protected SolicitudBase() {
+        }
+
+        protected SolicitudBase(int i) {
+            idPropiedad = i % 100;
+            idArrendatario = i % 37;
+            fechaInicio = LocalDate.of(2026, 1, 1).plusDays(i % 300);
+            fechaFinal = fechaInicio.plusDays(3);
+            cantidadPersonas = 1 + i % 8;
+            estado = 1;
+        }
+    }
+
+    @Entity(name = "SolicitudIdentity")
+    public static class SolicitudIdentity extends SolicitudBase {
+        @Id
+        @GeneratedValue(strategy = GenerationType.IDENTITY)
+        private Integer idSolicitud;
+
+        public SolicitudIdentity() {
+        }
+
+        public SolicitudIdentity(int i) {
+            super(i);
+        }
+    }
+
+    @Entity(name = "SolicitudTabla")
+    public static class SolicitudTabla extends SolicitudBase {
+        @Id
+        @GeneratedValue(strategy = GenerationType.TABLE, generator = "solicitud_id")
+        @TableGenerator(name = "solicitud_id", table = GeneradorIds.TABLA, pkColumnName = GeneradorIds.COLUMNA_ENTIDAD,
+                        valueColumnName = GeneradorIds.COLUMNA_SIGUIENTE, pkColumnValue = "solicitud", allocationSize = GeneradorIds.BLOQUE)
+        private Integer idSolicitud;
+
+        public SolicitudTabla() {
+        }
+
+        public SolicitudTabla(int i) {
+            super(i);
+        }
+    }
+}
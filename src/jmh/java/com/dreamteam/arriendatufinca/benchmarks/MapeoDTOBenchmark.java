@@ -0,0 +1,129 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.modelmapper.ModelMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Calificacion;
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.dreamteam.arriendatufinca.mappers.CalificacionMapper;
+import com.dreamteam.arriendatufinca.mappers.CuentaMapper;
+import com.dreamteam.arriendatufinca.mappers.PropiedadMapper;
+import com.dreamteam.arriendatufinca.mappers.SolicitudMapper;
+
+// Compara ModelMapper (STRICT) con los mappers escritos a mano, un objeto por operación.
+// La asignación de memoria por objeto se obtiene con el perfilador de GC: -Djmh.args="MapeoDTOBenchmark -prof gc"
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapeoDTOBenchmark {
+    private ModelMapper modelMapper;
+    private Arrendador arrendador;
+    private Propiedad propiedad;
+    private Solicitud solicitud;
+    private Calificacion calificacion;
+
+    @Setup
+    public void setUp() {
+        modelMapper = new ModelMapperConfiguration().modelMapper();
+
+        arrendador = new Arrendador("arrendador", "contrasena", "arrendador@example.com");
+        arrendador.setIdCuenta(1);
+        Arrendatario arrendatario = new Arrendatario("arrendatario", "contrasena", "arrendatario@example.com");
+        arrendatario.setIdCuenta(2);
+
+        propiedad = new Propiedad();
+        propiedad.setIdPropiedad(3);
+        propiedad.setArrendador(arrendador);
+        propiedad.setNombrePropiedad("Finca");
+        propiedad.setDescripcionPropiedad("Finca con vista");
+        propiedad.setMunicipio("Anapoima");
+        propiedad.setDepartamento("Cundinamarca");
+        propiedad.setCantidadHabitaciones(3);
+        propiedad.setCantidadBanos(2);
+        propiedad.setValorNoche(250000f);
+        propiedad.setEstado(Estado.ACTIVE);
+        propiedad.setSumaPuntajes(9L);
+        propiedad.setCantidadCalificaciones(2);
+
+        solicitud = new Solicitud();
+        solicitud.setIdSolicitud(4);
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setEstadoSolicitud(new EstadoSolicitud(1, "Pendiente"));
+        solicitud.setFechaInicio(LocalDateTime.of(2024, 1, 10, 15, 0));
+        solicitud.setFechaFinal(LocalDateTime.of(2024, 1, 12, 11, 0));
+        solicitud.setCantidadPersonas(4);
+        propiedad.setSolicitudes(new ArrayList<>(List.of(solicitud)));
+
+        calificacion = new Calificacion(5, arrendatario, arrendador, propiedad, solicitud, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO,
+                                        "Muy bien", 4, LocalDateTime.of(2024, 1, 13, 8, 0));
+    }
+
+    @Benchmark
+    public CuentaDTO cuentaModelMapper() {
+        return modelMapper.map(arrendador, CuentaDTO.class);
+    }
+
+    @Benchmark
+    public CuentaDTO cuentaMapper() {
+        return CuentaMapper.crearCuentaDTO(arrendador);
+    }
+
+    @Benchmark
+    public PropiedadDTO propiedadModelMapper() {
+        return modelMapper.map(propiedad, PropiedadDTO.class);
+    }
+
+    @Benchmark
+    public PropiedadDTO propiedadMapper() {
+        return PropiedadMapper.crearPropiedadDTO(propiedad);
+    }
+
+    @Benchmark
+    public SimpleSolicitudDTO solicitudModelMapper() {
+        return modelMapper.map(solicitud, SimpleSolicitudDTO.class);
+    }
+
+    @Benchmark
+    public SimpleSolicitudDTO solicitudMapper() {
+        return SolicitudMapper.crearSimpleSolicitudDTO(solicitud);
+    }
+
+    @Benchmark
+    public CalificacionDTO calificacionModelMapper() {
+        return modelMapper.map(calificacion, CalificacionDTO.class);
+    }
+
+    @Benchmark
+    public CalificacionDTO calificacionMapper() {
+        return CalificacionMapper.crearCalificacionDTO(calificacion);
+    }
+}
@@ -0,0 +1,96 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+import com.dreamteam.arriendatufinca.services.BloqueoPropiedades;
+import com.dreamteam.arriendatufinca.services.CatalogoEstadosSolicitud;
+import com.dreamteam.arriendatufinca.services.IndiceDisponibilidad;
+import com.dreamteam.arriendatufinca.services.SolicitudService;
+
+// Reservas concurrentes con el candado por propiedad: todas sobre una propiedad frente a repartidas en varias.
+// La verificación de traslape y la inserción simulan trabajo de base de datos dentro del candado.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ReservaConcurrenteBenchmark {
+    private static final LocalDateTime BASE = LocalDateTime.of(2035, 1, 1, 15, 0);
+    private static final long TRABAJO_SENTENCIA = 2_000;
+
+    @Param({"1", "64"})
+    private int cantidadPropiedades;
+
+    private SolicitudService solicitudService;
+
+    // Por iteración, para que el índice de disponibilidad no crezca durante toda la medición
+    @Setup(Level.Iteration)
+    public void setUp() {
+        AtomicInteger secuencia = new AtomicInteger();
+        SolicitudRepository solicitudRepository = RepositorioEnMemoria.de(SolicitudRepository.class)
+                .responder("existeTraslape", argumentos -> {
+                    Blackhole.consumeCPU(TRABAJO_SENTENCIA);
+                    return false;
+                })
+                .responder("save", argumentos -> {
+                    Blackhole.consumeCPU(TRABAJO_SENTENCIA);
+                    Solicitud solicitud = (Solicitud) argumentos[0];
+                    solicitud.setIdSolicitud(secuencia.incrementAndGet());
+                    return solicitud;
+                })
+                .crear();
+        PropiedadRepository propiedadRepository = RepositorioEnMemoria.de(PropiedadRepository.class)
+                .responder("findById", argumentos -> {
+                    Propiedad propiedad = new Propiedad();
+                    propiedad.setIdPropiedad((Integer) argumentos[0]);
+                    propiedad.setCantidadHabitaciones(10);
+                    return Optional.of(propiedad);
+                })
+                .crear();
+        CatalogoEstadosSolicitud catalogoEstados = new CatalogoEstadosSolicitud(RepositorioEnMemoria.de(EstadoSolicitudRepository.class).crear());
+        solicitudService = new SolicitudService(solicitudRepository, propiedadRepository, new ModelMapperConfiguration().modelMapper(),
+                                                catalogoEstados, new IndiceDisponibilidad(catalogoEstados), new BloqueoPropiedades());
+    }
+
+    @Benchmark
+    public Object reservar() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        SimplePropiedadDTO propiedadDTO = new SimplePropiedadDTO();
+        propiedadDTO.setIdPropiedad(1 + random.nextInt(cantidadPropiedades));
+        SimpleSolicitudDTO solicitudDTO = new SimpleSolicitudDTO();
+        solicitudDTO.setPropiedad(propiedadDTO);
+        solicitudDTO.setFechaInicio(BASE.plusDays(random.nextInt(3_000)));
+        solicitudDTO.setFechaFinal(solicitudDTO.getFechaInicio().plusDays(3));
+        solicitudDTO.setCantidadPersonas(2);
+        return solicitudService.saveSolicitud(solicitudDTO);
+    }
+}
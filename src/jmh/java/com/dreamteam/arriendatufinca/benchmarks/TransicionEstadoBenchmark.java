@@ -0,0 +1,83 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+import com.dreamteam.arriendatufinca.services.CatalogoEstadosSolicitud;
+
+// Compara la validación de transiciones por nombres (cadena de String.equals) con la tabla EnumMap/EnumSet
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransicionEstadoBenchmark {
+    private CatalogoEstadosSolicitud catalogo;
+    private EstadoSolicitud[] actuales;
+    private SolicitudStatus[] nuevos;
+
+    @Setup
+    public void setUp() {
+        catalogo = new CatalogoEstadosSolicitud(mock(EstadoSolicitudRepository.class));
+        SolicitudStatus[] estados = SolicitudStatus.values();
+        actuales = new EstadoSolicitud[estados.length * estados.length];
+        nuevos = new SolicitudStatus[estados.length * estados.length];
+        int i = 0;
+        for (SolicitudStatus actual : estados) {
+            for (SolicitudStatus nuevo : estados) {
+                // Copias nuevas de los nombres, como llegan desde la base de datos
+                actuales[i] = new EstadoSolicitud(actual.getId(), new String(actual.getNombre()));
+                nuevos[i] = nuevo;
+                i++;
+            }
+        }
+    }
+
+    @Benchmark
+    public void porNombres(Blackhole blackhole) {
+        for (int i = 0; i < actuales.length; i++) {
+            blackhole.consume(transicionPorNombres(actuales[i].getNombreEstadoSolicitud(), nuevos[i].getNombre()));
+        }
+    }
+
+    @Benchmark
+    public void porTabla(Blackhole blackhole) {
+        for (int i = 0; i < actuales.length; i++) {
+            SolicitudStatus actual = catalogo.estadoDe(actuales[i]);
+            blackhole.consume(actual != null && actual.puedeCambiarA(nuevos[i]));
+        }
+    }
+
+    // Validación anterior de SolicitudService.actualizarEstado
+    private static boolean transicionPorNombres(String viejoEstado, String nuevoEstado) {
+        if (viejoEstado.equals(SolicitudStatus.PENDIENTE.getNombre()) && nuevoEstado.equals(SolicitudStatus.POR_PAGAR.getNombre())) {
+            return true;
+        }
+        else if (viejoEstado.equals(SolicitudStatus.PENDIENTE.getNombre()) && nuevoEstado.equals(SolicitudStatus.RECHAZADA.getNombre())) {
+            return true;
+        }
+        else if (viejoEstado.equals(SolicitudStatus.POR_PAGAR.getNombre()) && nuevoEstado.equals(SolicitudStatus.POR_CALIFICAR.getNombre())) {
+            return true;
+        }
+        else {
+            return viejoEstado.equals(SolicitudStatus.POR_CALIFICAR.getNombre()) && nuevoEstado.equals(SolicitudStatus.CERRADA.getNombre());
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+import com.dreamteam.arriendatufinca.services.BloqueoPropiedades;
+import com.dreamteam.arriendatufinca.services.CatalogoEstadosSolicitud;
+import com.dreamteam.arriendatufinca.services.IndiceDisponibilidad;
+import com.dreamteam.arriendatufinca.services.SolicitudService;
+
+// Costo de SolicitudService.actualizarEstadoSolicitud sin base de datos: validación, índice de disponibilidad y mapeo
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransicionSolicitudServiceBenchmark {
+    private SolicitudService solicitudService;
+    private CatalogoEstadosSolicitud catalogo;
+    private Solicitud solicitud;
+
+    @Setup
+    public void setUp() {
+        catalogo = new CatalogoEstadosSolicitud(RepositorioEnMemoria.de(EstadoSolicitudRepository.class).crear());
+
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(1);
+        propiedad.setCantidadHabitaciones(4);
+        solicitud = new Solicitud();
+        solicitud.setIdSolicitud(1);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setFechaInicio(LocalDateTime.of(2030, 1, 10, 15, 0));
+        solicitud.setFechaFinal(LocalDateTime.of(2030, 1, 12, 11, 0));
+        solicitud.setCantidadPersonas(2);
+
+        // Replica el UPDATE condicional: solo cambia el estado si el actual está entre los permitidos
+        SolicitudRepository solicitudRepository = RepositorioEnMemoria.de(SolicitudRepository.class)
+                .responder("findByIdConDetalle", argumentos -> Optional.of(solicitud))
+                .responder("actualizarEstado", argumentos -> {
+                    Collection<?> actuales = (Collection<?>) argumentos[1];
+                    boolean permitido = actuales.stream()
+                            .anyMatch(estado -> ((EstadoSolicitud) estado).getIdEstadoSolicitud().equals(solicitud.getEstadoSolicitud().getIdEstadoSolicitud()));
+                    if (!permitido) {
+                        return 0;
+                    }
+                    solicitud.setEstadoSolicitud((EstadoSolicitud) argumentos[2]);
+                    return 1;
+                })
+                .crear();
+        solicitudService = new SolicitudService(solicitudRepository, RepositorioEnMemoria.de(PropiedadRepository.class).crear(),
+                                                new ModelMapperConfiguration().modelMapper(), catalogo,
+                                                new IndiceDisponibilidad(catalogo), new BloqueoPropiedades());
+    }
+
+    @Benchmark
+    public Object transicionValida() {
+        solicitud.setEstadoSolicitud(catalogo.referencia(SolicitudStatus.PENDIENTE));
+        return solicitudService.actualizarEstadoSolicitud(SolicitudStatus.POR_PAGAR, 1);
+    }
+
+    @Benchmark
+    public Object transicionInvalida() {
+        solicitud.setEstadoSolicitud(catalogo.referencia(SolicitudStatus.PENDIENTE));
+        try {
+            return solicitudService.actualizarEstadoSolicitud(SolicitudStatus.CERRADA, 1);
+        } catch (ResponseStatusException e) {
+            return e;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.dreamteam.arriendatufinca.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico;
+import com.dreamteam.arriendatufinca.services.SugerenciasUbicacion;
+
+// Carga del catálogo geográfico (binario generado en el build), validación, autocompletado y sugerencias
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UbicacionPropiedadBenchmark {
+    // Pares válidos al inicio, al final y en medio del archivo, y pares inválidos
+    private static final String[][] UBICACIONES = {
+        {"Medellín", "Antioquia"},
+        {"Anapoima", "Cundinamarca"},
+        {"Leticia", "Amazonas"},
+        {"Medellín", "Cundinamarca"},
+        {"Atlantis", "Antioquia"},
+        {"Medellín", "Departamento inexistente"}
+    };
+
+    private CatalogoGeografico catalogo;
+    private SugerenciasUbicacion sugerencias;
+
+    @Setup
+    public void setUp() {
+        catalogo = new CatalogoGeografico();
+        catalogo.getDepartamentos();
+        sugerencias = new SugerenciasUbicacion(catalogo);
+        sugerencias.autocompletarDepartamento("", 1);
+    }
+
+    // El índice se construye en el primer uso de cada instancia
+    @Benchmark
+    public CatalogoGeografico carga() {
+        CatalogoGeografico nuevo = new CatalogoGeografico();
+        nuevo.getDepartamentos();
+        return nuevo;
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void validacion(Blackhole blackhole) {
+        for (String[] ubicacion : UBICACIONES) {
+            blackhole.consume(catalogo.esValido(ubicacion[0], ubicacion[1]));
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public Object autocompletado() {
+        return sugerencias.autocompletarMunicipio("san", "antioquia", 10);
+    }
+
+    @Benchmark
+    public Object quisoDecir() {
+        return sugerencias.sugerirMunicipio("Medelin", "Antiokia", SugerenciasUbicacion.CANTIDAD_QUISO_DECIR);
+    }
+}
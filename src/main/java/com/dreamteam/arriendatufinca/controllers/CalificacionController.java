@@ -8,10 +8,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.dreamteam.arriendatufinca.dtos.calificacion.BaseCalificacionDTO;
 import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.PaginaResenasDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.ResumenReputacionDTO;
 import com.dreamteam.arriendatufinca.services.CalificacionService;
 
 @RestController
@@ -28,6 +31,12 @@ public class CalificacionController {
         return calificacionService.getCalificaciones();
     }
 
+    @GetMapping("/pagina")
+    public PaginaResenasDTO getPaginaCalificaciones(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer tamano) {
+        return calificacionService.getPaginaResenas(cursor, tamano);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<CalificacionDTO> getCalificacionId(@PathVariable Integer id) {
         return calificacionService.getCalificacionId(id);
@@ -38,6 +47,17 @@ public class CalificacionController {
         return calificacionService.getCalificacionesCuenta(id);
     }
 
+    @GetMapping("/calificado/{id}/pagina")
+    public PaginaResenasDTO getPaginaCalificado(@PathVariable Integer id, @RequestParam(required = false) String cursor,
+                                                @RequestParam(required = false) Integer tamano) {
+        return calificacionService.getPaginaResenasCuenta(id, cursor, tamano);
+    }
+
+    @GetMapping("/calificado/{id}/resumen")
+    public ResponseEntity<ResumenReputacionDTO> getResumenCalificado(@PathVariable Integer id) {
+        return calificacionService.getResumenCuenta(id);
+    }
+
     @PostMapping
     public ResponseEntity<CalificacionDTO> createCalificacion(@RequestBody CalificacionDTO calificacionDTO) {
         return calificacionService.saveNewCalificacion(calificacionDTO);
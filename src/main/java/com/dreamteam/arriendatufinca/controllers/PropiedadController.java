@@ -1,21 +1,33 @@
 package com.dreamteam.arriendatufinca.controllers;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
+import com.dreamteam.arriendatufinca.dtos.PaginaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.FiltroPropiedadDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ResultadoBusquedaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ResultadoImportacionDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.ubicacion.EstadisticasRegionDTO;
 import com.dreamteam.arriendatufinca.services.PropiedadService;
 
 @RestController
@@ -33,6 +45,61 @@ public class PropiedadController {
         return propiedadService.getPropiedades();
     }
 
+    @CrossOrigin
+    @GetMapping(value = "/pagina", produces = MediaType.APPLICATION_JSON_VALUE)
+    public PaginaDTO<PropiedadDTO> getPaginaPropiedades(@RequestParam(required = false) String cursor,
+                                                        @RequestParam(required = false) Integer tamano,
+                                                        @RequestParam(defaultValue = "false") boolean total) {
+        return propiedadService.getPaginaPropiedades(cursor, tamano, total);
+    }
+
+    @CrossOrigin
+    @GetMapping(value = "/buscar", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResultadoBusquedaDTO buscarPropiedades(@ModelAttribute FiltroPropiedadDTO filtro,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer tamano) {
+        return propiedadService.buscarPropiedades(filtro, cursor, tamano);
+    }
+
+    @CrossOrigin
+    @GetMapping(value = "/disponibles", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResultadoBusquedaDTO buscarDisponibles(@RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaInicio,
+                                                  @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fechaFinal,
+                                                  @ModelAttribute FiltroPropiedadDTO filtro,
+                                                  @RequestParam(required = false) String cursor,
+                                                  @RequestParam(required = false) Integer tamano) {
+        return propiedadService.buscarDisponibles(fechaInicio, fechaFinal, filtro, cursor, tamano);
+    }
+
+    // Región sin tildes y con o sin el prefijo "Región": "caribe", "Eje Cafetero"
+    @CrossOrigin
+    @GetMapping(value = "/region", produces = MediaType.APPLICATION_JSON_VALUE)
+    public PaginaDTO<SimplePropiedadDTO> buscarPorRegion(@RequestParam String region,
+                                                         @RequestParam(required = false) String cursor,
+                                                         @RequestParam(required = false) Integer tamano) {
+        return propiedadService.buscarPorRegion(region, cursor, tamano);
+    }
+
+    @CrossOrigin
+    @GetMapping(value = "/region/estadisticas", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<EstadisticasRegionDTO> getEstadisticasRegiones() {
+        return propiedadService.getEstadisticasRegiones();
+    }
+
+    // Mejor calificadas del departamento, con un puntaje que modera las que tienen pocas reseñas
+    @CrossOrigin
+    @GetMapping(value = "/ranking", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<SimplePropiedadDTO> getMejoresPropiedades(@RequestParam String departamento,
+                                                          @RequestParam(required = false) Integer limite) {
+        return propiedadService.getMejoresPropiedades(departamento, limite);
+    }
+
+    @CrossOrigin
+    @GetMapping(value = "/texto", produces = MediaType.APPLICATION_JSON_VALUE)
+    public List<SimplePropiedadDTO> buscarPorTexto(@RequestParam String consulta, @RequestParam(required = false) Integer tamano) {
+        return propiedadService.buscarPorTexto(consulta, tamano);
+    }
+
     @CrossOrigin
     @GetMapping(value = "/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<PropiedadDTO> getPropiedad(@PathVariable Integer id) {
@@ -45,6 +112,15 @@ public class PropiedadController {
         return propiedadService.saveNewPropiedad(propiedad);
     }
 
+    // CSV con cabecera y las columnas de BasePropiedadDTO; todas las propiedades quedan a nombre del arrendador
+    @CrossOrigin
+    @PostMapping(value = "/importar", consumes = MediaType.MULTIPART_FORM_DATA_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResultadoImportacionDTO importarPropiedades(@RequestParam Integer idArrendador, @RequestParam MultipartFile archivo) throws IOException {
+        try (InputStream entrada = archivo.getInputStream()) {
+            return propiedadService.importarPropiedades(idArrendador, entrada);
+        }
+    }
+
     @CrossOrigin
     @PutMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public ResponseEntity<SimplePropiedadDTO> updatePropiedad(@RequestBody SimplePropiedadDTO propiedad) {
@@ -1,6 +1,5 @@
 package com.dreamteam.arriendatufinca.controllers;
 
-import com.dreamteam.arriendatufinca.dtos.EstadoSolicitudDTO;
 import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
 import com.dreamteam.arriendatufinca.dtos.solicitud.SolicitudDTO;
 import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
@@ -36,18 +35,15 @@ public class SolicitudController {
 
     @PutMapping("/aprobar/{id}")
     public ResponseEntity<SimpleSolicitudDTO> aprobarSolicitud(@PathVariable Integer id){
-        EstadoSolicitudDTO estadoSolicitudDTO = crearEstadoSolicitudDTO(SolicitudStatus.POR_PAGAR);
-        return solicitudService.actualizarEstadoSolicitud(estadoSolicitudDTO, id);
+        return solicitudService.actualizarEstadoSolicitud(SolicitudStatus.POR_PAGAR, id);
     }
     @PutMapping("/rechazar/{id}")
     public ResponseEntity<SimpleSolicitudDTO> rechazarSolicitud(@PathVariable Integer id){
-        EstadoSolicitudDTO estadoSolicitudDTO = crearEstadoSolicitudDTO(SolicitudStatus.RECHAZADA);
-        return solicitudService.actualizarEstadoSolicitud(estadoSolicitudDTO, id);
+        return solicitudService.actualizarEstadoSolicitud(SolicitudStatus.RECHAZADA, id);
     }
     @PutMapping("/pagar/{id}")
     public ResponseEntity<SimpleSolicitudDTO> pagarSolicitud(@PathVariable Integer id){
-        EstadoSolicitudDTO estadoSolicitudDTO = crearEstadoSolicitudDTO(SolicitudStatus.POR_CALIFICAR);
-        return solicitudService.actualizarEstadoSolicitud(estadoSolicitudDTO, id);
+        return solicitudService.actualizarEstadoSolicitud(SolicitudStatus.POR_CALIFICAR, id);
     }
 
     @DeleteMapping("/{id}")
@@ -55,8 +51,4 @@ public class SolicitudController {
         solicitudService.deleteSolicitud(id);
         return ResponseEntity.noContent().build();
     }
-
-    private EstadoSolicitudDTO crearEstadoSolicitudDTO(SolicitudStatus solicitudStatus){
-        return new EstadoSolicitudDTO(solicitudStatus.getId(), solicitudStatus.getNombre());
-    }
 }
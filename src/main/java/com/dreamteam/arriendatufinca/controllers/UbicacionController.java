@@ -0,0 +1,57 @@
+package com.dreamteam.arriendatufinca.controllers;
+
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.dreamteam.arriendatufinca.dtos.ubicacion.DepartamentoDTO;
+import com.dreamteam.arriendatufinca.dtos.ubicacion.SugerenciaUbicacionDTO;
+import com.dreamteam.arriendatufinca.services.UbicacionService;
+
+@RestController
+@RequestMapping(value = "api/ubicacion")
+public class UbicacionController {
+    private final UbicacionService ubicacionService;
+
+    public UbicacionController(UbicacionService ubicacionService) {
+        this.ubicacionService = ubicacionService;
+    }
+
+    // Regiones, departamentos y municipios con sus códigos DANE
+    @CrossOrigin(exposedHeaders = HttpHeaders.ETAG)
+    @GetMapping("/catalogo")
+    public ResponseEntity<byte[]> getCatalogo(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return ubicacionService.getCatalogo(ifNoneMatch, acceptEncoding);
+    }
+
+    // Autocompletado sin tildes ni mayúsculas, opcionalmente dentro de un departamento
+    @CrossOrigin
+    @GetMapping("/municipios")
+    public List<SugerenciaUbicacionDTO> autocompletarMunicipios(@RequestParam(defaultValue = "") String prefijo,
+                                                                @RequestParam(required = false) String departamento,
+                                                                @RequestParam(required = false) Integer tamano) {
+        return ubicacionService.autocompletarMunicipios(prefijo, departamento, tamano);
+    }
+
+    @CrossOrigin
+    @GetMapping("/departamentos")
+    public List<DepartamentoDTO> autocompletarDepartamentos(@RequestParam(defaultValue = "") String prefijo,
+                                                            @RequestParam(required = false) Integer tamano) {
+        return ubicacionService.autocompletarDepartamentos(prefijo, tamano);
+    }
+
+    @CrossOrigin
+    @GetMapping("/sugerencias")
+    public List<SugerenciaUbicacionDTO> sugerirMunicipios(@RequestParam String municipio,
+                                                          @RequestParam(required = false) String departamento) {
+        return ubicacionService.sugerirMunicipios(municipio, departamento);
+    }
+}
@@ -0,0 +1,19 @@
+package com.dreamteam.arriendatufinca.dtos;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaginaDTO<T> {
+    private List<T> contenido;
+    private String siguienteCursor;
+    private Integer tamano;
+    private Long total;
+}
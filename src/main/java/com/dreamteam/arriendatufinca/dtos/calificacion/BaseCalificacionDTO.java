@@ -1,6 +1,9 @@
 package com.dreamteam.arriendatufinca.dtos.calificacion;
 
+import java.time.LocalDateTime;
+
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.fasterxml.jackson.annotation.JsonFormat;
 
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -18,4 +21,7 @@ public class BaseCalificacionDTO {
     private Integer puntaje;
     private String comentario;
     private String tipoCalificacion;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime fechaCalificacion;
 }
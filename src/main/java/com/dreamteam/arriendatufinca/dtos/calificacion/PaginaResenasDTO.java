@@ -0,0 +1,22 @@
+package com.dreamteam.arriendatufinca.dtos.calificacion;
+
+import java.util.List;
+
+import com.dreamteam.arriendatufinca.dtos.PaginaDTO;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class PaginaResenasDTO extends PaginaDTO<ResenaDTO> {
+    // Solo se incluye en la primera página
+    private ResumenReputacionDTO resumen;
+
+    public PaginaResenasDTO(List<ResenaDTO> contenido, String siguienteCursor, Integer tamano, ResumenReputacionDTO resumen) {
+        super(contenido, siguienteCursor, tamano, resumen == null ? null : resumen.getCantidadCalificaciones().longValue());
+        this.resumen = resumen;
+    }
+}
@@ -0,0 +1,33 @@
+package com.dreamteam.arriendatufinca.dtos.calificacion;
+
+import java.time.LocalDateTime;
+
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Vista compacta de una calificación para los listados paginados; se construye directamente en la consulta
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResenaDTO {
+    private Integer idCalificacion;
+    private String nombreCalificador;
+    private Integer puntaje;
+    private String comentario;
+    private String tipoCalificacion;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime fechaCalificacion;
+
+    public ResenaDTO(Integer idCalificacion, String nombreCalificador, Integer puntaje, String comentario, TipoCalificacion tipoCalificacion,
+                     LocalDateTime fechaCalificacion) {
+        this(idCalificacion, nombreCalificador, puntaje, comentario, tipoCalificacion == null ? null : tipoCalificacion.getValue(),
+             fechaCalificacion);
+    }
+}
@@ -0,0 +1,27 @@
+package com.dreamteam.arriendatufinca.dtos.calificacion;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumenReputacionDTO {
+    private Integer idCuenta;
+    private Integer cantidadCalificaciones;
+    private Long sumaPuntajes;
+    private Float puntajePromedio;
+    // La posición i es la cantidad de calificaciones con puntaje i (0 a 5)
+    private List<Integer> histograma;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime ultimaCalificacion;
+}
@@ -25,14 +25,4 @@ public class BasePropiedadDTO {
     private String estado;
     private Float puntajePromedio;
     private Integer cantidadCalificaciones;
-
-    public void actualizarPuntaje(Integer puntaje) {
-        if (puntajePromedio == null) {
-            puntajePromedio = puntaje.floatValue();
-            cantidadCalificaciones = 1;
-        } else {
-            puntajePromedio = (puntajePromedio * cantidadCalificaciones + puntaje) / (cantidadCalificaciones + 1);
-            cantidadCalificaciones++;
-        }
-    }
 }
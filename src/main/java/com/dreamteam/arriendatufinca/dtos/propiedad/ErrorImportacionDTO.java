@@ -0,0 +1,15 @@
+package com.dreamteam.arriendatufinca.dtos.propiedad;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ErrorImportacionDTO {
+    private Long fila;
+    private String mensaje;
+}
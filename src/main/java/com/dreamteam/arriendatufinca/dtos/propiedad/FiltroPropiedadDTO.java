@@ -0,0 +1,23 @@
+package com.dreamteam.arriendatufinca.dtos.propiedad;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class FiltroPropiedadDTO {
+    private String departamento;
+    private String municipio;
+    private Boolean permiteMascotas;
+    private Boolean tienePiscina;
+    private Boolean tieneAsador;
+    // Habitaciones y baños se filtran como cantidad mínima
+    private Integer cantidadHabitaciones;
+    private Integer cantidadBanos;
+    private Float valorNocheMinimo;
+    private Float valorNocheMaximo;
+}
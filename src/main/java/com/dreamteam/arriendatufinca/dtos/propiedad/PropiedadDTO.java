@@ -1,7 +1,5 @@
 package com.dreamteam.arriendatufinca.dtos.propiedad;
 
-import java.util.List;
-
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
 
 import lombok.AllArgsConstructor;
@@ -15,5 +13,5 @@ import lombok.Setter;
 @NoArgsConstructor
 public class PropiedadDTO extends BasePropiedadDTO {
     private CuentaDTO arrendador;
-    private List<SimplePropiedadDTO> solicitudes;
+    private Integer cantidadSolicitudes;
 }
\ No newline at end of file
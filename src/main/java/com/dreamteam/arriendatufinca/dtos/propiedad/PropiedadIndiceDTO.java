@@ -0,0 +1,26 @@
+package com.dreamteam.arriendatufinca.dtos.propiedad;
+
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Columnas de una propiedad que usan los índices en memoria; se construye directamente en la consulta de carga
+@Getter
+@AllArgsConstructor
+public class PropiedadIndiceDTO {
+    private Integer idPropiedad;
+    private String nombrePropiedad;
+    private String descripcionPropiedad;
+    private String municipio;
+    private String departamento;
+    private Integer cantidadHabitaciones;
+    private Integer cantidadBanos;
+    private Boolean permiteMascotas;
+    private Boolean tienePiscina;
+    private Boolean tieneAsador;
+    private Float valorNoche;
+    private Estado estado;
+    private Long sumaPuntajes;
+    private Integer cantidadCalificaciones;
+}
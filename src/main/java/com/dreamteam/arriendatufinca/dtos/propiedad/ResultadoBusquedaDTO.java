@@ -0,0 +1,21 @@
+package com.dreamteam.arriendatufinca.dtos.propiedad;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoBusquedaDTO {
+    private Integer total;
+    private List<SimplePropiedadDTO> propiedades;
+    private Map<String, Map<String, Integer>> facetas;
+    // Nulo en la última página
+    private String siguienteCursor;
+}
@@ -0,0 +1,20 @@
+package com.dreamteam.arriendatufinca.dtos.propiedad;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoImportacionDTO {
+    private Integer filasLeidas;
+    private Integer propiedadesCreadas;
+    // Total de filas rechazadas; la lista de errores se corta en PropiedadService.MAXIMO_ERRORES_IMPORTACION
+    private Integer cantidadErrores;
+    private List<ErrorImportacionDTO> errores;
+}
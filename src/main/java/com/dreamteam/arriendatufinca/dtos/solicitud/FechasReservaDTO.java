@@ -0,0 +1,16 @@
+package com.dreamteam.arriendatufinca.dtos.solicitud;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Fechas que ocupa una solicitud no rechazada; se construye directamente en la consulta de carga de IndiceDisponibilidad
+@Getter
+@AllArgsConstructor
+public class FechasReservaDTO {
+    private Integer idSolicitud;
+    private Integer idPropiedad;
+    private LocalDateTime fechaInicio;
+    private LocalDateTime fechaFinal;
+}
@@ -0,0 +1,18 @@
+package com.dreamteam.arriendatufinca.dtos.ubicacion;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class DepartamentoDTO {
+    private String codigo;
+    private String nombre;
+    private List<MunicipioDTO> municipios;
+}
@@ -0,0 +1,18 @@
+package com.dreamteam.arriendatufinca.dtos.ubicacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class EstadisticasRegionDTO {
+    private String region;
+    private Integer cantidadPropiedades;
+    private Float medianaValorNoche;
+    private Float puntajePromedio;
+    private Integer cantidadCalificaciones;
+}
@@ -0,0 +1,15 @@
+package com.dreamteam.arriendatufinca.dtos.ubicacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class MunicipioDTO {
+    private String codigo;
+    private String nombre;
+}
@@ -0,0 +1,16 @@
+package com.dreamteam.arriendatufinca.dtos.ubicacion;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SugerenciaUbicacionDTO {
+    private String codigo;
+    private String municipio;
+    private String departamento;
+}
@@ -1,5 +1,7 @@
 package com.dreamteam.arriendatufinca.entities;
 
+import java.time.LocalDateTime;
+
 import org.hibernate.annotations.OnDelete;
 import org.hibernate.annotations.OnDeleteAction;
 
@@ -9,8 +11,11 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,9 +26,15 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = {
+    @Index(name = "idx_calificacion_calificado_fecha", columnList = "id_calificado, fecha_calificacion, id_calificacion"),
+    @Index(name = "idx_calificacion_fecha", columnList = "fecha_calificacion, id_calificacion")
+})
 public class Calificacion {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "calificacion_id")
+    @TableGenerator(name = "calificacion_id", table = GeneradorIds.TABLA, pkColumnName = GeneradorIds.COLUMNA_ENTIDAD,
+                    valueColumnName = GeneradorIds.COLUMNA_SIGUIENTE, pkColumnValue = "calificacion", allocationSize = GeneradorIds.BLOQUE)
     private Integer idCalificacion;
 
     @ManyToOne
@@ -49,4 +60,5 @@ public class Calificacion {
     private TipoCalificacion tipoCalificacion;
     private String comentario;
     private Integer puntaje;
+    private LocalDateTime fechaCalificacion;
 }
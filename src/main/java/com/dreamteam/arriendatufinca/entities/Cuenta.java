@@ -12,6 +12,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.InheritanceType;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -28,7 +29,9 @@ import lombok.Setter;
 @Inheritance(strategy = InheritanceType.JOINED)
 public class Cuenta {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "cuenta_id")
+    @TableGenerator(name = "cuenta_id", table = GeneradorIds.TABLA, pkColumnName = GeneradorIds.COLUMNA_ENTIDAD,
+                    valueColumnName = GeneradorIds.COLUMNA_SIGUIENTE, pkColumnValue = "cuenta", allocationSize = GeneradorIds.BLOQUE)
     private Integer idCuenta;
     private String nombreCuenta;
     private String contrasena;
@@ -0,0 +1,15 @@
+package com.dreamteam.arriendatufinca.entities;
+
+// Tabla de la que Cuenta, Propiedad, Solicitud y Calificacion reservan ids por bloques (optimizador pooled-lo).
+// A diferencia de IDENTITY, el id se conoce antes del INSERT, así que Hibernate puede agrupar las inserciones
+// en lotes JDBC; funciona igual en MySQL y en H2. data.sql mantiene cada fila por encima del máximo id existente.
+public final class GeneradorIds {
+    public static final String TABLA = "generador_id";
+    public static final String COLUMNA_ENTIDAD = "entidad";
+    public static final String COLUMNA_SIGUIENTE = "siguiente_id";
+    // Ids reservados por cada lectura de la tabla; coincide con hibernate.jdbc.batch_size
+    public static final int BLOQUE = 50;
+
+    private GeneradorIds() {
+    }
+}
@@ -9,13 +9,17 @@ import org.hibernate.annotations.Where;
 
 import com.dreamteam.arriendatufinca.enums.Estado;
 
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -26,11 +30,14 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_propiedad_departamento_municipio", columnList = "departamento, municipio"))
 @Where(clause = "estado = 1")
 @SQLDelete(sql = "UPDATE cuenta SET estado = 0 WHERE id=?")
 public class Propiedad {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "propiedad_id")
+    @TableGenerator(name = "propiedad_id", table = GeneradorIds.TABLA, pkColumnName = GeneradorIds.COLUMNA_ENTIDAD,
+                    valueColumnName = GeneradorIds.COLUMNA_SIGUIENTE, pkColumnValue = "propiedad", allocationSize = GeneradorIds.BLOQUE)
     Integer idPropiedad;
 
     @ManyToOne
@@ -55,6 +62,17 @@ public class Propiedad {
     private Boolean tieneAsador;
     private Float valorNoche;
     private Estado estado;
-    private Float puntajePromedio;
+    // Solo se modifican con el incremento atómico de PropiedadRepository.registrarPuntaje
+    @Column(updatable = false)
+    private Long sumaPuntajes;
+    @Column(updatable = false)
     private Integer cantidadCalificaciones;
+
+    // El promedio se deriva en lectura para que no acumule error de redondeo
+    public Float getPuntajePromedio() {
+        if (sumaPuntajes == null || cantidadCalificaciones == null || cantidadCalificaciones == 0) {
+            return null;
+        }
+        return (float) sumaPuntajes / cantidadCalificaciones;
+    }
 }
@@ -0,0 +1,34 @@
+package com.dreamteam.arriendatufinca.entities;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+// Resumen de las calificaciones recibidas por una cuenta, actualizado con cada calificación nueva
+@Entity
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResumenReputacion {
+    @Id
+    private Integer idCuenta;
+
+    private Integer cantidadCalificaciones;
+    private Long sumaPuntajes;
+
+    // Histograma: cantidad de calificaciones con cada puntaje
+    private Integer calificacionesCero;
+    private Integer calificacionesUno;
+    private Integer calificacionesDos;
+    private Integer calificacionesTres;
+    private Integer calificacionesCuatro;
+    private Integer calificacionesCinco;
+
+    private LocalDateTime ultimaCalificacion;
+}
@@ -9,8 +9,14 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -21,9 +27,20 @@ import lombok.Setter;
 @Setter
 @AllArgsConstructor
 @NoArgsConstructor
+@Table(indexes = @Index(name = "idx_solicitud_propiedad_fechas", columnList = "id_propiedad, fecha_inicio, fecha_final"))
+// Las asociaciones EAGER que lee SolicitudDTO, con joins en lugar de un SELECT adicional por fila
+@NamedEntityGraph(name = Solicitud.GRAFO_DETALLE, attributeNodes = {
+    @NamedAttributeNode("arrendatario"),
+    @NamedAttributeNode("estadoSolicitud"),
+    @NamedAttributeNode(value = "propiedad", subgraph = "propiedad")
+}, subgraphs = @NamedSubgraph(name = "propiedad", attributeNodes = @NamedAttributeNode("arrendador")))
 public class Solicitud {
+    public static final String GRAFO_DETALLE = "Solicitud.detalle";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "solicitud_id")
+    @TableGenerator(name = "solicitud_id", table = GeneradorIds.TABLA, pkColumnName = GeneradorIds.COLUMNA_ENTIDAD,
+                    valueColumnName = GeneradorIds.COLUMNA_SIGUIENTE, pkColumnValue = "solicitud", allocationSize = GeneradorIds.BLOQUE)
     private Integer idSolicitud;
 
     @ManyToOne
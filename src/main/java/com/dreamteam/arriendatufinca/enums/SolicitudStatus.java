@@ -1,5 +1,11 @@
 package com.dreamteam.arriendatufinca.enums;
 
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 import com.fasterxml.jackson.annotation.JsonValue;
 
 public enum SolicitudStatus {
@@ -9,6 +15,21 @@ public enum SolicitudStatus {
     POR_CALIFICAR(4, "Por calificar"),
     CERRADA(5, "Cerrada");
 
+    // Tabla de transiciones: estados nuevos y sus cambios permitidos se declaran solo aquí
+    private static final Map<SolicitudStatus, Set<SolicitudStatus>> SIGUIENTES = new EnumMap<>(SolicitudStatus.class);
+    private static final Map<SolicitudStatus, Set<SolicitudStatus>> ANTERIORES = new EnumMap<>(SolicitudStatus.class);
+
+    static {
+        for (SolicitudStatus estado : values()) {
+            SIGUIENTES.put(estado, EnumSet.noneOf(SolicitudStatus.class));
+            ANTERIORES.put(estado, EnumSet.noneOf(SolicitudStatus.class));
+        }
+        permitir(PENDIENTE, POR_PAGAR);
+        permitir(PENDIENTE, RECHAZADA);
+        permitir(POR_PAGAR, POR_CALIFICAR);
+        permitir(POR_CALIFICAR, CERRADA);
+    }
+
     private String nombre;
     private Integer id;
 
@@ -18,6 +39,11 @@ public enum SolicitudStatus {
         this.id = id;
     }
 
+    private static void permitir(SolicitudStatus desde, SolicitudStatus hacia){
+        SIGUIENTES.get(desde).add(hacia);
+        ANTERIORES.get(hacia).add(desde);
+    }
+
     @JsonValue
     public String getNombre(){
         return nombre;
@@ -26,4 +52,23 @@ public enum SolicitudStatus {
     public Integer getId(){
         return id;
     }
+
+    public boolean puedeCambiarA(SolicitudStatus nuevoEstado){
+        return nuevoEstado != null && SIGUIENTES.get(this).contains(nuevoEstado);
+    }
+
+    // Estados desde los que se puede llegar a este
+    public Set<SolicitudStatus> getAnteriores(){
+        return Collections.unmodifiableSet(ANTERIORES.get(this));
+    }
+
+    // Devuelve null si el nombre no corresponde a ningún estado
+    public static SolicitudStatus fromNombre(String nombre) {
+        for (SolicitudStatus estado : SolicitudStatus.values()) {
+            if (estado.getNombre().equals(nombre)) {
+                return estado;
+            }
+        }
+        return null;
+    }
 }
@@ -18,6 +18,9 @@ public class ManejadorErrores {
     public static final String ERROR_CORREO_ARRENDATARIO_YA_EXISTE = "Ya existe un arrendatario con ese correo";
     public static final String ERROR_CORREO_ARRENDADOR_YA_EXISTE = "Ya existe un arrendador con ese correo";
     public static final String ERROR_MUNICIPIO_O_DEPARTAMENTO_INVALIDO = "El municipio o departamento es inválido";
+    public static final String SUGERENCIA_QUISO_DECIR = ". ¿Quiso decir: ";
+    public static final String ERROR_REGION_NO_EXISTE = "No existe la region";
+    public static final String ERROR_DEPARTAMENTO_NO_EXISTE = "No existe el departamento";
     public static final String ERROR_ARRENDADOR_INCORRECTO = "El arrendador es incorrecto";
     public static final String ERROR_ARRENDATARIO_INCORRECTO = "El arrendatario es incorrecto";
     public static final String ERROR_PUNTAJE_INVALIDO = "La calificacion debe ser entre 0 y 5";
@@ -31,4 +34,11 @@ public class ManejadorErrores {
     public static final String ERROR_CALIFICADOR_NO_PERTENECE_SOLICITUD = "El calificador no pertenece a la solicitud";
     public static final String ERROR_CALIFICADO_NO_PERTENECE_SOLICITUD = "El calificado no pertenece a la solicitud";
     public static final String ERROR_PROPIEDAD_NO_PERTENECE_SOLICITUD = "La propiedad no pertenece a la solicitud";
+    public static final String ERROR_SOLICITUD_FECHAS_OCUPADAS = "La propiedad ya esta reservada en esas fechas";
+    public static final String ERROR_CURSOR_INVALIDO = "El cursor de paginacion es invalido";
+    public static final String ERROR_ARCHIVO_IMPORTACION_INVALIDO = "El archivo CSV es invalido";
+    public static final String ERROR_COLUMNA_IMPORTACION_FALTANTE = "Falta la columna obligatoria: ";
+    public static final String ERROR_CAMPO_IMPORTACION_VACIO = "La columna obligatoria esta vacia: ";
+    public static final String ERROR_VALOR_IMPORTACION_INVALIDO = "Valor invalido en la columna: ";
+    public static final String ERROR_FILA_IMPORTACION_FALLIDA = "No se pudo guardar la fila";
 }
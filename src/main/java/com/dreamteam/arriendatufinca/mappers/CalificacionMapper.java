@@ -0,0 +1,38 @@
+package com.dreamteam.arriendatufinca.mappers;
+
+import com.dreamteam.arriendatufinca.dtos.calificacion.BaseCalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.entities.Calificacion;
+
+public final class CalificacionMapper {
+    private CalificacionMapper() {
+    }
+
+    public static BaseCalificacionDTO crearBaseCalificacionDTO(Calificacion calificacion) {
+        if (calificacion == null) {
+            return null;
+        }
+        return copiar(calificacion, new BaseCalificacionDTO());
+    }
+
+    public static CalificacionDTO crearCalificacionDTO(Calificacion calificacion) {
+        if (calificacion == null) {
+            return null;
+        }
+        CalificacionDTO calificacionDTO = copiar(calificacion, new CalificacionDTO());
+        calificacionDTO.setPropiedad(PropiedadMapper.crearBasePropiedadDTO(calificacion.getPropiedad()));
+        calificacionDTO.setSolicitud(SolicitudMapper.crearBaseSolicitudDTO(calificacion.getSolicitud()));
+        return calificacionDTO;
+    }
+
+    private static <T extends BaseCalificacionDTO> T copiar(Calificacion calificacion, T calificacionDTO) {
+        calificacionDTO.setIdCalificacion(calificacion.getIdCalificacion());
+        calificacionDTO.setCalificador(CuentaMapper.crearCuentaDTO(calificacion.getCalificador()));
+        calificacionDTO.setCalificado(CuentaMapper.crearCuentaDTO(calificacion.getCalificado()));
+        calificacionDTO.setPuntaje(calificacion.getPuntaje());
+        calificacionDTO.setComentario(calificacion.getComentario());
+        calificacionDTO.setTipoCalificacion(MapperUtil.nombre(calificacion.getTipoCalificacion()));
+        calificacionDTO.setFechaCalificacion(calificacion.getFechaCalificacion());
+        return calificacionDTO;
+    }
+}
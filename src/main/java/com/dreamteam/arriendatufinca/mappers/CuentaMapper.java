@@ -0,0 +1,39 @@
+package com.dreamteam.arriendatufinca.mappers;
+
+import com.dreamteam.arriendatufinca.dtos.ArrendadorDTO;
+import com.dreamteam.arriendatufinca.dtos.ArrendatarioDTO;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Cuenta;
+
+// Copia campo a campo de entidad a DTO; reemplaza a ModelMapper en las lecturas
+public final class CuentaMapper {
+    private CuentaMapper() {
+    }
+
+    public static CuentaDTO crearCuentaDTO(Cuenta cuenta) {
+        if (cuenta == null) {
+            return null;
+        }
+        return new CuentaDTO(cuenta.getIdCuenta(), cuenta.getNombreCuenta(), cuenta.getEmail());
+    }
+
+    public static ArrendadorDTO crearArrendadorDTO(Arrendador arrendador) {
+        if (arrendador == null) {
+            return null;
+        }
+        ArrendadorDTO arrendadorDTO = new ArrendadorDTO(arrendador.getIdCuenta(), arrendador.getNombreCuenta(), arrendador.getEmail());
+        arrendadorDTO.setPropiedades(MapperUtil.mapearLista(arrendador.getPropiedades(), PropiedadMapper::crearBasePropiedadDTO));
+        return arrendadorDTO;
+    }
+
+    public static ArrendatarioDTO crearArrendatarioDTO(Arrendatario arrendatario) {
+        if (arrendatario == null) {
+            return null;
+        }
+        ArrendatarioDTO arrendatarioDTO = new ArrendatarioDTO(arrendatario.getIdCuenta(), arrendatario.getNombreCuenta(), arrendatario.getEmail());
+        arrendatarioDTO.setSolicitudes(MapperUtil.mapearLista(arrendatario.getSolicitudes(), SolicitudMapper::crearBaseSolicitudDTO));
+        return arrendatarioDTO;
+    }
+}
@@ -0,0 +1,27 @@
+package com.dreamteam.arriendatufinca.mappers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+final class MapperUtil {
+    private MapperUtil() {
+    }
+
+    // Igual que ModelMapper, una colección nula se conserva nula
+    static <E, D> List<D> mapearLista(List<? extends E> entidades, Function<E, D> mapeo) {
+        if (entidades == null) {
+            return null;
+        }
+        List<D> resultado = new ArrayList<>(entidades.size());
+        for (E entidad : entidades) {
+            resultado.add(mapeo.apply(entidad));
+        }
+        return resultado;
+    }
+
+    // Los enums se exponen por su nombre, como lo hacía ModelMapper
+    static String nombre(Enum<?> valor) {
+        return valor == null ? null : valor.name();
+    }
+}
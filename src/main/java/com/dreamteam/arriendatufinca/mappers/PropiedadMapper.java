@@ -0,0 +1,88 @@
+package com.dreamteam.arriendatufinca.mappers;
+
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadIndiceDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+
+public final class PropiedadMapper {
+    private PropiedadMapper() {
+    }
+
+    public static BasePropiedadDTO crearBasePropiedadDTO(Propiedad propiedad) {
+        if (propiedad == null) {
+            return null;
+        }
+        return copiar(propiedad, new BasePropiedadDTO());
+    }
+
+    public static SimplePropiedadDTO crearSimplePropiedadDTO(Propiedad propiedad) {
+        if (propiedad == null) {
+            return null;
+        }
+        SimplePropiedadDTO propiedadDTO = copiar(propiedad, new SimplePropiedadDTO());
+        propiedadDTO.setArrendador(CuentaMapper.crearCuentaDTO(propiedad.getArrendador()));
+        return propiedadDTO;
+    }
+
+    public static PropiedadDTO crearPropiedadDTO(Propiedad propiedad) {
+        if (propiedad == null) {
+            return null;
+        }
+        return crearPropiedadDTO(propiedad, propiedad.getSolicitudes() == null ? 0 : propiedad.getSolicitudes().size());
+    }
+
+    // PropiedadDTO solo expone cuántas solicitudes tiene la propiedad; el conteo puede venir de la consulta
+    public static PropiedadDTO crearPropiedadDTO(Propiedad propiedad, int cantidadSolicitudes) {
+        if (propiedad == null) {
+            return null;
+        }
+        PropiedadDTO propiedadDTO = copiar(propiedad, new PropiedadDTO());
+        propiedadDTO.setArrendador(CuentaMapper.crearCuentaDTO(propiedad.getArrendador()));
+        propiedadDTO.setCantidadSolicitudes(cantidadSolicitudes);
+        return propiedadDTO;
+    }
+
+    // Propiedad sin asociaciones, solo con las columnas de la carga; no está asociada a ninguna sesión
+    public static Propiedad crearPropiedad(PropiedadIndiceDTO fila) {
+        if (fila == null) {
+            return null;
+        }
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(fila.getIdPropiedad());
+        propiedad.setNombrePropiedad(fila.getNombrePropiedad());
+        propiedad.setDescripcionPropiedad(fila.getDescripcionPropiedad());
+        propiedad.setMunicipio(fila.getMunicipio());
+        propiedad.setDepartamento(fila.getDepartamento());
+        propiedad.setCantidadHabitaciones(fila.getCantidadHabitaciones());
+        propiedad.setCantidadBanos(fila.getCantidadBanos());
+        propiedad.setPermiteMascotas(fila.getPermiteMascotas());
+        propiedad.setTienePiscina(fila.getTienePiscina());
+        propiedad.setTieneAsador(fila.getTieneAsador());
+        propiedad.setValorNoche(fila.getValorNoche());
+        propiedad.setEstado(fila.getEstado());
+        propiedad.setSumaPuntajes(fila.getSumaPuntajes());
+        propiedad.setCantidadCalificaciones(fila.getCantidadCalificaciones());
+        return propiedad;
+    }
+
+    private static <T extends BasePropiedadDTO> T copiar(Propiedad propiedad, T propiedadDTO) {
+        propiedadDTO.setIdPropiedad(propiedad.getIdPropiedad());
+        propiedadDTO.setNombrePropiedad(propiedad.getNombrePropiedad());
+        propiedadDTO.setDescripcionPropiedad(propiedad.getDescripcionPropiedad());
+        propiedadDTO.setMunicipio(propiedad.getMunicipio());
+        propiedadDTO.setDepartamento(propiedad.getDepartamento());
+        propiedadDTO.setTipoIngreso(propiedad.getTipoIngreso());
+        propiedadDTO.setCantidadHabitaciones(propiedad.getCantidadHabitaciones());
+        propiedadDTO.setCantidadBanos(propiedad.getCantidadBanos());
+        propiedadDTO.setPermiteMascotas(propiedad.getPermiteMascotas());
+        propiedadDTO.setTienePiscina(propiedad.getTienePiscina());
+        propiedadDTO.setTieneAsador(propiedad.getTieneAsador());
+        propiedadDTO.setValorNoche(propiedad.getValorNoche());
+        propiedadDTO.setEstado(MapperUtil.nombre(propiedad.getEstado()));
+        propiedadDTO.setPuntajePromedio(propiedad.getPuntajePromedio());
+        propiedadDTO.setCantidadCalificaciones(propiedad.getCantidadCalificaciones());
+        return propiedadDTO;
+    }
+}
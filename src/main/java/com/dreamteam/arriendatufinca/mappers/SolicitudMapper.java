@@ -0,0 +1,60 @@
+package com.dreamteam.arriendatufinca.mappers;
+
+import com.dreamteam.arriendatufinca.dtos.EstadoSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+
+public final class SolicitudMapper {
+    private SolicitudMapper() {
+    }
+
+    public static BaseSolicitudDTO crearBaseSolicitudDTO(Solicitud solicitud) {
+        if (solicitud == null) {
+            return null;
+        }
+        return copiar(solicitud, new BaseSolicitudDTO());
+    }
+
+    public static SimpleSolicitudDTO crearSimpleSolicitudDTO(Solicitud solicitud) {
+        if (solicitud == null) {
+            return null;
+        }
+        SimpleSolicitudDTO solicitudDTO = copiar(solicitud, new SimpleSolicitudDTO());
+        solicitudDTO.setArrendatario(CuentaMapper.crearCuentaDTO(solicitud.getArrendatario()));
+        solicitudDTO.setPropiedad(PropiedadMapper.crearSimplePropiedadDTO(solicitud.getPropiedad()));
+        return solicitudDTO;
+    }
+
+    public static SolicitudDTO crearSolicitudDTO(Solicitud solicitud) {
+        if (solicitud == null) {
+            return null;
+        }
+        SolicitudDTO solicitudDTO = copiar(solicitud, new SolicitudDTO());
+        solicitudDTO.setArrendatario(CuentaMapper.crearCuentaDTO(solicitud.getArrendatario()));
+        solicitudDTO.setPropiedad(PropiedadMapper.crearSimplePropiedadDTO(solicitud.getPropiedad()));
+        return solicitudDTO;
+    }
+
+    public static EstadoSolicitudDTO crearEstadoSolicitudDTO(EstadoSolicitud estadoSolicitud) {
+        if (estadoSolicitud == null) {
+            return null;
+        }
+        return new EstadoSolicitudDTO(estadoSolicitud.getIdEstadoSolicitud(), estadoSolicitud.getNombreEstadoSolicitud());
+    }
+
+    private static <T extends BaseSolicitudDTO> T copiar(Solicitud solicitud, T solicitudDTO) {
+        solicitudDTO.setIdSolicitud(solicitud.getIdSolicitud());
+        solicitudDTO.setFechaInicio(solicitud.getFechaInicio());
+        solicitudDTO.setFechaFinal(solicitud.getFechaFinal());
+        solicitudDTO.setFechaCreacion(solicitud.getFechaCreacion());
+        solicitudDTO.setCantidadPersonas(solicitud.getCantidadPersonas());
+        solicitudDTO.setArrendadorCalificado(solicitud.isArrendadorCalificado());
+        solicitudDTO.setArrendatarioCalificado(solicitud.isArrendatarioCalificado());
+        solicitudDTO.setPropiedadCalificado(solicitud.isPropiedadCalificado());
+        solicitudDTO.setEstadoSolicitud(crearEstadoSolicitudDTO(solicitud.getEstadoSolicitud()));
+        return solicitudDTO;
+    }
+}
@@ -0,0 +1,70 @@
+package com.dreamteam.arriendatufinca.monitoreo;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.dreamteam.arriendatufinca.monitoreo.InspectorConsultas.ConsultasPeticion;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+// Al terminar cada petición avisa si una misma sentencia se ejecutó muchas veces (patrón N+1)
+// o si la petición ejecutó más sentencias de las esperadas
+@Slf4j
+public class FiltroMonitorConsultas extends OncePerRequestFilter {
+    private static final int LARGO_MAXIMO_SQL = 200;
+
+    private final InspectorConsultas inspector;
+    private final int umbralRepeticiones;
+    private final int umbralSentencias;
+
+    public FiltroMonitorConsultas(InspectorConsultas inspector, int umbralRepeticiones, int umbralSentencias) {
+        this.inspector = inspector;
+        this.umbralRepeticiones = umbralRepeticiones;
+        this.umbralSentencias = umbralSentencias;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        inspector.iniciar();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ConsultasPeticion consultas = inspector.finalizar();
+            if (log.isWarnEnabled()) {
+                reportar(request.getMethod() + " " + request.getRequestURI(), consultas);
+            }
+        }
+    }
+
+    private void reportar(String peticion, ConsultasPeticion consultas) {
+        for (String sql : detectarRepetidas(consultas)) {
+            log.warn("Posible N+1 en {}: {} ejecuciones de {}", peticion, consultas.getRepeticiones().get(sql), recortar(sql));
+        }
+        if (consultas.getTotal() > umbralSentencias) {
+            log.warn("{} ejecutó {} sentencias SQL (umbral {})", peticion, consultas.getTotal(), umbralSentencias);
+        }
+    }
+
+    List<String> detectarRepetidas(ConsultasPeticion consultas) {
+        List<String> repetidas = new ArrayList<>();
+        for (Map.Entry<String, Integer> sentencia : consultas.getRepeticiones().entrySet()) {
+            if (sentencia.getValue() >= umbralRepeticiones) {
+                repetidas.add(sentencia.getKey());
+            }
+        }
+        return repetidas;
+    }
+
+    private static String recortar(String sql) {
+        return sql.length() <= LARGO_MAXIMO_SQL ? sql : sql.substring(0, LARGO_MAXIMO_SQL) + "...";
+    }
+}
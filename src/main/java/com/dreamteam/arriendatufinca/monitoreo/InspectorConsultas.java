@@ -0,0 +1,51 @@
+package com.dreamteam.arriendatufinca.monitoreo;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Cuenta las sentencias SQL que Hibernate prepara en el hilo de la petición actual.
+// Fuera de una petición (tareas de inicio, otros hilos) no registra nada; el costo por sentencia
+// es un incremento en un mapa cuya clave es el texto SQL, que Hibernate reutiliza entre ejecuciones.
+public class InspectorConsultas implements StatementInspector {
+    private final ThreadLocal<ConsultasPeticion> peticionActual = new ThreadLocal<>();
+
+    public static class ConsultasPeticion {
+        private final Map<String, Integer> repeticiones = new HashMap<>();
+        private int total = 0;
+
+        void registrar(String sql) {
+            repeticiones.merge(sql, 1, Integer::sum);
+            total++;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public Map<String, Integer> getRepeticiones() {
+            return repeticiones;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        ConsultasPeticion peticion = peticionActual.get();
+        if (peticion != null) {
+            peticion.registrar(sql);
+        }
+        return sql;
+    }
+
+    public void iniciar() {
+        peticionActual.set(new ConsultasPeticion());
+    }
+
+    // Devuelve lo registrado desde iniciar() y deja de registrar en el hilo
+    public ConsultasPeticion finalizar() {
+        ConsultasPeticion peticion = peticionActual.get();
+        peticionActual.remove();
+        return peticion == null ? new ConsultasPeticion() : peticion;
+    }
+}
@@ -0,0 +1,40 @@
+package com.dreamteam.arriendatufinca.monitoreo;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Modo de monitoreo en producción: detección de N+1 por petición y registro de sentencias lentas.
+// Hibernate escribe las sentencias que superan el umbral en el logger org.hibernate.SQL_SLOW (nivel INFO).
+@Configuration
+@ConditionalOnProperty(name = "arriendatufinca.monitor-consultas.habilitado", havingValue = "true")
+public class MonitorConsultasConfiguration {
+
+    @Bean
+    public InspectorConsultas inspectorConsultas() {
+        return new InspectorConsultas();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer monitorConsultasHibernate(InspectorConsultas inspectorConsultas,
+            @Value("${arriendatufinca.monitor-consultas.sentencia-lenta-ms:500}") long sentenciaLentaMs) {
+        return propiedades -> {
+            propiedades.put(AvailableSettings.STATEMENT_INSPECTOR, inspectorConsultas);
+            propiedades.put(AvailableSettings.LOG_SLOW_QUERY, sentenciaLentaMs);
+        };
+    }
+
+    @Bean
+    public FilterRegistrationBean<FiltroMonitorConsultas> filtroMonitorConsultas(InspectorConsultas inspectorConsultas,
+            @Value("${arriendatufinca.monitor-consultas.umbral-repeticiones:10}") int umbralRepeticiones,
+            @Value("${arriendatufinca.monitor-consultas.umbral-sentencias:30}") int umbralSentencias) {
+        FilterRegistrationBean<FiltroMonitorConsultas> registro = new FilterRegistrationBean<>(
+                new FiltroMonitorConsultas(inspectorConsultas, umbralRepeticiones, umbralSentencias));
+        registro.addUrlPatterns("/api/*");
+        return registro;
+    }
+}
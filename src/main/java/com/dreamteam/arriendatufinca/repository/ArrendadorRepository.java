@@ -2,10 +2,18 @@ package com.dreamteam.arriendatufinca.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import com.dreamteam.arriendatufinca.entities.Arrendador;
 
 public interface ArrendadorRepository extends CrudRepository<Arrendador, Integer>{
     public Optional<Arrendador> findByEmail(String email);
+
+    // Detalle de ArrendadorDTO: las propiedades en la misma consulta
+    @EntityGraph(attributePaths = "propiedades")
+    @Query("SELECT a FROM Arrendador a WHERE a.idCuenta = :id_cuenta")
+    public Optional<Arrendador> findByIdConPropiedades(@Param("id_cuenta") Integer idCuenta);
 } 
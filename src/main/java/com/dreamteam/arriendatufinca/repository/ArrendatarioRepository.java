@@ -2,10 +2,18 @@ package com.dreamteam.arriendatufinca.repository;
 
 import java.util.Optional;
 
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
 import com.dreamteam.arriendatufinca.entities.Arrendatario;
 
 public interface ArrendatarioRepository extends CrudRepository<Arrendatario, Integer>{
     public Optional<Arrendatario> findByEmail(String email);
-} 
\ No newline at end of file
+
+    // Detalle de ArrendatarioDTO: las solicitudes y sus asociaciones EAGER en la misma consulta
+    @EntityGraph(attributePaths = {"solicitudes", "solicitudes.estadoSolicitud", "solicitudes.propiedad", "solicitudes.propiedad.arrendador"})
+    @Query("SELECT a FROM Arrendatario a WHERE a.idCuenta = :id_cuenta")
+    public Optional<Arrendatario> findByIdConSolicitudes(@Param("id_cuenta") Integer idCuenta);
+}
\ No newline at end of file
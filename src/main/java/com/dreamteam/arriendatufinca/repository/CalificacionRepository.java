@@ -1,16 +1,38 @@
 package com.dreamteam.arriendatufinca.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
 import org.springframework.data.repository.query.Param;
 
+import com.dreamteam.arriendatufinca.dtos.calificacion.ResenaDTO;
 import com.dreamteam.arriendatufinca.entities.Calificacion;
 
 public interface CalificacionRepository extends CrudRepository<Calificacion, Integer> {
     @Query("SELECT c FROM Calificacion c WHERE c.calificado.idCuenta = :id_calificado AND (c.tipoCalificacion = 0 OR c.tipoCalificacion = 1)")
     List<Calificacion> findByIdCalificado(@Param("id_calificado") Integer id);
-    
 
+    // Más recientes primero por fecha; el id desempata calificaciones con la misma fecha. Los ids salen de bloques
+    // reservados por cada instancia, así que no siguen el orden en que se calificó.
+    // El índice (id_calificado, fecha_calificacion, id_calificacion) resuelve el filtro y el orden sin ordenar en memoria
+    // Toda calificación tiene fecha: saveNewCalificacion la asigna y data.sql completa las anteriores a la columna
+    String DESPUES_DEL_CURSOR = "(c.fechaCalificacion < :antes_de_fecha OR (c.fechaCalificacion = :antes_de_fecha AND c.idCalificacion < :antes_de_id)) ";
+
+    @Query("SELECT new com.dreamteam.arriendatufinca.dtos.calificacion.ResenaDTO(c.idCalificacion, cr.nombreCuenta, c.puntaje, c.comentario, "
+         + "c.tipoCalificacion, c.fechaCalificacion) "
+         + "FROM Calificacion c LEFT JOIN c.calificador cr "
+         + "WHERE c.calificado.idCuenta = :id_calificado AND (c.tipoCalificacion = 0 OR c.tipoCalificacion = 1) AND " + DESPUES_DEL_CURSOR
+         + "ORDER BY c.fechaCalificacion DESC, c.idCalificacion DESC")
+    List<ResenaDTO> findResenasCalificado(@Param("id_calificado") Integer id, @Param("antes_de_fecha") LocalDateTime antesDeFecha,
+                                          @Param("antes_de_id") Integer antesDeId, Limit limit);
+
+    // Usa el índice (fecha_calificacion, id_calificacion)
+    @Query("SELECT new com.dreamteam.arriendatufinca.dtos.calificacion.ResenaDTO(c.idCalificacion, cr.nombreCuenta, c.puntaje, c.comentario, "
+         + "c.tipoCalificacion, c.fechaCalificacion) "
+         + "FROM Calificacion c LEFT JOIN c.calificador cr WHERE " + DESPUES_DEL_CURSOR
+         + "ORDER BY c.fechaCalificacion DESC, c.idCalificacion DESC")
+    List<ResenaDTO> findResenas(@Param("antes_de_fecha") LocalDateTime antesDeFecha, @Param("antes_de_id") Integer antesDeId, Limit limit);
 }
@@ -1,9 +1,9 @@
 package com.dreamteam.arriendatufinca.repository;
 
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
 
 import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
 
-public interface EstadoSolicitudRepository extends CrudRepository<EstadoSolicitud, Integer> {
+public interface EstadoSolicitudRepository extends JpaRepository<EstadoSolicitud, Integer> {
 
 }
@@ -1,9 +1,57 @@
 package com.dreamteam.arriendatufinca.repository;
 
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadIndiceDTO;
 import com.dreamteam.arriendatufinca.entities.Propiedad;
 
 public interface PropiedadRepository extends CrudRepository<Propiedad, Integer> {
+    // Paginación por llave (keyset): usa el índice de la llave primaria sin OFFSET.
+    // Es el primer paso de la página de PropiedadDTO
+    @Query("SELECT p.idPropiedad FROM Propiedad p WHERE p.idPropiedad > :id_propiedad ORDER BY p.idPropiedad")
+    List<Integer> findIdsPagina(@Param("id_propiedad") Integer idPropiedad, Limit limit);
+
+    // Carga de los índices en memoria: solo las columnas que usan, por lotes en orden de id y sin cargar entidades
+    @Query("SELECT new com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadIndiceDTO(p.idPropiedad, p.nombrePropiedad, "
+         + "p.descripcionPropiedad, p.municipio, p.departamento, p.cantidadHabitaciones, p.cantidadBanos, p.permiteMascotas, "
+         + "p.tienePiscina, p.tieneAsador, p.valorNoche, p.estado, p.sumaPuntajes, p.cantidadCalificaciones) "
+         + "FROM Propiedad p WHERE p.idPropiedad > :id_propiedad ORDER BY p.idPropiedad")
+    List<PropiedadIndiceDTO> findIndicePagina(@Param("id_propiedad") Integer idPropiedad, Limit limit);
+
+    // Listado y detalle de PropiedadDTO: el arrendador en la misma consulta y las solicitudes solo como conteo.
+    // Cada fila es {Propiedad, Long}; unir las solicitudes multiplicaría las filas por cada una.
+    // El detalle de una propiedad usa la misma consulta con un solo id
+    String CONTEO_SOLICITUDES = "(SELECT COUNT(s) FROM Solicitud s WHERE s.propiedad.idPropiedad = p.idPropiedad)";
+
+    @Query("SELECT p, " + CONTEO_SOLICITUDES + " FROM Propiedad p LEFT JOIN FETCH p.arrendador ORDER BY p.idPropiedad")
+    List<Object[]> findAllConDetalle();
+
+    @Query("SELECT p, " + CONTEO_SOLICITUDES + " FROM Propiedad p LEFT JOIN FETCH p.arrendador "
+         + "WHERE p.idPropiedad IN :ids_propiedad ORDER BY p.idPropiedad")
+    List<Object[]> findAllByIdConDetalle(@Param("ids_propiedad") Collection<Integer> idsPropiedad);
+
+    // Resultados de búsqueda (SimplePropiedadDTO): solo hace falta el arrendador
+    @EntityGraph(attributePaths = "arrendador")
+    @Query("SELECT p FROM Propiedad p WHERE p.idPropiedad IN :ids_propiedad")
+    List<Propiedad> findAllByIdConArrendador(@Param("ids_propiedad") Collection<Integer> idsPropiedad);
+
+    // Búsqueda por región: IN sobre idx_propiedad_departamento_municipio, también paginada por llave
+    @EntityGraph(attributePaths = "arrendador")
+    List<Propiedad> findByDepartamentoInAndIdPropiedadGreaterThanOrderByIdPropiedadAsc(Collection<String> departamentos, Integer idPropiedad, Limit limit);
 
+    // Incremento atómico en la base de datos: calificaciones concurrentes no se pisan entre sí
+    @Transactional
+    @Modifying
+    @Query("UPDATE Propiedad p SET p.sumaPuntajes = COALESCE(p.sumaPuntajes, 0) + :puntaje, "
+         + "p.cantidadCalificaciones = COALESCE(p.cantidadCalificaciones, 0) + 1 WHERE p.idPropiedad = :id_propiedad")
+    int registrarPuntaje(@Param("id_propiedad") Integer idPropiedad, @Param("puntaje") long puntaje);
 }
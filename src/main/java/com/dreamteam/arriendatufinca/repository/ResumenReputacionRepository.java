@@ -0,0 +1,33 @@
+package com.dreamteam.arriendatufinca.repository;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dreamteam.arriendatufinca.entities.ResumenReputacion;
+
+public interface ResumenReputacionRepository extends CrudRepository<ResumenReputacion, Integer> {
+    // Crea la fila en la primera calificación y luego incrementa contadores en la misma sentencia
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO resumen_reputacion (id_cuenta, cantidad_calificaciones, suma_puntajes, calificaciones_cero, "
+                 + "calificaciones_uno, calificaciones_dos, calificaciones_tres, calificaciones_cuatro, calificaciones_cinco, ultima_calificacion) "
+                 + "VALUES (:id_cuenta, 1, :puntaje, CASE WHEN :puntaje = 0 THEN 1 ELSE 0 END, CASE WHEN :puntaje = 1 THEN 1 ELSE 0 END, "
+                 + "CASE WHEN :puntaje = 2 THEN 1 ELSE 0 END, CASE WHEN :puntaje = 3 THEN 1 ELSE 0 END, "
+                 + "CASE WHEN :puntaje = 4 THEN 1 ELSE 0 END, CASE WHEN :puntaje = 5 THEN 1 ELSE 0 END, :fecha) "
+                 + "ON DUPLICATE KEY UPDATE cantidad_calificaciones = cantidad_calificaciones + 1, "
+                 + "suma_puntajes = suma_puntajes + VALUES(suma_puntajes), "
+                 + "calificaciones_cero = calificaciones_cero + VALUES(calificaciones_cero), "
+                 + "calificaciones_uno = calificaciones_uno + VALUES(calificaciones_uno), "
+                 + "calificaciones_dos = calificaciones_dos + VALUES(calificaciones_dos), "
+                 + "calificaciones_tres = calificaciones_tres + VALUES(calificaciones_tres), "
+                 + "calificaciones_cuatro = calificaciones_cuatro + VALUES(calificaciones_cuatro), "
+                 + "calificaciones_cinco = calificaciones_cinco + VALUES(calificaciones_cinco), "
+                 + "ultima_calificacion = GREATEST(COALESCE(ultima_calificacion, VALUES(ultima_calificacion)), VALUES(ultima_calificacion))",
+           nativeQuery = true)
+    int registrarCalificacion(@Param("id_cuenta") Integer idCuenta, @Param("puntaje") int puntaje, @Param("fecha") LocalDateTime fecha);
+}
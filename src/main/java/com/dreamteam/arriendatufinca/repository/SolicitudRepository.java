@@ -1,9 +1,59 @@
 package com.dreamteam.arriendatufinca.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.repository.query.Param;
 
+import com.dreamteam.arriendatufinca.dtos.solicitud.FechasReservaDTO;
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
 import com.dreamteam.arriendatufinca.entities.Solicitud;
 
+import jakarta.persistence.LockModeType;
+
 public interface SolicitudRepository extends CrudRepository<Solicitud, Integer> {
+    // Una sola consulta con arrendatario, propiedad y arrendador; las filas quedan bloqueadas hasta el fin de la transacción
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM Solicitud s JOIN FETCH s.arrendatario JOIN FETCH s.propiedad p JOIN FETCH p.arrendador "
+         + "JOIN FETCH s.estadoSolicitud WHERE s.idSolicitud = :id_solicitud")
+    Optional<Solicitud> findByIdConParticipantes(@Param("id_solicitud") Integer idSolicitud);
+
+    // Lecturas de SolicitudDTO sin bloqueo: arrendatario, estado y propiedad con su arrendador en la misma consulta
+    @EntityGraph(Solicitud.GRAFO_DETALLE)
+    @Query("SELECT s FROM Solicitud s ORDER BY s.idSolicitud")
+    List<Solicitud> findAllConDetalle();
+
+    @EntityGraph(Solicitud.GRAFO_DETALLE)
+    @Query("SELECT s FROM Solicitud s WHERE s.idSolicitud = :id_solicitud")
+    Optional<Solicitud> findByIdConDetalle(@Param("id_solicitud") Integer idSolicitud);
+
+    // Carga de IndiceDisponibilidad: fechas de las solicitudes no rechazadas, por lotes en orden de id y sin cargar entidades
+    @Query("SELECT new com.dreamteam.arriendatufinca.dtos.solicitud.FechasReservaDTO(s.idSolicitud, s.propiedad.idPropiedad, "
+         + "s.fechaInicio, s.fechaFinal) FROM Solicitud s "
+         + "WHERE s.idSolicitud > :id_solicitud AND s.estadoSolicitud <> :rechazada AND s.propiedad IS NOT NULL "
+         + "AND s.fechaInicio IS NOT NULL AND s.fechaFinal IS NOT NULL ORDER BY s.idSolicitud")
+    List<FechasReservaDTO> findReservasPagina(@Param("id_solicitud") Integer idSolicitud, @Param("rechazada") EstadoSolicitud rechazada,
+                                              Limit limit);
+
+    // Resuelto con el índice (id_propiedad, fecha_inicio, fecha_final)
+    @Query("SELECT COUNT(s) > 0 FROM Solicitud s WHERE s.propiedad.idPropiedad = :id_propiedad "
+         + "AND s.fechaInicio < :fecha_final AND s.fechaFinal > :fecha_inicio "
+         + "AND s.estadoSolicitud.idEstadoSolicitud <> :id_rechazada")
+    boolean existeTraslape(@Param("id_propiedad") Integer idPropiedad, @Param("fecha_inicio") LocalDateTime fechaInicio,
+                           @Param("fecha_final") LocalDateTime fechaFinal, @Param("id_rechazada") Integer idRechazada);
 
+    // Transición condicional: 0 filas si la solicitud no existe o no está en alguno de los estados esperados
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Solicitud s SET s.estadoSolicitud = :nuevo "
+         + "WHERE s.idSolicitud = :id_solicitud AND s.estadoSolicitud IN :actuales")
+    int actualizarEstado(@Param("id_solicitud") Integer idSolicitud, @Param("actuales") Collection<EstadoSolicitud> actuales,
+                         @Param("nuevo") EstadoSolicitud nuevo);
 }
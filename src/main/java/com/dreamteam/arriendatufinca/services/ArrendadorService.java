@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dreamteam.arriendatufinca.dtos.ArrendadorDTO;
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
@@ -15,6 +16,7 @@ import com.dreamteam.arriendatufinca.entities.Arrendador;
 import com.dreamteam.arriendatufinca.enums.Estado;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.mappers.CuentaMapper;
 
 @Service
 public class ArrendadorService {
@@ -26,20 +28,23 @@ public class ArrendadorService {
         this.modelMapper = modelMapper;
     }
 
+    @Transactional(readOnly = true)
     public List<CuentaDTO> getArrendadores(){
         List<Arrendador> arrendadores = (List<Arrendador>) arrendadorRepository.findAll();
-        return arrendadores.stream().map(arrendador -> modelMapper.map(arrendador, CuentaDTO.class))
+        return arrendadores.stream().map(arrendador -> CuentaMapper.crearCuentaDTO(arrendador))
                                     .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<ArrendadorDTO> getArrendador(Integer id){
-        Optional<Arrendador> arrendadorTemp = arrendadorRepository.findById(id);
+        Optional<Arrendador> arrendadorTemp = arrendadorRepository.findByIdConPropiedades(id);
         UtilityService.verificarAusencia(arrendadorTemp, ManejadorErrores.ERROR_ARRENDADOR_NO_EXISTE);
 
-        ArrendadorDTO arrendadorDTO = modelMapper.map(arrendadorTemp.get(), ArrendadorDTO.class);
+        ArrendadorDTO arrendadorDTO = CuentaMapper.crearArrendadorDTO(arrendadorTemp.get());
         return ResponseEntity.ok(arrendadorDTO);
     }
 
+    @Transactional
     public ResponseEntity<CuentaDTO> saveNewArrendador(SignUpRequest arrendador){
         Optional<Arrendador> arrendadorTemp = arrendadorRepository.findByEmail(arrendador.getCuenta().getEmail());
         UtilityService.verificarExistencia(arrendadorTemp, ManejadorErrores.ERROR_CORREO_ARRENDADOR_YA_EXISTE);
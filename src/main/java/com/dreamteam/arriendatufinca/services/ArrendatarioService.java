@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dreamteam.arriendatufinca.dtos.ArrendatarioDTO;
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
@@ -15,6 +16,7 @@ import com.dreamteam.arriendatufinca.entities.Arrendatario;
 import com.dreamteam.arriendatufinca.enums.Estado;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.ArrendatarioRepository;
+import com.dreamteam.arriendatufinca.mappers.CuentaMapper;
 
 @Service
 public class ArrendatarioService {
@@ -26,20 +28,23 @@ public class ArrendatarioService {
         this.modelMapper = modelMapper;
     }
 
+    @Transactional(readOnly = true)
     public List<CuentaDTO> getArrendatarios(){
         List<Arrendatario> arrendatarios = (List<Arrendatario>) arrendatarioRepository.findAll();
-        return arrendatarios.stream().map(arrendatario -> modelMapper.map(arrendatario, CuentaDTO.class))
+        return arrendatarios.stream().map(arrendatario -> CuentaMapper.crearCuentaDTO(arrendatario))
                                      .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<ArrendatarioDTO> getArrendatario(Integer id){
-        Optional<Arrendatario> arrendatario = arrendatarioRepository.findById(id);
+        Optional<Arrendatario> arrendatario = arrendatarioRepository.findByIdConSolicitudes(id);
         UtilityService.verificarAusencia(arrendatario, ManejadorErrores.ERROR_ARRENDATARIO_NO_EXISTE);
 
-        ArrendatarioDTO arrendatarioDTO = modelMapper.map(arrendatario.get(), ArrendatarioDTO.class);
+        ArrendatarioDTO arrendatarioDTO = CuentaMapper.crearArrendatarioDTO(arrendatario.get());
         return ResponseEntity.ok(arrendatarioDTO);
     }
 
+    @Transactional
     public ResponseEntity<CuentaDTO> saveNewArrendatario(SignUpRequest arrendatario){
         Optional<Arrendatario> arrendatarioTemp = arrendatarioRepository.findByEmail(arrendatario.getCuenta().getEmail());
         UtilityService.verificarExistencia(arrendatarioTemp, ManejadorErrores.ERROR_CORREO_ARRENDATARIO_YA_EXISTE);
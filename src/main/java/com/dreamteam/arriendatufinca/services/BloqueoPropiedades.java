@@ -0,0 +1,31 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+// Candados por franjas: las operaciones sobre una misma propiedad se serializan,
+// las de propiedades en franjas distintas siguen corriendo en paralelo.
+@Component
+public class BloqueoPropiedades {
+    private static final int FRANJAS = 64;
+
+    private final ReentrantLock[] candados = new ReentrantLock[FRANJAS];
+
+    public BloqueoPropiedades() {
+        for (int i = 0; i < FRANJAS; i++) {
+            candados[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T ejecutar(Integer idPropiedad, Supplier<T> accion) {
+        ReentrantLock candado = candados[Math.floorMod(idPropiedad.hashCode(), FRANJAS)];
+        candado.lock();
+        try {
+            return accion.get();
+        } finally {
+            candado.unlock();
+        }
+    }
+}
@@ -1,20 +1,24 @@
 package com.dreamteam.arriendatufinca.services;
 
 import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
-import com.dreamteam.arriendatufinca.dtos.EstadoSolicitudDTO;
 import com.dreamteam.arriendatufinca.dtos.calificacion.BaseCalificacionDTO;
 import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
-import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
-import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.PaginaResenasDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.ResenaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.ResumenReputacionDTO;
 import com.dreamteam.arriendatufinca.entities.Calificacion;
 import com.dreamteam.arriendatufinca.entities.Cuenta;
 import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.ResumenReputacion;
 import com.dreamteam.arriendatufinca.entities.Solicitud;
 import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
 import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
@@ -22,143 +26,247 @@ import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.CalificacionRepository;
 import com.dreamteam.arriendatufinca.repository.CuentaRepository;
 import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.ResumenReputacionRepository;
 import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+import com.dreamteam.arriendatufinca.mappers.CalificacionMapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 
 @Service
 public class CalificacionService {
+    // Posterior a cualquier fecha de calificación y representable en MySQL
+    private static final LocalDateTime SIN_CURSOR = LocalDateTime.of(9999, 12, 31, 0, 0);
+    private static final String SEPARADOR_CURSOR = "_";
+
     private final CalificacionRepository calificacionRepository;
     private final CuentaRepository cuentaRepository;
     private final SolicitudRepository solicitudRepository;
     private final PropiedadRepository propiedadRepository;
-    private final SolicitudService solicitudService;
-    private final PropiedadService propiedadService;
+    private final ResumenReputacionRepository resumenReputacionRepository;
+    private final CatalogoEstadosSolicitud catalogoEstados;
+    private final EstadisticasRegion estadisticasRegion;
+    private final RankingPropiedades rankingPropiedades;
     private final ModelMapper modelMapper;
 
     public CalificacionService(CalificacionRepository calificacionRepository, CuentaRepository cuentaRepository,
                                SolicitudRepository solicitudRepository, PropiedadRepository propiedadRepository,
-                               ModelMapper modelMapper, SolicitudService solicitudService, PropiedadService propiedadService) {
+                               ResumenReputacionRepository resumenReputacionRepository,
+                               ModelMapper modelMapper, CatalogoEstadosSolicitud catalogoEstados,
+                               EstadisticasRegion estadisticasRegion, RankingPropiedades rankingPropiedades) {
         this.calificacionRepository = calificacionRepository;
         this.cuentaRepository = cuentaRepository;
         this.solicitudRepository = solicitudRepository;
         this.propiedadRepository = propiedadRepository;
+        this.resumenReputacionRepository = resumenReputacionRepository;
         this.modelMapper = modelMapper;
-        this.solicitudService = solicitudService;
-        this.propiedadService = propiedadService;
+        this.catalogoEstados = catalogoEstados;
+        this.estadisticasRegion = estadisticasRegion;
+        this.rankingPropiedades = rankingPropiedades;
     }
     
 
+    @Transactional(readOnly = true)
     public List<CalificacionDTO> getCalificaciones(){
         List<Calificacion> calificaciones = (List<Calificacion>) calificacionRepository.findAll();
-        return calificaciones.stream().map(calificacion -> modelMapper.map(calificacion, CalificacionDTO.class))
+        return calificaciones.stream().map(calificacion -> CalificacionMapper.crearCalificacionDTO(calificacion))
                                      .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<CalificacionDTO> getCalificacionId(Integer id){
         Optional<Calificacion> calificacion = calificacionRepository.findById(id);
         UtilityService.verificarAusencia(calificacion, ManejadorErrores.ERROR_CALIFICACION_NO_EXISTE);
 
-        CalificacionDTO calificacionDTO = modelMapper.map(calificacion.get(), CalificacionDTO.class);
+        CalificacionDTO calificacionDTO = CalificacionMapper.crearCalificacionDTO(calificacion.get());
         return ResponseEntity.ok(calificacionDTO);
     }
 
+    @Transactional(readOnly = true)
     public List<BaseCalificacionDTO> getCalificacionesCuenta(Integer id){
         Optional<Cuenta> cuenta = cuentaRepository.findById(id);
         UtilityService.verificarAusencia(cuenta, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
 
         List<Calificacion> calificaciones = calificacionRepository.findByIdCalificado(id);
-        return calificaciones.stream().map(calificacion -> modelMapper.map(calificacion, BaseCalificacionDTO.class))
+        return calificaciones.stream().map(calificacion -> CalificacionMapper.crearBaseCalificacionDTO(calificacion))
                                      .collect(Collectors.toList());
     }
 
-    public ResponseEntity<CalificacionDTO> saveNewCalificacion(CalificacionDTO calificacionDTO){
-        Calificacion calificacion = verificarCalificacion(calificacionDTO);
-
-        SimpleSolicitudDTO solicitudDTO = modelMapper.map(calificacion.getSolicitud(), SimpleSolicitudDTO.class);
-        
-
-        solicitudDTO = asignarCalificacionSolicitud(calificacionDTO, solicitudDTO);
-        solicitudService.updateSolicitud(solicitudDTO);
-        calificacion.setTipoCalificacion(TipoCalificacion.fromString(calificacionDTO.getTipoCalificacion()));
-
-        calificacion = calificacionRepository.save(calificacion);
-        calificacionDTO = modelMapper.map(calificacion, CalificacionDTO.class);
-        return ResponseEntity.ok(calificacionDTO);
+    @Transactional(readOnly = true)
+    public PaginaResenasDTO getPaginaResenas(String cursor, Integer tamano){
+        int tamanoPagina = UtilityService.acotarTamanoPagina(tamano);
+        PosicionResena posicion = antesDe(cursor);
+        List<ResenaDTO> resenas = calificacionRepository.findResenas(posicion.getFecha(), posicion.getIdCalificacion(), Limit.of(tamanoPagina + 1));
+        return paginarResenas(resenas, tamanoPagina, null);
     }
 
-    private Calificacion verificarCalificacion(CalificacionDTO calificacion){
-        Optional<Cuenta> calificador = cuentaRepository.findById(calificacion.getCalificador().getIdCuenta());
-        UtilityService.verificarAusencia(calificador, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
-
-        Optional<Cuenta> calificado = cuentaRepository.findById(calificacion.getCalificado().getIdCuenta());
-        UtilityService.verificarAusencia(calificado, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
+    // Cada página cuesta lo mismo sin importar cuántas calificaciones tenga la cuenta; el total sale del resumen
+    @Transactional(readOnly = true)
+    public PaginaResenasDTO getPaginaResenasCuenta(Integer id, String cursor, Integer tamano){
+        int tamanoPagina = UtilityService.acotarTamanoPagina(tamano);
+        boolean primeraPagina = cursor == null || cursor.isBlank();
+        ResumenReputacionDTO resumen = primeraPagina ? getResumenCuenta(id).getBody() : null;
+        PosicionResena posicion = antesDe(cursor);
+        List<ResenaDTO> resenas = calificacionRepository.findResenasCalificado(id, posicion.getFecha(), posicion.getIdCalificacion(),
+                                                                                Limit.of(tamanoPagina + 1));
+        return paginarResenas(resenas, tamanoPagina, resumen);
+    }
 
-        Optional<Propiedad> propiedad = propiedadRepository.findById(calificacion.getPropiedad().getIdPropiedad());
-        UtilityService.verificarAusencia(propiedad, ManejadorErrores.ERROR_PROPIEDAD_NO_EXISTE);
+    // El resumen se mantiene al guardar cada calificación, así que consultarlo no recorre las calificaciones
+    @Transactional(readOnly = true)
+    public ResponseEntity<ResumenReputacionDTO> getResumenCuenta(Integer id){
+        Optional<ResumenReputacion> resumen = resumenReputacionRepository.findById(id);
+        if (resumen.isPresent()) {
+            return ResponseEntity.ok(crearResumenDTO(resumen.get()));
+        }
+        // Sin resumen la cuenta aún no ha sido calificada, si existe
+        UtilityService.verificarAusencia(cuentaRepository.findById(id), ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
+        return ResponseEntity.ok(crearResumenDTO(new ResumenReputacion(id, 0, 0L, 0, 0, 0, 0, 0, 0, null)));
+    }
 
-        Optional<Solicitud> solicitudTmp = solicitudRepository.findById(calificacion.getSolicitud().getIdSolicitud());
+    // Una sola consulta trae la solicitud con sus participantes; las verificaciones reutilizan esas entidades
+    // y los cambios a la solicitud y la propiedad se escriben al confirmar la transacción
+    @Transactional
+    public ResponseEntity<CalificacionDTO> saveNewCalificacion(CalificacionDTO calificacionDTO){
+        Optional<Solicitud> solicitudTmp = solicitudRepository.findByIdConParticipantes(calificacionDTO.getSolicitud().getIdSolicitud());
         UtilityService.verificarAusencia(solicitudTmp, ManejadorErrores.ERROR_SOLICITUD_NO_EXISTE);
 
         Solicitud solicitud = solicitudTmp.get();
-        if (!solicitud.getEstadoSolicitud().getNombreEstadoSolicitud().equals(SolicitudStatus.POR_CALIFICAR.getNombre())){
+        Calificacion calificacion = verificarCalificacion(calificacionDTO, solicitud);
+        asignarCalificacionSolicitud(calificacionDTO, solicitud);
+        TipoCalificacion tipoCalificacion = TipoCalificacion.fromString(calificacionDTO.getTipoCalificacion());
+        calificacion.setTipoCalificacion(tipoCalificacion);
+        calificacion.setFechaCalificacion(LocalDateTime.now());
+        // Las calificaciones a la propiedad se acumulan en la propiedad, no en la reputación de la cuenta
+        if (tipoCalificacion != TipoCalificacion.ARRENDATARIO_A_PROPIEDAD) {
+            resumenReputacionRepository.registrarCalificacion(calificacion.getCalificado().getIdCuenta(),
+                                                              calificacionDTO.getPuntaje(), calificacion.getFechaCalificacion());
+        }
+
+        calificacion = calificacionRepository.save(calificacion);
+        calificacionDTO = CalificacionMapper.crearCalificacionDTO(calificacion);
+        return ResponseEntity.ok(calificacionDTO);
+    }
+
+    private Calificacion verificarCalificacion(CalificacionDTO calificacion, Solicitud solicitud){
+        if (catalogoEstados.estadoDe(solicitud.getEstadoSolicitud()) != SolicitudStatus.POR_CALIFICAR){
             UtilityService.devolverBadRequest(ManejadorErrores.ERROR_SOLICITUD_NO_PUEDE_SER_CALIFICADA);
         }
-        verificarEntidades(solicitud, calificacion);
+        Integer idCalificador = calificacion.getCalificador().getIdCuenta();
+        Integer idCalificado = calificacion.getCalificado().getIdCuenta();
+        Integer idPropiedad = calificacion.getPropiedad().getIdPropiedad();
+        if (idCalificado.equals(idCalificador)){
+            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CUENTA_REPETIDA);
+        }
+        Cuenta calificador = participante(solicitud, idCalificador, ManejadorErrores.ERROR_CALIFICADOR_NO_PERTENECE_SOLICITUD);
+        Cuenta calificado = participante(solicitud, idCalificado, ManejadorErrores.ERROR_CALIFICADO_NO_PERTENECE_SOLICITUD);
+        if (!solicitud.getPropiedad().getIdPropiedad().equals(idPropiedad)){
+            UtilityService.verificarAusencia(propiedadRepository.findById(idPropiedad), ManejadorErrores.ERROR_PROPIEDAD_NO_EXISTE);
+            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_PROPIEDAD_NO_PERTENECE_SOLICITUD);
+        }
         if (calificacion.getPuntaje() < 0 || calificacion.getPuntaje() > 5) {
             UtilityService.devolverBadRequest(ManejadorErrores.ERROR_PUNTAJE_INVALIDO);
         }
         Calificacion newCalificacion = modelMapper.map(calificacion, Calificacion.class);
-        newCalificacion.setPropiedad(propiedad.get());
-        newCalificacion.setCalificador(calificador.get());
-        newCalificacion.setCalificado(calificado.get());
+        newCalificacion.setPropiedad(solicitud.getPropiedad());
+        newCalificacion.setCalificador(calificador);
+        newCalificacion.setCalificado(calificado);
         newCalificacion.setSolicitud(solicitud);
         return newCalificacion;
     }
 
-    private void verificarEntidades(Solicitud solicitud, CalificacionDTO calificacionDTO){
-        Integer idCalificador = calificacionDTO.getCalificador().getIdCuenta();
-        Integer idCalificado = calificacionDTO.getCalificado().getIdCuenta();
-        Integer idPropiedad = calificacionDTO.getPropiedad().getIdPropiedad();
-        if (idCalificado.equals(idCalificador)){
-            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CUENTA_REPETIDA);
-        }
-        else if (idCalificador != solicitud.getArrendatario().getIdCuenta() && idCalificador != solicitud.getPropiedad().getArrendador().getIdCuenta()){
-            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CALIFICADOR_NO_PERTENECE_SOLICITUD);
+    // Solo el arrendatario y el arrendador de la propiedad participan en la solicitud
+    private Cuenta participante(Solicitud solicitud, Integer idCuenta, String errorNoPertenece){
+        if (solicitud.getArrendatario().getIdCuenta().equals(idCuenta)) {
+            return solicitud.getArrendatario();
         }
-        else if (idCalificado != solicitud.getArrendatario().getIdCuenta() && idCalificado != solicitud.getPropiedad().getArrendador().getIdCuenta()){
-            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CALIFICADO_NO_PERTENECE_SOLICITUD);
-        }
-        else if (idPropiedad != solicitud.getPropiedad().getIdPropiedad()){
-            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_PROPIEDAD_NO_PERTENECE_SOLICITUD);
+        if (solicitud.getPropiedad().getArrendador().getIdCuenta().equals(idCuenta)) {
+            return solicitud.getPropiedad().getArrendador();
         }
+        // Solo en el caso de error se consulta la cuenta, para distinguir si existe
+        UtilityService.verificarAusencia(cuentaRepository.findById(idCuenta), ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
+        UtilityService.devolverBadRequest(errorNoPertenece);
+        return null;
     }
 
-    protected SimpleSolicitudDTO asignarCalificacionSolicitud(CalificacionDTO calificacionDTO, SimpleSolicitudDTO solicitudDTO){
+    protected Solicitud asignarCalificacionSolicitud(CalificacionDTO calificacionDTO, Solicitud solicitud){
         String tipoCalificacion = calificacionDTO.getTipoCalificacion();
-        Solicitud solicitud = solicitudRepository.findById(solicitudDTO.getIdSolicitud()).get();
         if (tipoCalificacion.equals(TipoCalificacion.ARRENDADOR_A_ARRENDATARIO.getValue()) && !solicitud.isArrendatarioCalificado()) {
-            solicitudDTO.setArrendatarioCalificado(true);
+            solicitud.setArrendatarioCalificado(true);
         }
         else if (tipoCalificacion.equals(TipoCalificacion.ARRENDATARIO_A_ARRENDADOR.getValue()) && !solicitud.isArrendadorCalificado()) {
-            solicitudDTO.setArrendadorCalificado(true);
+            solicitud.setArrendadorCalificado(true);
         }
         else if (tipoCalificacion.equals(TipoCalificacion.ARRENDATARIO_A_PROPIEDAD.getValue()) && !solicitud.isPropiedadCalificado()) {
             // Actualizar puntaje de la propiedad
-            SimplePropiedadDTO propiedadDTO = solicitudDTO.getPropiedad();
-            propiedadDTO.actualizarPuntaje(calificacionDTO.getPuntaje());
-            propiedadService.updatePropiedad(propiedadDTO);
-
-            solicitudDTO.setPropiedadCalificado(true);
+            actualizarPuntaje(solicitud.getPropiedad(), calificacionDTO.getPuntaje());
+            solicitud.setPropiedadCalificado(true);
         }
         else{
             UtilityService.devolverBadRequest(ManejadorErrores.ERROR_TIPO_CALIFICACION_INVALIDO);
         }
 
         // Verificar si la solicitud ya fue calificada en todos los aspectos
-        if (solicitudDTO.isArrendatarioCalificado() && solicitudDTO.isArrendadorCalificado() && solicitudDTO.isPropiedadCalificado()) {
-            SolicitudStatus solicitudStatus = SolicitudStatus.CERRADA;
-            solicitudDTO.setEstadoSolicitud(new EstadoSolicitudDTO(solicitudStatus.getId(), solicitudStatus.getNombre()));
+        if (solicitud.isArrendatarioCalificado() && solicitud.isArrendadorCalificado() && solicitud.isPropiedadCalificado()) {
+            solicitud.setEstadoSolicitud(catalogoEstados.referencia(SolicitudStatus.CERRADA));
         }
 
-        return solicitudDTO;
+        return solicitud;
+    }
+
+    private void actualizarPuntaje(Propiedad propiedad, Integer puntaje) {
+        propiedadRepository.registrarPuntaje(propiedad.getIdPropiedad(), puntaje);
+        estadisticasRegion.registrarCalificacion(propiedad.getIdPropiedad(), puntaje);
+        rankingPropiedades.registrarCalificacion(propiedad.getIdPropiedad(), puntaje);
+        // Refleja el incremento en la entidad cargada; sus columnas no son actualizables y no generan otro UPDATE
+        long suma = propiedad.getSumaPuntajes() == null ? 0 : propiedad.getSumaPuntajes();
+        int cantidad = propiedad.getCantidadCalificaciones() == null ? 0 : propiedad.getCantidadCalificaciones();
+        propiedad.setSumaPuntajes(suma + puntaje);
+        propiedad.setCantidadCalificaciones(cantidad + 1);
+    }
+
+    private static ResumenReputacionDTO crearResumenDTO(ResumenReputacion resumen) {
+        Float promedio = resumen.getCantidadCalificaciones() == 0 ? null
+                       : (float) resumen.getSumaPuntajes() / resumen.getCantidadCalificaciones();
+        List<Integer> histograma = List.of(resumen.getCalificacionesCero(), resumen.getCalificacionesUno(),
+                                           resumen.getCalificacionesDos(), resumen.getCalificacionesTres(),
+                                           resumen.getCalificacionesCuatro(), resumen.getCalificacionesCinco());
+        return new ResumenReputacionDTO(resumen.getIdCuenta(), resumen.getCantidadCalificaciones(), resumen.getSumaPuntajes(),
+                                        promedio, histograma, resumen.getUltimaCalificacion());
+    }
+
+    // Las páginas van de la calificación más reciente a la más antigua
+    // El cursor lleva la fecha y el id de la última reseña entregada; sin cursor se empieza después de cualquier fecha
+    private static PosicionResena antesDe(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return new PosicionResena(SIN_CURSOR, Integer.MAX_VALUE);
+        }
+        String[] partes = UtilityService.decodificarTextoCursor(cursor).split(SEPARADOR_CURSOR);
+        try {
+            return new PosicionResena(LocalDateTime.parse(partes[0]), Integer.valueOf(partes[1]));
+        } catch (RuntimeException e) {
+            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CURSOR_INVALIDO);
+            return null;
+        }
+    }
+
+    private static PaginaResenasDTO paginarResenas(List<ResenaDTO> resenas, int tamanoPagina, ResumenReputacionDTO resumen) {
+        // Se pide un elemento extra para saber si existe una página siguiente
+        boolean haySiguiente = resenas.size() > tamanoPagina;
+        if (haySiguiente) {
+            resenas = resenas.subList(0, tamanoPagina);
+        }
+        ResenaDTO ultima = resenas.isEmpty() ? null : resenas.get(resenas.size() - 1);
+        String siguienteCursor = haySiguiente
+            ? UtilityService.codificarCursor(ultima.getFechaCalificacion() + SEPARADOR_CURSOR + ultima.getIdCalificacion())
+            : null;
+        return new PaginaResenasDTO(resenas, siguienteCursor, tamanoPagina, resumen);
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class PosicionResena {
+        private final LocalDateTime fecha;
+        private final Integer idCalificacion;
     }
 }
@@ -0,0 +1,84 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadIndiceDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.FechasReservaDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.mappers.PropiedadMapper;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// Llena los índices en memoria al iniciar con un solo recorrido de propiedad y uno de solicitud.
+// Cada recorrido va por lotes en orden de id y trae solo las columnas que usan los índices, sin cargar entidades:
+// la memoria de la carga no depende de la cantidad de filas, solo del tamaño de los índices.
+@Component
+public class CargaIndices {
+    private final PropiedadRepository propiedadRepository;
+    private final SolicitudRepository solicitudRepository;
+    private final CatalogoEstadosSolicitud catalogoEstados;
+    private final IndiceFacetasPropiedad indiceFacetas;
+    private final IndiceTextoPropiedad indiceTexto;
+    private final EstadisticasRegion estadisticasRegion;
+    private final RankingPropiedades rankingPropiedades;
+    private final IndiceDisponibilidad indiceDisponibilidad;
+    private final int tamanoLote;
+
+    public CargaIndices(PropiedadRepository propiedadRepository, SolicitudRepository solicitudRepository,
+                        CatalogoEstadosSolicitud catalogoEstados, IndiceFacetasPropiedad indiceFacetas,
+                        IndiceTextoPropiedad indiceTexto, EstadisticasRegion estadisticasRegion,
+                        RankingPropiedades rankingPropiedades, IndiceDisponibilidad indiceDisponibilidad,
+                        @Value("${arriendatufinca.carga-indices.tamano-lote:5000}") int tamanoLote) {
+        this.propiedadRepository = propiedadRepository;
+        this.solicitudRepository = solicitudRepository;
+        this.catalogoEstados = catalogoEstados;
+        this.indiceFacetas = indiceFacetas;
+        this.indiceTexto = indiceTexto;
+        this.estadisticasRegion = estadisticasRegion;
+        this.rankingPropiedades = rankingPropiedades;
+        this.indiceDisponibilidad = indiceDisponibilidad;
+        this.tamanoLote = tamanoLote;
+    }
+
+    @PostConstruct
+    public void init() {
+        cargarPropiedades();
+        cargarReservas();
+    }
+
+    private void cargarPropiedades() {
+        Integer ultimoId = 0;
+        List<PropiedadIndiceDTO> lote;
+        do {
+            lote = propiedadRepository.findIndicePagina(ultimoId, Limit.of(tamanoLote));
+            for (PropiedadIndiceDTO fila : lote) {
+                Propiedad propiedad = PropiedadMapper.crearPropiedad(fila);
+                indiceFacetas.indexar(propiedad);
+                indiceTexto.indexar(propiedad);
+                estadisticasRegion.indexar(propiedad);
+                rankingPropiedades.indexar(propiedad);
+                ultimoId = fila.getIdPropiedad();
+            }
+        } while (lote.size() == tamanoLote);
+    }
+
+    private void cargarReservas() {
+        Integer ultimoId = 0;
+        List<FechasReservaDTO> lote;
+        do {
+            lote = solicitudRepository.findReservasPagina(ultimoId, catalogoEstados.referencia(SolicitudStatus.RECHAZADA),
+                                                          Limit.of(tamanoLote));
+            for (FechasReservaDTO reserva : lote) {
+                indiceDisponibilidad.registrar(reserva);
+                ultimoId = reserva.getIdSolicitud();
+            }
+        } while (lote.size() == tamanoLote);
+    }
+}
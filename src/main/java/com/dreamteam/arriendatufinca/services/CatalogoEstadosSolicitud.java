@@ -0,0 +1,97 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+
+import jakarta.annotation.PostConstruct;
+
+// Relaciona las filas de estado_solicitud (sembradas por data.sql) con SolicitudStatus una sola vez al iniciar,
+// para que las validaciones de estado sean búsquedas por índice sin comparar nombres ni consultar la base de datos.
+@Component
+public class CatalogoEstadosSolicitud {
+    private final EstadoSolicitudRepository estadoSolicitudRepository;
+
+    private volatile SolicitudStatus[] estadosPorId;
+    private volatile Map<SolicitudStatus, EstadoSolicitud> referencias;
+
+    public CatalogoEstadosSolicitud(EstadoSolicitudRepository estadoSolicitudRepository) {
+        this.estadoSolicitudRepository = estadoSolicitudRepository;
+        // Mientras no se cargue la tabla se asumen los ids declarados en el enum
+        List<EstadoSolicitud> filas = Arrays.stream(SolicitudStatus.values())
+                .map(estado -> new EstadoSolicitud(estado.getId(), estado.getNombre()))
+                .collect(Collectors.toList());
+        cargar(filas);
+    }
+
+    @PostConstruct
+    public void init() {
+        List<EstadoSolicitud> filas = estadoSolicitudRepository.findAll();
+        if (!filas.isEmpty()) {
+            cargar(filas);
+        }
+    }
+
+    private void cargar(Collection<EstadoSolicitud> filas) {
+        Map<SolicitudStatus, EstadoSolicitud> deTabla = new EnumMap<>(SolicitudStatus.class);
+        for (EstadoSolicitud fila : filas) {
+            SolicitudStatus estado = SolicitudStatus.fromNombre(fila.getNombreEstadoSolicitud());
+            if (estado != null) {
+                deTabla.put(estado, new EstadoSolicitud(fila.getIdEstadoSolicitud(), fila.getNombreEstadoSolicitud()));
+            }
+        }
+        // Estados del enum que no estén en la tabla conservan su id declarado
+        Map<SolicitudStatus, EstadoSolicitud> nuevasReferencias = new EnumMap<>(SolicitudStatus.class);
+        for (SolicitudStatus estado : SolicitudStatus.values()) {
+            nuevasReferencias.put(estado, new EstadoSolicitud(estado.getId(), estado.getNombre()));
+        }
+        int maximo = 0;
+        for (EstadoSolicitud referencia : nuevasReferencias.values()) {
+            maximo = Math.max(maximo, referencia.getIdEstadoSolicitud());
+        }
+        for (EstadoSolicitud referencia : deTabla.values()) {
+            maximo = Math.max(maximo, referencia.getIdEstadoSolicitud());
+        }
+        SolicitudStatus[] nuevosEstados = new SolicitudStatus[maximo + 1];
+        for (SolicitudStatus estado : SolicitudStatus.values()) {
+            if (!deTabla.containsKey(estado)) {
+                nuevosEstados[estado.getId()] = estado;
+            }
+        }
+        // Los ids de la tabla se escriben al final para prevalecer sobre los declarados
+        for (Map.Entry<SolicitudStatus, EstadoSolicitud> entrada : deTabla.entrySet()) {
+            nuevosEstados[entrada.getValue().getIdEstadoSolicitud()] = entrada.getKey();
+        }
+        nuevasReferencias.putAll(deTabla);
+        estadosPorId = nuevosEstados;
+        referencias = nuevasReferencias;
+    }
+
+    // null si la fila no corresponde a ningún estado conocido
+    public SolicitudStatus estadoDe(EstadoSolicitud estadoSolicitud) {
+        if (estadoSolicitud == null || estadoSolicitud.getIdEstadoSolicitud() == null) {
+            return null;
+        }
+        int id = estadoSolicitud.getIdEstadoSolicitud();
+        SolicitudStatus[] estados = estadosPorId;
+        return id >= 0 && id < estados.length ? estados[id] : null;
+    }
+
+    // Entidad con el id real de la fila; basta como referencia en consultas y asociaciones
+    public EstadoSolicitud referencia(SolicitudStatus solicitudStatus) {
+        return referencias.get(solicitudStatus);
+    }
+
+    public List<EstadoSolicitud> referencias(Collection<SolicitudStatus> estados) {
+        return estados.stream().map(this::referencia).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,275 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import com.opencsv.CSVReader;
+import com.opencsv.exceptions.CsvException;
+
+import lombok.Value;
+
+// Departamentos y municipios de Colombia, inmutables y compartidos por todos los servicios.
+// El CSV se compila a catalogo_geografico.bin durante el build (fase process-classes); si el binario no está
+// en el classpath, por ejemplo al ejecutar desde un IDE sin Maven, se lee el CSV. La carga ocurre en el primer uso.
+@Component
+public class CatalogoGeografico {
+    public static final String ARCHIVO_CSV = "departamentos_y_municipios.csv";
+    public static final String ARCHIVO_BINARIO = "catalogo_geografico.bin";
+    private static final int FIRMA = 0x4147454F;
+    private static final int VERSION = 1;
+
+    private volatile Indice indice;
+
+    @Value
+    public static class Departamento {
+        String codigo;
+        String nombre;
+        String region;
+        List<Municipio> municipios;
+    }
+
+    @Value
+    public static class Municipio {
+        String codigo;
+        String nombre;
+        String departamento;
+        String codigoDepartamento;
+    }
+
+    // Mapas construidos una sola vez; las búsquedas y la validación son accesos por hash
+    private static final class Indice {
+        private final List<Departamento> departamentos;
+        private final Map<String, Departamento> departamentosPorNombre = new HashMap<>();
+        private final Map<String, Departamento> departamentosPorCodigo = new HashMap<>();
+        private final Map<String, Map<String, Municipio>> municipiosPorDepartamento = new HashMap<>();
+        private final Map<String, Municipio> municipiosPorCodigo = new HashMap<>();
+        private final Map<String, List<Departamento>> departamentosPorRegion = new LinkedHashMap<>();
+
+        private Indice(List<Departamento> departamentos) {
+            this.departamentos = Collections.unmodifiableList(departamentos);
+            for (Departamento departamento : departamentos) {
+                departamentosPorNombre.put(departamento.getNombre(), departamento);
+                departamentosPorRegion.computeIfAbsent(departamento.getRegion(), k -> new ArrayList<>()).add(departamento);
+                departamentosPorCodigo.put(departamento.getCodigo(), departamento);
+                Map<String, Municipio> municipios = new HashMap<>();
+                for (Municipio municipio : departamento.getMunicipios()) {
+                    municipios.put(municipio.getNombre(), municipio);
+                    municipiosPorCodigo.put(municipio.getCodigo(), municipio);
+                }
+                municipiosPorDepartamento.put(departamento.getNombre(), municipios);
+            }
+        }
+    }
+
+    public boolean esValido(String municipio, String departamento) {
+        Map<String, Municipio> municipios = indice().municipiosPorDepartamento.get(departamento);
+        return municipios != null && municipios.containsKey(municipio);
+    }
+
+    public List<Departamento> getDepartamentos() {
+        return indice().departamentos;
+    }
+
+    public Optional<Departamento> buscarDepartamento(String nombre) {
+        return Optional.ofNullable(indice().departamentosPorNombre.get(nombre));
+    }
+
+    public Optional<Municipio> buscarMunicipio(String municipio, String departamento) {
+        Map<String, Municipio> municipios = indice().municipiosPorDepartamento.get(departamento);
+        return Optional.ofNullable(municipios == null ? null : municipios.get(municipio));
+    }
+
+    public List<String> getRegiones() {
+        return new ArrayList<>(indice().departamentosPorRegion.keySet());
+    }
+
+    public List<Departamento> getDepartamentosRegion(String region) {
+        return indice().departamentosPorRegion.getOrDefault(region, Collections.emptyList());
+    }
+
+    // null si el departamento no existe
+    public String regionDe(String departamento) {
+        Departamento encontrado = indice().departamentosPorNombre.get(departamento);
+        return encontrado == null ? null : encontrado.getRegion();
+    }
+
+    // Regiones cuyo nombre contiene el texto como inicio de palabra, sin tildes ni el prefijo "Región":
+    // "Caribe" resuelve a "Región Caribe" y "centro" a las dos regiones del centro
+    public List<String> buscarRegiones(String texto) {
+        String buscado = claveRegion(texto);
+        List<String> regiones = new ArrayList<>();
+        if (buscado.isEmpty()) {
+            return regiones;
+        }
+        for (String region : indice().departamentosPorRegion.keySet()) {
+            String clave = claveRegion(region);
+            if (clave.equals(buscado)) {
+                return new ArrayList<>(List.of(region));
+            }
+            if ((" " + clave).contains(" " + buscado)) {
+                regiones.add(region);
+            }
+        }
+        return regiones;
+    }
+
+    private static String claveRegion(String texto) {
+        String clave = NormalizadorTexto.normalizar(texto).replaceAll("[^a-z0-9]+", " ").trim();
+        return clave.startsWith("region ") ? clave.substring("region ".length()) : clave;
+    }
+
+    // Acepta el código con o sin ceros a la izquierda ("5" o "05")
+    public Optional<Departamento> buscarDepartamentoPorCodigo(String codigo) {
+        return Optional.ofNullable(indice().departamentosPorCodigo.get(normalizarCodigoDepartamento(codigo)));
+    }
+
+    // Acepta el código DANE de cinco dígitos ("05001") o el formato numérico del CSV ("5.001")
+    public Optional<Municipio> buscarMunicipioPorCodigo(String codigo) {
+        return Optional.ofNullable(indice().municipiosPorCodigo.get(normalizarCodigoMunicipio(codigo)));
+    }
+
+    private Indice indice() {
+        Indice actual = indice;
+        if (actual == null) {
+            synchronized (this) {
+                actual = indice;
+                if (actual == null) {
+                    actual = new Indice(cargar());
+                    indice = actual;
+                }
+            }
+        }
+        return actual;
+    }
+
+    static List<Departamento> cargar() {
+        try {
+            ClassPathResource binario = new ClassPathResource(ARCHIVO_BINARIO);
+            if (binario.exists()) {
+                try (InputStream entrada = binario.getInputStream()) {
+                    return leerBinario(entrada);
+                }
+            }
+            try (InputStream entrada = new ClassPathResource(ARCHIVO_CSV).getInputStream()) {
+                return leerCsv(entrada);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo cargar el catálogo geográfico", e);
+        }
+    }
+
+    // Columnas: REGION, código del departamento, DEPARTAMENTO, código del municipio, MUNICIPIO
+    static List<Departamento> leerCsv(InputStream entrada) throws IOException {
+        Map<String, String[]> cabeceras = new LinkedHashMap<>();
+        Map<String, List<Municipio>> municipios = new LinkedHashMap<>();
+        try (CSVReader reader = new CSVReader(new InputStreamReader(entrada, StandardCharsets.UTF_8))) {
+            List<String[]> lineas = reader.readAll();
+            for (String[] linea : lineas.subList(1, lineas.size())) {
+                String codigoDepartamento = normalizarCodigoDepartamento(linea[1]);
+                cabeceras.putIfAbsent(linea[2], new String[] {codigoDepartamento, linea[0]});
+                municipios.computeIfAbsent(linea[2], k -> new ArrayList<>())
+                        .add(new Municipio(normalizarCodigoMunicipio(linea[3]), linea[4], linea[2], codigoDepartamento));
+            }
+        } catch (CsvException e) {
+            throw new IOException(e);
+        }
+        List<Departamento> departamentos = new ArrayList<>(cabeceras.size());
+        for (Map.Entry<String, String[]> cabecera : cabeceras.entrySet()) {
+            String[] datos = cabecera.getValue();
+            departamentos.add(new Departamento(datos[0], cabecera.getKey(), datos[1],
+                    Collections.unmodifiableList(municipios.get(cabecera.getKey()))));
+        }
+        return departamentos;
+    }
+
+    static List<Departamento> leerBinario(InputStream entrada) throws IOException {
+        DataInputStream datos = new DataInputStream(new BufferedInputStream(entrada));
+        if (datos.readInt() != FIRMA || datos.readInt() != VERSION) {
+            throw new IOException("Formato de catálogo geográfico no reconocido");
+        }
+        int cantidadDepartamentos = datos.readInt();
+        List<Departamento> departamentos = new ArrayList<>(cantidadDepartamentos);
+        for (int i = 0; i < cantidadDepartamentos; i++) {
+            String codigo = datos.readUTF();
+            String nombre = datos.readUTF();
+            String region = datos.readUTF();
+            int cantidadMunicipios = datos.readInt();
+            List<Municipio> municipios = new ArrayList<>(cantidadMunicipios);
+            for (int j = 0; j < cantidadMunicipios; j++) {
+                municipios.add(new Municipio(datos.readUTF(), datos.readUTF(), nombre, codigo));
+            }
+            departamentos.add(new Departamento(codigo, nombre, region, Collections.unmodifiableList(municipios)));
+        }
+        return departamentos;
+    }
+
+    static void escribirBinario(List<Departamento> departamentos, OutputStream salida) throws IOException {
+        DataOutputStream datos = new DataOutputStream(new BufferedOutputStream(salida));
+        datos.writeInt(FIRMA);
+        datos.writeInt(VERSION);
+        datos.writeInt(departamentos.size());
+        for (Departamento departamento : departamentos) {
+            datos.writeUTF(departamento.getCodigo());
+            datos.writeUTF(departamento.getNombre());
+            datos.writeUTF(departamento.getRegion());
+            datos.writeInt(departamento.getMunicipios().size());
+            for (Municipio municipio : departamento.getMunicipios()) {
+                datos.writeUTF(municipio.getCodigo());
+                datos.writeUTF(municipio.getNombre());
+            }
+        }
+        datos.flush();
+    }
+
+    static String normalizarCodigoDepartamento(String codigo) {
+        String digitos = codigo == null ? "" : codigo.trim();
+        return digitos.length() == 1 ? "0" + digitos : digitos;
+    }
+
+    // El CSV guarda los códigos como números: "5.4" es 05400 y "5.03" es 05030
+    static String normalizarCodigoMunicipio(String codigo) {
+        String texto = codigo == null ? "" : codigo.trim();
+        int punto = texto.indexOf('.');
+        if (punto < 0) {
+            return texto.length() == 4 ? "0" + texto : texto;
+        }
+        StringBuilder municipio = new StringBuilder(texto.substring(punto + 1));
+        while (municipio.length() < 3) {
+            municipio.append('0');
+        }
+        return normalizarCodigoDepartamento(texto.substring(0, punto)) + municipio;
+    }
+
+    // Usado por el build: CSV de origen y archivo binario de destino
+    public static void main(String[] args) throws IOException {
+        List<Departamento> departamentos;
+        try (InputStream entrada = Files.newInputStream(Path.of(args[0]))) {
+            departamentos = leerCsv(entrada);
+        }
+        Path destino = Path.of(args[1]);
+        Files.createDirectories(destino.toAbsolutePath().getParent());
+        try (OutputStream salida = Files.newOutputStream(destino)) {
+            escribirBinario(departamentos, salida);
+        }
+    }
+}
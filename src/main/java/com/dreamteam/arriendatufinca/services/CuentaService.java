@@ -7,12 +7,14 @@ import java.util.stream.Collectors;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
 import com.dreamteam.arriendatufinca.entities.Cuenta;
 import com.dreamteam.arriendatufinca.enums.Estado;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.CuentaRepository;
+import com.dreamteam.arriendatufinca.mappers.CuentaMapper;
 
 @Service
 public class CuentaService {
@@ -24,28 +26,32 @@ public class CuentaService {
         this.modelMapper = modelMapper;
     }
 
+    @Transactional(readOnly = true)
     public List<CuentaDTO> get(){
         List<Cuenta> cuentas = (List<Cuenta>) cuentaRepository.findAll();
-        return cuentas.stream().map(cuenta -> modelMapper.map(cuenta, CuentaDTO.class))
+        return cuentas.stream().map(cuenta -> CuentaMapper.crearCuentaDTO(cuenta))
                                .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<CuentaDTO> get(Integer id){
         Optional<Cuenta> cuentaTmp = cuentaRepository.findById(id);
         UtilityService.verificarAusencia(cuentaTmp, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
         Cuenta cuenta = cuentaTmp.get();
-        CuentaDTO cuentaDTO = modelMapper.map(cuenta, CuentaDTO.class);
+        CuentaDTO cuentaDTO = CuentaMapper.crearCuentaDTO(cuenta);
         return ResponseEntity.ok(cuentaDTO);
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<CuentaDTO> get(String email){
         Optional<Cuenta> cuentaTmp = cuentaRepository.findByEmail(email);
         UtilityService.verificarAusencia(cuentaTmp, ManejadorErrores.ERROR_CORREO_CUENTA_NO_EXISTE);
         Cuenta cuenta = cuentaTmp.get();
-        CuentaDTO cuentaDTO = modelMapper.map(cuenta, CuentaDTO.class);
+        CuentaDTO cuentaDTO = CuentaMapper.crearCuentaDTO(cuenta);
         return ResponseEntity.ok(cuentaDTO);
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<CuentaDTO> login(String email, String contrasena){
         Optional<Cuenta> cuentaTmp = cuentaRepository.findByEmail(email);
         UtilityService.verificarAusencia(cuentaTmp, ManejadorErrores.ERROR_CORREO_CUENTA_NO_EXISTE);
@@ -53,10 +59,11 @@ public class CuentaService {
         if (!cuenta.getContrasena().equals(contrasena)) {
             UtilityService.devolverUnuthorized(ManejadorErrores.ERROR_CONTRASENA_INCORRECTA);
         }
-        CuentaDTO cuentaDTO = modelMapper.map(cuenta, CuentaDTO.class);
+        CuentaDTO cuentaDTO = CuentaMapper.crearCuentaDTO(cuenta);
         return ResponseEntity.ok(cuentaDTO);
     }
 
+    @Transactional
     public ResponseEntity<CuentaDTO> update(CuentaDTO cuentaDTO){
         Optional<Cuenta> optionalCuenta = cuentaRepository.findById(cuentaDTO.getIdCuenta());
         UtilityService.verificarAusencia(optionalCuenta, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
@@ -65,10 +72,11 @@ public class CuentaService {
         cuenta.setNombreCuenta(cuentaDTO.getNombreCuenta());
         cuenta.setEstado(Estado.ACTIVE);
         cuenta = cuentaRepository.save(cuenta); //Actualiza u obtiene el ID
-        cuentaDTO = modelMapper.map(cuenta, CuentaDTO.class);
+        cuentaDTO = CuentaMapper.crearCuentaDTO(cuenta);
         return ResponseEntity.ok(cuentaDTO);
     }
 
+    @Transactional
     public ResponseEntity<CuentaDTO> updateContrasena(CuentaDTO cuentaDTO, String contrasenaIngresada, String nuevaContrasena){
         Optional<Cuenta> optionalCuenta = cuentaRepository.findById(cuentaDTO.getIdCuenta());
         UtilityService.verificarAusencia(optionalCuenta, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
@@ -79,10 +87,11 @@ public class CuentaService {
         }
         cuenta.setContrasena(nuevaContrasena);
         cuenta = cuentaRepository.save(cuenta); //Actualiza u obtiene el ID
-        cuentaDTO = modelMapper.map(cuenta, CuentaDTO.class);
+        cuentaDTO = CuentaMapper.crearCuentaDTO(cuenta);
         return ResponseEntity.ok(cuentaDTO);
     }
 
+    @Transactional
     public void deleteCuenta(Integer id){
         Optional<Cuenta> optionalCuenta = cuentaRepository.findById(id);
         UtilityService.verificarAusencia(optionalCuenta, ManejadorErrores.ERROR_CUENTA_NO_EXISTE);
@@ -0,0 +1,167 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.dtos.ubicacion.EstadisticasRegionDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+// Cantidad de propiedades activas, mediana de valorNoche y puntaje promedio por región.
+// CargaIndices los llena una vez al iniciar y luego se ajustan con cada alta, cambio, baja o calificación,
+// de modo que consultarlos no recorre propiedades.
+@Component
+public class EstadisticasRegion {
+    private final CatalogoGeografico catalogoGeografico;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Lo que cada propiedad aporta a su región, para poder retirarlo al cambiarla
+    private final Map<Integer, Aporte> aportes = new HashMap<>();
+    private final Map<String, Acumulado> regiones = new LinkedHashMap<>();
+
+    private static final class Aporte {
+        private final String region;
+        private final Double valorNoche;
+        private long sumaPuntajes;
+        private int cantidadCalificaciones;
+
+        private Aporte(String region, Double valorNoche, long sumaPuntajes, int cantidadCalificaciones) {
+            this.region = region;
+            this.valorNoche = valorNoche;
+            this.sumaPuntajes = sumaPuntajes;
+            this.cantidadCalificaciones = cantidadCalificaciones;
+        }
+    }
+
+    private static final class Acumulado {
+        private int cantidadPropiedades = 0;
+        private long sumaPuntajes = 0;
+        private int cantidadCalificaciones = 0;
+        private final MedianaDinamica valoresNoche = new MedianaDinamica();
+    }
+
+    public EstadisticasRegion(CatalogoGeografico catalogoGeografico) {
+        this.catalogoGeografico = catalogoGeografico;
+        for (String region : catalogoGeografico.getRegiones()) {
+            regiones.put(region, new Acumulado());
+        }
+    }
+
+    public void indexar(Propiedad propiedad) {
+        lock.writeLock().lock();
+        try {
+            Aporte anterior = removerSinBloqueo(propiedad.getIdPropiedad());
+            String region = catalogoGeografico.regionDe(propiedad.getDepartamento());
+            // Propiedades inactivas o con un departamento que no está en el catálogo no cuentan
+            if (propiedad.getEstado() != Estado.ACTIVE || region == null) {
+                return;
+            }
+            Double valorNoche = propiedad.getValorNoche() == null ? null : propiedad.getValorNoche().doubleValue();
+            // Si ya estaba indexada conserva sus calificaciones: las de la entidad pueden ser anteriores a una
+            // calificación confirmada mientras se editaba la propiedad
+            Aporte aporte = anterior != null
+                    ? new Aporte(region, valorNoche, anterior.sumaPuntajes, anterior.cantidadCalificaciones)
+                    : new Aporte(region, valorNoche,
+                            propiedad.getSumaPuntajes() == null ? 0 : propiedad.getSumaPuntajes(),
+                            propiedad.getCantidadCalificaciones() == null ? 0 : propiedad.getCantidadCalificaciones());
+            aportes.put(propiedad.getIdPropiedad(), aporte);
+            Acumulado acumulado = regiones.get(region);
+            acumulado.cantidadPropiedades++;
+            acumulado.sumaPuntajes += aporte.sumaPuntajes;
+            acumulado.cantidadCalificaciones += aporte.cantidadCalificaciones;
+            if (valorNoche != null) {
+                acumulado.valoresNoche.agregar(valorNoche);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Integer idPropiedad) {
+        lock.writeLock().lock();
+        try {
+            removerSinBloqueo(idPropiedad);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Dentro de una transacción el puntaje se suma al confirmarla, igual que en la base de datos
+    public void registrarCalificacion(Integer idPropiedad, int puntaje) {
+        UtilityService.ejecutarAlConfirmar(() -> sumarCalificacion(idPropiedad, puntaje));
+    }
+
+    public List<EstadisticasRegionDTO> getEstadisticas() {
+        lock.readLock().lock();
+        try {
+            List<EstadisticasRegionDTO> resultado = new ArrayList<>(regiones.size());
+            for (Map.Entry<String, Acumulado> region : regiones.entrySet()) {
+                resultado.add(crearEstadisticasDTO(region.getKey(), region.getValue()));
+            }
+            return resultado;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long contarPropiedades(List<String> nombresRegiones) {
+        lock.readLock().lock();
+        try {
+            long total = 0;
+            for (String region : nombresRegiones) {
+                Acumulado acumulado = regiones.get(region);
+                total += acumulado == null ? 0 : acumulado.cantidadPropiedades;
+            }
+            return total;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void sumarCalificacion(Integer idPropiedad, int puntaje) {
+        lock.writeLock().lock();
+        try {
+            Aporte aporte = aportes.get(idPropiedad);
+            if (aporte == null) {
+                return;
+            }
+            aporte.sumaPuntajes += puntaje;
+            aporte.cantidadCalificaciones++;
+            Acumulado acumulado = regiones.get(aporte.region);
+            acumulado.sumaPuntajes += puntaje;
+            acumulado.cantidadCalificaciones++;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private Aporte removerSinBloqueo(Integer idPropiedad) {
+        Aporte aporte = aportes.remove(idPropiedad);
+        if (aporte == null) {
+            return null;
+        }
+        Acumulado acumulado = regiones.get(aporte.region);
+        acumulado.cantidadPropiedades--;
+        acumulado.sumaPuntajes -= aporte.sumaPuntajes;
+        acumulado.cantidadCalificaciones -= aporte.cantidadCalificaciones;
+        if (aporte.valorNoche != null) {
+            acumulado.valoresNoche.remover(aporte.valorNoche);
+        }
+        return aporte;
+    }
+
+    private static EstadisticasRegionDTO crearEstadisticasDTO(String region, Acumulado acumulado) {
+        Double mediana = acumulado.valoresNoche.mediana();
+        Float puntajePromedio = acumulado.cantidadCalificaciones == 0 ? null
+                : (float) acumulado.sumaPuntajes / acumulado.cantidadCalificaciones;
+        return new EstadisticasRegionDTO(region, acumulado.cantidadPropiedades, mediana == null ? null : mediana.floatValue(),
+                puntajePromedio, acumulado.cantidadCalificaciones);
+    }
+}
@@ -0,0 +1,164 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.dtos.solicitud.FechasReservaDTO;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Por cada propiedad guarda los rangos [fechaInicio, fechaFinal) ocupados por solicitudes
+// no rechazadas, fusionados en una lista ordenada y sin traslapes. CargaIndices lo llena al iniciar.
+@Component
+public class IndiceDisponibilidad {
+    private final CatalogoEstadosSolicitud catalogoEstados;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<Integer, Reserva> reservas = new HashMap<>();
+    private final Map<Integer, Set<Integer>> solicitudesPorPropiedad = new HashMap<>();
+    private final Map<Integer, TreeMap<LocalDateTime, LocalDateTime>> ocupacion = new HashMap<>();
+
+    public IndiceDisponibilidad(CatalogoEstadosSolicitud catalogoEstados) {
+        this.catalogoEstados = catalogoEstados;
+    }
+
+    // Registra o actualiza las fechas de una solicitud; si quedó rechazada las libera
+    public void registrar(Solicitud solicitud) {
+        lock.writeLock().lock();
+        try {
+            retirarSinBloqueo(solicitud.getIdSolicitud());
+            if (solicitud.getPropiedad() == null || solicitud.getFechaInicio() == null || solicitud.getFechaFinal() == null
+                    || esRechazada(solicitud)) {
+                return;
+            }
+            agregarSinBloqueo(solicitud.getIdSolicitud(),
+                              new Reserva(solicitud.getPropiedad().getIdPropiedad(), solicitud.getFechaInicio(), solicitud.getFechaFinal()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Fechas de una solicitud que ya se sabe no rechazada, como las de la carga inicial
+    public void registrar(FechasReservaDTO fechas) {
+        lock.writeLock().lock();
+        try {
+            retirarSinBloqueo(fechas.getIdSolicitud());
+            agregarSinBloqueo(fechas.getIdSolicitud(), new Reserva(fechas.getIdPropiedad(), fechas.getFechaInicio(), fechas.getFechaFinal()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Las transiciones no cambian las fechas: solo el rechazo libera las ya registradas
+    public void cambiarEstado(Integer idSolicitud, SolicitudStatus estado) {
+        if (estado == SolicitudStatus.RECHAZADA) {
+            retirar(idSolicitud);
+        }
+    }
+
+    public void retirar(Integer idSolicitud) {
+        lock.writeLock().lock();
+        try {
+            retirarSinBloqueo(idSolicitud);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean estaDisponible(Integer idPropiedad, LocalDateTime desde, LocalDateTime hasta) {
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDateTime, LocalDateTime> rangos = ocupacion.get(idPropiedad);
+            if (rangos == null) {
+                return true;
+            }
+            // Al estar fusionados, el último rango que empieza antes de "hasta" es el único que puede traslapar
+            Map.Entry<LocalDateTime, LocalDateTime> anterior = rangos.lowerEntry(hasta);
+            return anterior == null || !anterior.getValue().isAfter(desde);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Las propiedades sin reservas están disponibles en cualquier rango: solo estas hace falta verificar
+    public List<Integer> propiedadesConReservas() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(ocupacion.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void agregarSinBloqueo(Integer idSolicitud, Reserva reserva) {
+        reservas.put(idSolicitud, reserva);
+        solicitudesPorPropiedad.computeIfAbsent(reserva.getIdPropiedad(), k -> new HashSet<>()).add(idSolicitud);
+        agregarRango(ocupacion.computeIfAbsent(reserva.getIdPropiedad(), k -> new TreeMap<>()), reserva.getInicio(), reserva.getFin());
+    }
+
+    private void retirarSinBloqueo(Integer idSolicitud) {
+        Reserva reserva = reservas.remove(idSolicitud);
+        if (reserva == null) {
+            return;
+        }
+        Set<Integer> solicitudes = solicitudesPorPropiedad.get(reserva.getIdPropiedad());
+        solicitudes.remove(idSolicitud);
+        // Quitar un rango puede partir uno fusionado: se reconstruyen solo los de esta propiedad
+        TreeMap<LocalDateTime, LocalDateTime> rangos = new TreeMap<>();
+        for (Integer idRestante : solicitudes) {
+            Reserva restante = reservas.get(idRestante);
+            agregarRango(rangos, restante.getInicio(), restante.getFin());
+        }
+        if (rangos.isEmpty()) {
+            ocupacion.remove(reserva.getIdPropiedad());
+            solicitudesPorPropiedad.remove(reserva.getIdPropiedad());
+        } else {
+            ocupacion.put(reserva.getIdPropiedad(), rangos);
+        }
+    }
+
+    private static void agregarRango(TreeMap<LocalDateTime, LocalDateTime> rangos, LocalDateTime inicio, LocalDateTime fin) {
+        Map.Entry<LocalDateTime, LocalDateTime> anterior = rangos.floorEntry(inicio);
+        if (anterior != null && !anterior.getValue().isBefore(inicio)) {
+            inicio = anterior.getKey();
+            fin = max(fin, anterior.getValue());
+            rangos.remove(anterior.getKey());
+        }
+        Map.Entry<LocalDateTime, LocalDateTime> siguiente = rangos.ceilingEntry(inicio);
+        while (siguiente != null && !siguiente.getKey().isAfter(fin)) {
+            fin = max(fin, siguiente.getValue());
+            rangos.remove(siguiente.getKey());
+            siguiente = rangos.ceilingEntry(inicio);
+        }
+        rangos.put(inicio, fin);
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private boolean esRechazada(Solicitud solicitud) {
+        return catalogoEstados.estadoDe(solicitud.getEstadoSolicitud()) == SolicitudStatus.RECHAZADA;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Reserva {
+        private final Integer idPropiedad;
+        private final LocalDateTime inicio;
+        private final LocalDateTime fin;
+    }
+}
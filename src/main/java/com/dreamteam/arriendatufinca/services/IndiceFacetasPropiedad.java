@@ -0,0 +1,445 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntPredicate;
+
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.dtos.propiedad.FiltroPropiedadDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+// Índice en memoria con un bitmap por valor de atributo. Cada propiedad activa ocupa
+// una posición fija; filtrar es intersectar bitmaps y cada faceta es la cardinalidad de
+// la intersección del resultado con el bitmap de su valor. CargaIndices lo llena al iniciar.
+@Component
+public class IndiceFacetasPropiedad {
+    public static final String FACETA_DEPARTAMENTO = "departamento";
+    public static final String FACETA_MUNICIPIO = "municipio";
+    public static final String FACETA_HABITACIONES = "cantidadHabitaciones";
+    public static final String FACETA_BANOS = "cantidadBanos";
+    public static final String FACETA_MASCOTAS = "permiteMascotas";
+    public static final String FACETA_PISCINA = "tienePiscina";
+    public static final String FACETA_ASADOR = "tieneAsador";
+    // Con menos resultados que 1/DENSIDAD_MINIMA del índice la página sale de recorrer sus bits; si no, de avanzar en orden de id
+    private static final int DENSIDAD_MINIMA = 8;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Ordenado por id para paginar con cursor sin recorrer todos los resultados
+    private final NavigableMap<Integer, Integer> posiciones = new TreeMap<>();
+    private final Deque<Integer> posicionesLibres = new ArrayDeque<>();
+    private Entrada[] entradas = new Entrada[1024];
+    private int siguientePosicion = 0;
+
+    private final MapaBits activas = new MapaBits();
+    private final Map<String, MapaBits> porDepartamento = new HashMap<>();
+    private final Map<String, MapaBits> porMunicipio = new HashMap<>();
+    private final TreeMap<Integer, MapaBits> porHabitaciones = new TreeMap<>();
+    private final TreeMap<Integer, MapaBits> porBanos = new TreeMap<>();
+    private final MapaBits permiteMascotas = new MapaBits();
+    private final MapaBits tienePiscina = new MapaBits();
+    private final MapaBits tieneAsador = new MapaBits();
+
+    public void indexar(Propiedad propiedad) {
+        lock.writeLock().lock();
+        try {
+            removerSinBloqueo(propiedad.getIdPropiedad());
+            if (propiedad.getEstado() != Estado.ACTIVE) {
+                return;
+            }
+            int posicion = posicionesLibres.isEmpty() ? siguientePosicion++ : posicionesLibres.pop();
+            if (posicion >= entradas.length) {
+                entradas = Arrays.copyOf(entradas, entradas.length * 2);
+            }
+            Entrada entrada = new Entrada(propiedad);
+            entradas[posicion] = entrada;
+            posiciones.put(entrada.getIdPropiedad(), posicion);
+
+            activas.set(posicion);
+            bitmap(porDepartamento, entrada.getDepartamento()).set(posicion);
+            bitmap(porMunicipio, entrada.getMunicipio()).set(posicion);
+            bitmap(porHabitaciones, entrada.getCantidadHabitaciones()).set(posicion);
+            bitmap(porBanos, entrada.getCantidadBanos()).set(posicion);
+            permiteMascotas.set(posicion, entrada.isPermiteMascotas());
+            tienePiscina.set(posicion, entrada.isTienePiscina());
+            tieneAsador.set(posicion, entrada.isTieneAsador());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Integer idPropiedad) {
+        lock.writeLock().lock();
+        try {
+            removerSinBloqueo(idPropiedad);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Página de hasta "tamano" ids mayores que ultimoId, en orden de id, con el total y las facetas de todo el resultado
+    public ResultadoFacetas buscar(FiltroPropiedadDTO filtro, Integer ultimoId, int tamano) {
+        return buscar(filtro, List.of(), null, ultimoId, tamano);
+    }
+
+    // Combina los filtros del índice con una condición externa (p. ej. disponibilidad). La condición solo se evalúa
+    // para las propiedades de porVerificar que cumplen el filtro; las demás se incluyen sin consultarla
+    public ResultadoFacetas buscar(FiltroPropiedadDTO filtro, Collection<Integer> porVerificar, IntPredicate incluir,
+                                   Integer ultimoId, int tamano) {
+        lock.readLock().lock();
+        try {
+            MapaBits resultado = filtrar(filtro);
+            if (incluir != null) {
+                MapaBits candidatas = new MapaBits();
+                for (Integer idPropiedad : porVerificar) {
+                    Integer posicion = posiciones.get(idPropiedad);
+                    if (posicion != null) {
+                        candidatas.set(posicion);
+                    }
+                }
+                candidatas.and(resultado);
+                for (int posicion = candidatas.siguiente(0); posicion >= 0; posicion = candidatas.siguiente(posicion + 1)) {
+                    if (!incluir.test(entradas[posicion].getIdPropiedad())) {
+                        resultado.clear(posicion);
+                    }
+                }
+            }
+            int total = resultado.cardinalidad();
+            List<Integer> ids = pagina(resultado, total, ultimoId, tamano + 1);
+            boolean haySiguiente = ids.size() > tamano;
+            if (haySiguiente) {
+                ids = ids.subList(0, tamano);
+            }
+            return new ResultadoFacetas(ids, total, haySiguiente, contarFacetas(resultado, total));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private MapaBits filtrar(FiltroPropiedadDTO filtro) {
+        MapaBits resultado = activas.copia();
+        if (filtro.getDepartamento() != null) {
+            intersectar(resultado, porDepartamento.get(filtro.getDepartamento()));
+        }
+        if (filtro.getMunicipio() != null) {
+            intersectar(resultado, porMunicipio.get(filtro.getMunicipio()));
+        }
+        if (filtro.getCantidadHabitaciones() != null) {
+            resultado.and(unirDesde(porHabitaciones, filtro.getCantidadHabitaciones()));
+        }
+        if (filtro.getCantidadBanos() != null) {
+            resultado.and(unirDesde(porBanos, filtro.getCantidadBanos()));
+        }
+        filtrarBooleano(resultado, permiteMascotas, filtro.getPermiteMascotas());
+        filtrarBooleano(resultado, tienePiscina, filtro.getTienePiscina());
+        filtrarBooleano(resultado, tieneAsador, filtro.getTieneAsador());
+
+        // El rango de precio se evalúa solo sobre los candidatos que quedan
+        if (filtro.getValorNocheMinimo() != null || filtro.getValorNocheMaximo() != null) {
+            float minimo = filtro.getValorNocheMinimo() != null ? filtro.getValorNocheMinimo() : Float.NEGATIVE_INFINITY;
+            float maximo = filtro.getValorNocheMaximo() != null ? filtro.getValorNocheMaximo() : Float.POSITIVE_INFINITY;
+            for (int posicion = resultado.siguiente(0); posicion >= 0; posicion = resultado.siguiente(posicion + 1)) {
+                Float valor = entradas[posicion].getValorNoche();
+                if (valor == null || valor < minimo || valor > maximo) {
+                    resultado.clear(posicion);
+                }
+            }
+        }
+        return resultado;
+    }
+
+    private List<Integer> pagina(MapaBits resultado, int total, Integer ultimoId, int limite) {
+        if (limite <= 1 || total == 0) {
+            return new ArrayList<>();
+        }
+        if ((long) total * DENSIDAD_MINIMA < posiciones.size()) {
+            // Resultado disperso: sus ids caben en un arreglo pequeño que se ordena
+            int[] ids = new int[total];
+            int cantidad = 0;
+            for (int posicion = resultado.siguiente(0); posicion >= 0; posicion = resultado.siguiente(posicion + 1)) {
+                int id = entradas[posicion].getIdPropiedad();
+                if (id > ultimoId) {
+                    ids[cantidad++] = id;
+                }
+            }
+            Arrays.sort(ids, 0, cantidad);
+            List<Integer> pagina = new ArrayList<>(Math.min(cantidad, limite));
+            for (int i = 0; i < cantidad && pagina.size() < limite; i++) {
+                pagina.add(ids[i]);
+            }
+            return pagina;
+        }
+        // Resultado denso: en promedio se revisan menos de DENSIDAD_MINIMA ids por cada uno que entra en la página
+        List<Integer> pagina = new ArrayList<>(limite);
+        for (Map.Entry<Integer, Integer> posicion : posiciones.tailMap(ultimoId, false).entrySet()) {
+            if (resultado.get(posicion.getValue())) {
+                pagina.add(posicion.getKey());
+                if (pagina.size() == limite) {
+                    break;
+                }
+            }
+        }
+        return pagina;
+    }
+
+    private Map<String, Map<String, Integer>> contarFacetas(MapaBits resultado, int total) {
+        Map<String, Map<String, Integer>> facetas = new LinkedHashMap<>();
+        if (total == 0) {
+            return facetas;
+        }
+        facetas.put(FACETA_DEPARTAMENTO, contar(porDepartamento, resultado));
+        facetas.put(FACETA_MUNICIPIO, contar(porMunicipio, resultado));
+        facetas.put(FACETA_HABITACIONES, contar(porHabitaciones, resultado));
+        facetas.put(FACETA_BANOS, contar(porBanos, resultado));
+        facetas.put(FACETA_MASCOTAS, contarBooleano(permiteMascotas, resultado, total));
+        facetas.put(FACETA_PISCINA, contarBooleano(tienePiscina, resultado, total));
+        facetas.put(FACETA_ASADOR, contarBooleano(tieneAsador, resultado, total));
+        return facetas;
+    }
+
+    private static <K> Map<String, Integer> contar(Map<K, MapaBits> bitmaps, MapaBits resultado) {
+        Map<String, Integer> conteos = new TreeMap<>();
+        for (Map.Entry<K, MapaBits> valor : bitmaps.entrySet()) {
+            int cantidad = resultado.cardinalidadInterseccion(valor.getValue());
+            if (cantidad > 0) {
+                conteos.put(String.valueOf(valor.getKey()), cantidad);
+            }
+        }
+        return conteos;
+    }
+
+    private static Map<String, Integer> contarBooleano(MapaBits bitmap, MapaBits resultado, int total) {
+        Map<String, Integer> conteos = new TreeMap<>();
+        int verdaderos = resultado.cardinalidadInterseccion(bitmap);
+        if (total > verdaderos) {
+            conteos.put(String.valueOf(false), total - verdaderos);
+        }
+        if (verdaderos > 0) {
+            conteos.put(String.valueOf(true), verdaderos);
+        }
+        return conteos;
+    }
+
+    private void removerSinBloqueo(Integer idPropiedad) {
+        Integer posicion = posiciones.remove(idPropiedad);
+        if (posicion == null) {
+            return;
+        }
+        Entrada entrada = entradas[posicion];
+        activas.clear(posicion);
+        limpiar(porDepartamento, entrada.getDepartamento(), posicion);
+        limpiar(porMunicipio, entrada.getMunicipio(), posicion);
+        limpiar(porHabitaciones, entrada.getCantidadHabitaciones(), posicion);
+        limpiar(porBanos, entrada.getCantidadBanos(), posicion);
+        permiteMascotas.clear(posicion);
+        tienePiscina.clear(posicion);
+        tieneAsador.clear(posicion);
+        entradas[posicion] = null;
+        posicionesLibres.push(posicion);
+    }
+
+    private static <K> MapaBits bitmap(Map<K, MapaBits> bitmaps, K valor) {
+        return bitmaps.computeIfAbsent(valor, k -> new MapaBits());
+    }
+
+    private static <K> void limpiar(Map<K, MapaBits> bitmaps, K valor, int posicion) {
+        MapaBits bitmap = bitmaps.get(valor);
+        if (bitmap != null) {
+            bitmap.clear(posicion);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(valor);
+            }
+        }
+    }
+
+    private static void intersectar(MapaBits resultado, MapaBits bitmap) {
+        if (bitmap == null) {
+            resultado.clearAll();
+        } else {
+            resultado.and(bitmap);
+        }
+    }
+
+    private static MapaBits unirDesde(TreeMap<Integer, MapaBits> bitmaps, Integer minimo) {
+        MapaBits union = new MapaBits();
+        for (MapaBits bitmap : bitmaps.tailMap(minimo, true).values()) {
+            union.or(bitmap);
+        }
+        return union;
+    }
+
+    private static void filtrarBooleano(MapaBits resultado, MapaBits bitmap, Boolean valor) {
+        if (Boolean.TRUE.equals(valor)) {
+            resultado.and(bitmap);
+        } else if (Boolean.FALSE.equals(valor)) {
+            resultado.andNot(bitmap);
+        }
+    }
+
+    // Bitmap sobre long[]; a diferencia de BitSet cuenta la intersección con otro sin copiarlo
+    static final class MapaBits {
+        private long[] palabras;
+
+        MapaBits() {
+            this(new long[16]);
+        }
+
+        private MapaBits(long[] palabras) {
+            this.palabras = palabras;
+        }
+
+        void set(int posicion) {
+            int indice = posicion >>> 6;
+            if (indice >= palabras.length) {
+                palabras = Arrays.copyOf(palabras, Math.max(indice + 1, palabras.length * 2));
+            }
+            palabras[indice] |= 1L << posicion;
+        }
+
+        void set(int posicion, boolean valor) {
+            if (valor) {
+                set(posicion);
+            } else {
+                clear(posicion);
+            }
+        }
+
+        void clear(int posicion) {
+            int indice = posicion >>> 6;
+            if (indice < palabras.length) {
+                palabras[indice] &= ~(1L << posicion);
+            }
+        }
+
+        void clearAll() {
+            Arrays.fill(palabras, 0L);
+        }
+
+        boolean get(int posicion) {
+            int indice = posicion >>> 6;
+            return indice < palabras.length && (palabras[indice] & (1L << posicion)) != 0;
+        }
+
+        boolean isEmpty() {
+            for (long palabra : palabras) {
+                if (palabra != 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        MapaBits copia() {
+            return new MapaBits(palabras.clone());
+        }
+
+        void and(MapaBits otro) {
+            int comunes = Math.min(palabras.length, otro.palabras.length);
+            for (int i = 0; i < comunes; i++) {
+                palabras[i] &= otro.palabras[i];
+            }
+            Arrays.fill(palabras, comunes, palabras.length, 0L);
+        }
+
+        void andNot(MapaBits otro) {
+            int comunes = Math.min(palabras.length, otro.palabras.length);
+            for (int i = 0; i < comunes; i++) {
+                palabras[i] &= ~otro.palabras[i];
+            }
+        }
+
+        void or(MapaBits otro) {
+            if (otro.palabras.length > palabras.length) {
+                palabras = Arrays.copyOf(palabras, otro.palabras.length);
+            }
+            for (int i = 0; i < otro.palabras.length; i++) {
+                palabras[i] |= otro.palabras[i];
+            }
+        }
+
+        int cardinalidad() {
+            int cantidad = 0;
+            for (long palabra : palabras) {
+                cantidad += Long.bitCount(palabra);
+            }
+            return cantidad;
+        }
+
+        int cardinalidadInterseccion(MapaBits otro) {
+            int comunes = Math.min(palabras.length, otro.palabras.length);
+            int cantidad = 0;
+            for (int i = 0; i < comunes; i++) {
+                cantidad += Long.bitCount(palabras[i] & otro.palabras[i]);
+            }
+            return cantidad;
+        }
+
+        // Siguiente posición marcada desde "desde" (inclusive), o -1
+        int siguiente(int desde) {
+            int indice = desde >>> 6;
+            if (indice >= palabras.length) {
+                return -1;
+            }
+            long palabra = palabras[indice] & (-1L << desde);
+            while (true) {
+                if (palabra != 0) {
+                    return indice * 64 + Long.numberOfTrailingZeros(palabra);
+                }
+                if (++indice == palabras.length) {
+                    return -1;
+                }
+                palabra = palabras[indice];
+            }
+        }
+    }
+
+    @Getter
+    private static class Entrada {
+        private final Integer idPropiedad;
+        private final String departamento;
+        private final String municipio;
+        private final Integer cantidadHabitaciones;
+        private final Integer cantidadBanos;
+        private final boolean permiteMascotas;
+        private final boolean tienePiscina;
+        private final boolean tieneAsador;
+        private final Float valorNoche;
+
+        Entrada(Propiedad propiedad) {
+            this.idPropiedad = propiedad.getIdPropiedad();
+            this.departamento = propiedad.getDepartamento();
+            this.municipio = propiedad.getMunicipio();
+            this.cantidadHabitaciones = propiedad.getCantidadHabitaciones() != null ? propiedad.getCantidadHabitaciones() : 0;
+            this.cantidadBanos = propiedad.getCantidadBanos() != null ? propiedad.getCantidadBanos() : 0;
+            this.permiteMascotas = Boolean.TRUE.equals(propiedad.getPermiteMascotas());
+            this.tienePiscina = Boolean.TRUE.equals(propiedad.getTienePiscina());
+            this.tieneAsador = Boolean.TRUE.equals(propiedad.getTieneAsador());
+            this.valorNoche = propiedad.getValorNoche();
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ResultadoFacetas {
+        private final List<Integer> ids;
+        private final int total;
+        private final boolean haySiguiente;
+        private final Map<String, Map<String, Integer>> facetas;
+    }
+}
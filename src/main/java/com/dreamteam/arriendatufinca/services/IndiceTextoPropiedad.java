@@ -0,0 +1,397 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+// Índice invertido sobre nombre, descripción y ubicación de las propiedades con ranking BM25. CargaIndices lo llena al iniciar
+@Component
+public class IndiceTextoPropiedad {
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+    // El nombre se indexa dos veces para pesar más que la descripción
+    private static final int PESO_NOMBRE = 2;
+    private static final int CAPACIDAD_INICIAL = 1024;
+    // Holgura de las cotas frente al redondeo de los puntajes en float
+    private static final float MARGEN_COTA = 1.0001f;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Cada propiedad ocupa un slot denso; las listas de postings guardan slots en orden ascendente
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Integer, Integer> slotPorPropiedad = new HashMap<>();
+    private int[] propiedadPorSlot = new int[CAPACIDAD_INICIAL];
+    private float[] longitudes = new float[CAPACIDAD_INICIAL];
+    private String[][] terminosPorSlot = new String[CAPACIDAD_INICIAL][];
+    private int[] slotsLibres = new int[CAPACIDAD_INICIAL];
+    private int cantidadLibres = 0;
+    private int cantidadSlots = 0;
+    private long longitudTotal = 0;
+
+    // Las consultas concurrentes toman cada una su acumulador; solo se crean tantos como consultas simultáneas
+    private final Queue<Acumulador> acumuladores = new ConcurrentLinkedQueue<>();
+
+    private static final class Postings {
+        private int[] slots = new int[4];
+        private int[] frecuencias = new int[4];
+        private int tamano;
+        // Cotas del aporte del término: solo se relajan al agregar, así que siguen siendo válidas al remover
+        private int frecuenciaMaxima;
+        private float longitudMinima = Float.MAX_VALUE;
+
+        private void agregar(int slot, int frecuencia, float longitud) {
+            int posicion = tamano == 0 || slots[tamano - 1] < slot ? tamano : -(Arrays.binarySearch(slots, 0, tamano, slot) + 1);
+            if (tamano == slots.length) {
+                slots = Arrays.copyOf(slots, tamano * 2);
+                frecuencias = Arrays.copyOf(frecuencias, tamano * 2);
+            }
+            System.arraycopy(slots, posicion, slots, posicion + 1, tamano - posicion);
+            System.arraycopy(frecuencias, posicion, frecuencias, posicion + 1, tamano - posicion);
+            slots[posicion] = slot;
+            frecuencias[posicion] = frecuencia;
+            tamano++;
+            frecuenciaMaxima = Math.max(frecuenciaMaxima, frecuencia);
+            longitudMinima = Math.min(longitudMinima, longitud);
+        }
+
+        private void remover(int slot) {
+            int posicion = Arrays.binarySearch(slots, 0, tamano, slot);
+            System.arraycopy(slots, posicion + 1, slots, posicion, tamano - posicion - 1);
+            System.arraycopy(frecuencias, posicion + 1, frecuencias, posicion, tamano - posicion - 1);
+            tamano--;
+        }
+    }
+
+    // Término de la consulta con su idf y la cota superior de lo que puede sumar a un documento
+    private static final class TerminoConsulta {
+        private final Postings postings;
+        private final float idf;
+        private final float cota;
+
+        private TerminoConsulta(Postings postings, float idf, float cota) {
+            this.postings = postings;
+            this.idf = idf;
+            this.cota = cota;
+        }
+
+        private float getCota() {
+            return cota;
+        }
+    }
+
+    // Arreglos de trabajo de una consulta; puntajes queda en cero al devolverlo
+    private static final class Acumulador {
+        private float[] puntajes = new float[0];
+        private int[] tocados = new int[0];
+        private int[] candidatos = new int[0];
+        private int[] monticulo = new int[0];
+
+        private void preparar(int capacidad, int limite) {
+            if (puntajes.length < capacidad) {
+                puntajes = new float[capacidad];
+                tocados = new int[capacidad];
+                candidatos = new int[capacidad];
+            }
+            if (monticulo.length < limite) {
+                monticulo = new int[limite];
+            }
+        }
+    }
+
+    public void indexar(Propiedad propiedad) {
+        Map<String, Integer> frecuencias = new HashMap<>();
+        if (propiedad.getEstado() == Estado.ACTIVE) {
+            for (int i = 0; i < PESO_NOMBRE; i++) {
+                contarTerminos(frecuencias, propiedad.getNombrePropiedad());
+            }
+            contarTerminos(frecuencias, propiedad.getDescripcionPropiedad());
+            contarTerminos(frecuencias, propiedad.getMunicipio());
+            contarTerminos(frecuencias, propiedad.getDepartamento());
+        }
+        int longitud = 0;
+        for (Integer frecuencia : frecuencias.values()) {
+            longitud += frecuencia;
+        }
+
+        lock.writeLock().lock();
+        try {
+            removerSinBloqueo(propiedad.getIdPropiedad());
+            if (frecuencias.isEmpty()) {
+                return;
+            }
+            int slot = asignarSlot(propiedad.getIdPropiedad());
+            String[] terminos = new String[frecuencias.size()];
+            int i = 0;
+            for (Map.Entry<String, Integer> termino : frecuencias.entrySet()) {
+                postings.computeIfAbsent(termino.getKey(), k -> new Postings()).agregar(slot, termino.getValue(), longitud);
+                terminos[i++] = termino.getKey();
+            }
+            terminosPorSlot[slot] = terminos;
+            longitudes[slot] = longitud;
+            longitudTotal += longitud;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remover(Integer idPropiedad) {
+        lock.writeLock().lock();
+        try {
+            removerSinBloqueo(idPropiedad);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Devuelve los ids de las propiedades más relevantes, de mayor a menor puntaje
+    public List<Integer> buscar(String consulta, int limite) {
+        LinkedHashSet<String> terminos = new LinkedHashSet<>(NormalizadorTexto.terminos(consulta));
+        if (terminos.isEmpty() || limite <= 0) {
+            return new ArrayList<>();
+        }
+
+        lock.readLock().lock();
+        try {
+            int cantidadDocumentos = slotPorPropiedad.size();
+            float longitudPromedio = cantidadDocumentos == 0 ? 0 : (float) longitudTotal / cantidadDocumentos;
+            List<TerminoConsulta> consultaTerminos = new ArrayList<>(terminos.size());
+            for (String termino : terminos) {
+                Postings documentos = postings.get(termino);
+                if (documentos == null) {
+                    continue;
+                }
+                float idf = (float) Math.log(1 + (cantidadDocumentos - documentos.tamano + 0.5) / (documentos.tamano + 0.5));
+                float cota = aporte(idf, documentos.frecuenciaMaxima, documentos.longitudMinima, longitudPromedio) * MARGEN_COTA;
+                consultaTerminos.add(new TerminoConsulta(documentos, idf, cota));
+            }
+            if (consultaTerminos.isEmpty()) {
+                return new ArrayList<>();
+            }
+            consultaTerminos.sort(Comparator.comparingDouble(TerminoConsulta::getCota).reversed());
+
+            Acumulador acumulador = acumuladores.poll();
+            if (acumulador == null) {
+                acumulador = new Acumulador();
+            }
+            acumulador.preparar(cantidadSlots, Math.min(limite, cantidadSlots));
+            try {
+                return puntuar(consultaTerminos, limite, longitudPromedio, acumulador);
+            } finally {
+                acumuladores.offer(acumulador);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // MaxScore por término: los términos de cota alta se recorren completos; cuando la suma de las cotas restantes ya no
+    // alcanza el k-ésimo mejor puntaje, ningún documento nuevo puede entrar al top y los términos frecuentes que quedan
+    // solo se consultan para los candidatos que aún pueden llegar, saltando por su lista en vez de recorrerla
+    private List<Integer> puntuar(List<TerminoConsulta> terminos, int limite, float longitudPromedio, Acumulador acumulador) {
+        float[] puntajes = acumulador.puntajes;
+        int[] tocados = acumulador.tocados;
+        int cantidadTerminos = terminos.size();
+        float[] restante = new float[cantidadTerminos + 1];
+        for (int i = cantidadTerminos - 1; i >= 0; i--) {
+            restante[i] = restante[i + 1] + terminos.get(i).cota;
+        }
+
+        int cantidadTocados = 0;
+        try {
+            float umbral = 0;
+            int i = 0;
+            for (; i < cantidadTerminos && restante[i] >= umbral; i++) {
+                TerminoConsulta termino = terminos.get(i);
+                Postings documentos = termino.postings;
+                for (int j = 0; j < documentos.tamano; j++) {
+                    int slot = documentos.slots[j];
+                    if (puntajes[slot] == 0) {
+                        tocados[cantidadTocados++] = slot;
+                    }
+                    puntajes[slot] += aporte(termino.idf, documentos.frecuencias[j], longitudes[slot], longitudPromedio);
+                }
+                if (i + 1 < cantidadTerminos) {
+                    umbral = umbral(tocados, cantidadTocados, limite, acumulador);
+                }
+            }
+            if (i == cantidadTerminos) {
+                return mejores(tocados, cantidadTocados, limite, acumulador);
+            }
+
+            int[] candidatos = acumulador.candidatos;
+            int cantidadCandidatos = podar(tocados, cantidadTocados, candidatos, puntajes, restante[i], umbral);
+            Arrays.sort(candidatos, 0, cantidadCandidatos);
+            for (; i < cantidadTerminos; i++) {
+                TerminoConsulta termino = terminos.get(i);
+                Postings documentos = termino.postings;
+                int posicion = 0;
+                for (int j = 0; j < cantidadCandidatos && posicion < documentos.tamano; j++) {
+                    int slot = candidatos[j];
+                    int encontrado = buscarDesde(documentos.slots, posicion, documentos.tamano, slot);
+                    if (encontrado >= 0) {
+                        puntajes[slot] += aporte(termino.idf, documentos.frecuencias[encontrado], longitudes[slot], longitudPromedio);
+                        posicion = encontrado + 1;
+                    } else {
+                        posicion = -(encontrado + 1);
+                    }
+                }
+                umbral = umbral(candidatos, cantidadCandidatos, limite, acumulador);
+                cantidadCandidatos = podar(candidatos, cantidadCandidatos, candidatos, puntajes, restante[i + 1], umbral);
+            }
+            return mejores(candidatos, cantidadCandidatos, limite, acumulador);
+        } finally {
+            for (int j = 0; j < cantidadTocados; j++) {
+                puntajes[tocados[j]] = 0;
+            }
+        }
+    }
+
+    private static float aporte(float idf, int frecuencia, float longitud, float longitudPromedio) {
+        return idf * frecuencia * (K1 + 1) / (frecuencia + K1 * (1 - B + B * longitud / longitudPromedio));
+    }
+
+    // Conserva, en el mismo orden, los slots que con lo que falta aún pueden alcanzar el umbral
+    private static int podar(int[] slots, int cantidad, int[] destino, float[] puntajes, float restante, float umbral) {
+        int conservados = 0;
+        for (int i = 0; i < cantidad; i++) {
+            if (puntajes[slots[i]] + restante >= umbral) {
+                destino[conservados++] = slots[i];
+            }
+        }
+        return conservados;
+    }
+
+    // Búsqueda galopante desde la posición anterior; mismo resultado que Arrays.binarySearch
+    private static int buscarDesde(int[] slots, int desde, int tamano, int slot) {
+        int bajo = desde;
+        int alto = desde;
+        int paso = 1;
+        while (alto < tamano && slots[alto] < slot) {
+            bajo = alto + 1;
+            alto += paso;
+            paso <<= 1;
+        }
+        return Arrays.binarySearch(slots, bajo, Math.min(alto + 1, tamano), slot);
+    }
+
+    // Puntaje del k-ésimo mejor slot; mientras no haya k, cualquier documento puede entrar
+    private float umbral(int[] slots, int cantidad, int limite, Acumulador acumulador) {
+        if (cantidad < limite) {
+            return 0;
+        }
+        seleccionar(slots, cantidad, limite, acumulador);
+        return acumulador.puntajes[acumulador.monticulo[0]];
+    }
+
+    private List<Integer> mejores(int[] slots, int cantidad, int limite, Acumulador acumulador) {
+        int tamano = seleccionar(slots, cantidad, limite, acumulador);
+        Integer[] ids = new Integer[tamano];
+        for (int i = tamano - 1; i >= 0; i--) {
+            ids[i] = propiedadPorSlot[acumulador.monticulo[0]];
+            acumulador.monticulo[0] = acumulador.monticulo[i];
+            hundir(acumulador.monticulo, 0, i, acumulador.puntajes);
+        }
+        return new ArrayList<>(Arrays.asList(ids));
+    }
+
+    // Montículo de mínimos con los mejores slots; la raíz es el peor de ellos
+    private int seleccionar(int[] slots, int cantidad, int limite, Acumulador acumulador) {
+        int[] monticulo = acumulador.monticulo;
+        float[] puntajes = acumulador.puntajes;
+        int tamano = 0;
+        for (int i = 0; i < cantidad; i++) {
+            int slot = slots[i];
+            if (tamano < limite) {
+                monticulo[tamano] = slot;
+                int hijo = tamano++;
+                while (hijo > 0 && peor(monticulo[hijo], monticulo[(hijo - 1) / 2], puntajes)) {
+                    int padre = (hijo - 1) / 2;
+                    monticulo[hijo] = monticulo[padre];
+                    monticulo[padre] = slot;
+                    hijo = padre;
+                }
+            } else if (peor(monticulo[0], slot, puntajes)) {
+                monticulo[0] = slot;
+                hundir(monticulo, 0, tamano, puntajes);
+            }
+        }
+        return tamano;
+    }
+
+    private void hundir(int[] monticulo, int posicion, int tamano, float[] puntajes) {
+        while (true) {
+            int menor = posicion;
+            int izquierdo = 2 * posicion + 1;
+            int derecho = izquierdo + 1;
+            if (izquierdo < tamano && peor(monticulo[izquierdo], monticulo[menor], puntajes)) {
+                menor = izquierdo;
+            }
+            if (derecho < tamano && peor(monticulo[derecho], monticulo[menor], puntajes)) {
+                menor = derecho;
+            }
+            if (menor == posicion) {
+                return;
+            }
+            int slot = monticulo[posicion];
+            monticulo[posicion] = monticulo[menor];
+            monticulo[menor] = slot;
+            posicion = menor;
+        }
+    }
+
+    // Menor puntaje primero; a igual puntaje pierde el id mayor
+    private boolean peor(int slot, int otro, float[] puntajes) {
+        return puntajes[slot] < puntajes[otro] || (puntajes[slot] == puntajes[otro] && propiedadPorSlot[slot] > propiedadPorSlot[otro]);
+    }
+
+    private int asignarSlot(Integer idPropiedad) {
+        int slot = cantidadLibres > 0 ? slotsLibres[--cantidadLibres] : cantidadSlots++;
+        if (cantidadSlots > propiedadPorSlot.length) {
+            int capacidad = propiedadPorSlot.length * 2;
+            propiedadPorSlot = Arrays.copyOf(propiedadPorSlot, capacidad);
+            longitudes = Arrays.copyOf(longitudes, capacidad);
+            terminosPorSlot = Arrays.copyOf(terminosPorSlot, capacidad);
+            slotsLibres = Arrays.copyOf(slotsLibres, capacidad);
+        }
+        slotPorPropiedad.put(idPropiedad, slot);
+        propiedadPorSlot[slot] = idPropiedad;
+        return slot;
+    }
+
+    private void removerSinBloqueo(Integer idPropiedad) {
+        Integer slot = slotPorPropiedad.remove(idPropiedad);
+        if (slot == null) {
+            return;
+        }
+        for (String termino : terminosPorSlot[slot]) {
+            Postings documentos = postings.get(termino);
+            documentos.remover(slot);
+            if (documentos.tamano == 0) {
+                postings.remove(termino);
+            }
+        }
+        longitudTotal -= (long) longitudes[slot];
+        longitudes[slot] = 0;
+        terminosPorSlot[slot] = null;
+        slotsLibres[cantidadLibres++] = slot;
+    }
+
+    private static void contarTerminos(Map<String, Integer> frecuencias, String texto) {
+        for (String termino : NormalizadorTexto.terminos(texto)) {
+            frecuencias.merge(termino, 1, Integer::sum);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// Mediana con dos montículos: la mitad inferior y la superior de los valores, balanceadas en tamaño.
+// Se usan multiconjuntos ordenados (valor -> repeticiones) en lugar de colas de prioridad para poder
+// retirar un valor concreto en O(log n) cuando una propiedad cambia de precio o se desactiva.
+class MedianaDinamica {
+    private final TreeMap<Double, Integer> inferiores = new TreeMap<>();
+    private final TreeMap<Double, Integer> superiores = new TreeMap<>();
+    private int tamanoInferiores = 0;
+    private int tamanoSuperiores = 0;
+
+    void agregar(double valor) {
+        if (tamanoInferiores == 0 || valor <= inferiores.lastKey()) {
+            sumar(inferiores, valor);
+            tamanoInferiores++;
+        } else {
+            sumar(superiores, valor);
+            tamanoSuperiores++;
+        }
+        balancear();
+    }
+
+    // Devuelve false si el valor no estaba registrado
+    boolean remover(double valor) {
+        if (restar(inferiores, valor)) {
+            tamanoInferiores--;
+        } else if (restar(superiores, valor)) {
+            tamanoSuperiores--;
+        } else {
+            return false;
+        }
+        balancear();
+        return true;
+    }
+
+    int tamano() {
+        return tamanoInferiores + tamanoSuperiores;
+    }
+
+    // null si no hay valores
+    Double mediana() {
+        if (tamano() == 0) {
+            return null;
+        }
+        if (tamanoInferiores > tamanoSuperiores) {
+            return inferiores.lastKey();
+        }
+        return (inferiores.lastKey() + superiores.firstKey()) / 2;
+    }
+
+    // La mitad inferior tiene el mismo tamaño que la superior o uno más
+    private void balancear() {
+        if (tamanoInferiores > tamanoSuperiores + 1) {
+            double valor = inferiores.lastKey();
+            restar(inferiores, valor);
+            sumar(superiores, valor);
+            tamanoInferiores--;
+            tamanoSuperiores++;
+        } else if (tamanoSuperiores > tamanoInferiores) {
+            double valor = superiores.firstKey();
+            restar(superiores, valor);
+            sumar(inferiores, valor);
+            tamanoSuperiores--;
+            tamanoInferiores++;
+        }
+    }
+
+    private static void sumar(Map<Double, Integer> valores, double valor) {
+        valores.merge(valor, 1, Integer::sum);
+    }
+
+    private static boolean restar(Map<Double, Integer> valores, double valor) {
+        Integer repeticiones = valores.get(valor);
+        if (repeticiones == null) {
+            return false;
+        }
+        if (repeticiones == 1) {
+            valores.remove(valor);
+        } else {
+            valores.put(valor, repeticiones - 1);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+public class NormalizadorTexto {
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^a-z0-9]+");
+    private static final Set<String> PALABRAS_VACIAS = Set.of(
+        "a", "al", "con", "de", "del", "el", "en", "es", "la", "las", "lo", "los", "muy", "para",
+        "por", "que", "se", "sin", "su", "sus", "un", "una", "unos", "unas", "y", "o");
+
+    private NormalizadorTexto(){
+        throw new IllegalStateException("Utility class");
+    }
+
+    // Minúsculas y sin tildes: "Bogotá" y "bogota" quedan iguales
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        String descompuesto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(descompuesto).replaceAll("").toLowerCase(Locale.ROOT).trim();
+    }
+
+    // Términos normalizados, sin palabras vacías y reducidos a su raíz
+    public static List<String> terminos(String texto) {
+        List<String> terminos = new ArrayList<>();
+        for (String token : SEPARADORES.split(normalizar(texto))) {
+            if (!token.isEmpty() && !PALABRAS_VACIAS.contains(token)) {
+                terminos.add(raiz(token));
+            }
+        }
+        return terminos;
+    }
+
+    // Lematizador liviano para español: quita el plural y la vocal final
+    static String raiz(String palabra) {
+        String raiz = palabra;
+        if (raiz.length() > 4 && raiz.endsWith("es") && "rlnd".indexOf(raiz.charAt(raiz.length() - 3)) >= 0) {
+            raiz = raiz.substring(0, raiz.length() - 2);
+        } else if (raiz.length() > 3 && raiz.endsWith("s")) {
+            raiz = raiz.substring(0, raiz.length() - 1);
+        }
+        if (raiz.length() > 4 && "aoe".indexOf(raiz.charAt(raiz.length() - 1)) >= 0) {
+            raiz = raiz.substring(0, raiz.length() - 1);
+        }
+        return raiz;
+    }
+}
@@ -1,64 +1,89 @@
 package com.dreamteam.arriendatufinca.services;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 import org.modelmapper.ModelMapper;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.PaginaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ErrorImportacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.FiltroPropiedadDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ResultadoBusquedaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ResultadoImportacionDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.ubicacion.EstadisticasRegionDTO;
 import com.dreamteam.arriendatufinca.entities.Arrendador;
 import com.dreamteam.arriendatufinca.entities.Propiedad;
 import com.dreamteam.arriendatufinca.enums.Estado;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
 import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Departamento;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Municipio;
+import com.dreamteam.arriendatufinca.mappers.PropiedadMapper;
 import com.opencsv.CSVReader;
+import com.opencsv.CSVReaderBuilder;
 import com.opencsv.exceptions.CsvException;
 
-import jakarta.annotation.PostConstruct;
-
 @Service
 public class PropiedadService {
+    // Filas por transacción de la importación; cada lote sale en lotes JDBC de hibernate.jdbc.batch_size
+    public static final int TAMANO_LOTE_IMPORTACION = 500;
+    public static final int MAXIMO_ERRORES_IMPORTACION = 100;
+    // Un campo entre comillas no puede abarcar más líneas que estas, así una comilla sin cerrar no carga el resto del archivo
+    private static final int MAXIMO_LINEAS_CAMPO_IMPORTACION = 20;
+    private static final List<String> COLUMNAS_OBLIGATORIAS_IMPORTACION = List.of("nombrepropiedad", "municipio", "departamento");
+
     private final PropiedadRepository propiedadRepository;
     private final ArrendadorRepository arrendadorRepository;
     private final ModelMapper modelMapper;
+    private final IndiceFacetasPropiedad indiceFacetas;
+    private final IndiceTextoPropiedad indiceTexto;
+    private final IndiceDisponibilidad indiceDisponibilidad;
+    private final CatalogoGeografico catalogoGeografico;
+    private final SugerenciasUbicacion sugerenciasUbicacion;
+    private final EstadisticasRegion estadisticasRegion;
+    private final RankingPropiedades rankingPropiedades;
+    private final TransactionTemplate transactionTemplate;
 
-    private Map<String, List<String>> departamentosMunicipios;
-
-    public PropiedadService(PropiedadRepository propiedadRepository, ArrendadorRepository arrendadorRepository, ModelMapper modelMapper) {
+    public PropiedadService(PropiedadRepository propiedadRepository, ArrendadorRepository arrendadorRepository, ModelMapper modelMapper,
+                            IndiceFacetasPropiedad indiceFacetas, IndiceTextoPropiedad indiceTexto,
+                            IndiceDisponibilidad indiceDisponibilidad, CatalogoGeografico catalogoGeografico,
+                            SugerenciasUbicacion sugerenciasUbicacion, EstadisticasRegion estadisticasRegion,
+                            RankingPropiedades rankingPropiedades, PlatformTransactionManager transactionManager) {
         this.propiedadRepository = propiedadRepository;
         this.arrendadorRepository = arrendadorRepository;
         this.modelMapper = modelMapper;
+        this.indiceFacetas = indiceFacetas;
+        this.indiceTexto = indiceTexto;
+        this.indiceDisponibilidad = indiceDisponibilidad;
+        this.catalogoGeografico = catalogoGeografico;
+        this.sugerenciasUbicacion = sugerenciasUbicacion;
+        this.estadisticasRegion = estadisticasRegion;
+        this.rankingPropiedades = rankingPropiedades;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
-    @PostConstruct
-    public void init() throws IOException, CsvException {
-        departamentosMunicipios = new HashMap<>();
-        ClassPathResource resource = new ClassPathResource("departamentos_y_municipios.csv");
-        try (CSVReader reader = new CSVReader(new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
-            List<String[]> lines = reader.readAll();
-            // Saltar la primera línea (cabecera)
-            lines.remove(0);
-            for (String[] line : lines) {
-                String departamento = line[2]; // Columna "DEPARTAMENTO"
-                String municipio = line[4];    // Columna "MUNICIPIO"
-                departamentosMunicipios.computeIfAbsent(departamento, k -> new ArrayList<>()).add(municipio);
-            }
-        }
-    }
-
+    @Transactional
     public ResponseEntity<SimplePropiedadDTO> saveNewPropiedad(SimplePropiedadDTO propiedadDTO) {
         Optional<Arrendador> arrendadorTmp = arrendadorRepository.findById(propiedadDTO.getArrendador().getIdCuenta());
         // Verificar los datos de la propiedad
@@ -74,13 +99,16 @@ public class PropiedadService {
         newPropiedad.setArrendador(arrendador);
         newPropiedad.setEstado(Estado.ACTIVE);
         newPropiedad.setCantidadCalificaciones(0);
-        newPropiedad.setPuntajePromedio(null);
+        newPropiedad.setSumaPuntajes(0L);
         newPropiedad = propiedadRepository.save(newPropiedad);
-        propiedadDTO = modelMapper.map(newPropiedad, SimplePropiedadDTO.class);
+        Propiedad guardada = newPropiedad;
+        UtilityService.ejecutarAlConfirmar(() -> indexar(guardada));
+        propiedadDTO = PropiedadMapper.crearSimplePropiedadDTO(newPropiedad);
 
         return ResponseEntity.ok(propiedadDTO);
     }
 
+    @Transactional
     public ResponseEntity<SimplePropiedadDTO> updatePropiedad(SimplePropiedadDTO propiedadDTO){
         // Verificar que la propiedad exista y coincida
         Propiedad propiedad = verificarPropiedadExistente(propiedadDTO, propiedadDTO.getArrendador());
@@ -88,12 +116,207 @@ public class PropiedadService {
         // Actualizar la propiedad
         Propiedad newPropiedad = modelMapper.map(propiedadDTO, Propiedad.class);
         newPropiedad.setEstado(propiedad.getEstado());
+        // Los contadores de calificaciones no se toman del cliente
+        newPropiedad.setSumaPuntajes(propiedad.getSumaPuntajes());
+        newPropiedad.setCantidadCalificaciones(propiedad.getCantidadCalificaciones());
         newPropiedad = propiedadRepository.save(newPropiedad);
+        Propiedad guardada = newPropiedad;
+        UtilityService.ejecutarAlConfirmar(() -> indexar(guardada));
 
-        propiedadDTO = modelMapper.map(newPropiedad, SimplePropiedadDTO.class);
+        propiedadDTO = PropiedadMapper.crearSimplePropiedadDTO(newPropiedad);
         return ResponseEntity.ok(propiedadDTO);
     }
 
+    private void indexar(Propiedad propiedad) {
+        indiceFacetas.indexar(propiedad);
+        indiceTexto.indexar(propiedad);
+        estadisticasRegion.indexar(propiedad);
+        rankingPropiedades.indexar(propiedad);
+    }
+
+    // Lee el CSV fila a fila y guarda en transacciones de TAMANO_LOTE_IMPORTACION filas: la memoria usada no depende
+    // del tamaño del archivo. Las filas inválidas se reportan y no detienen la importación.
+    // Sin transacción envolvente: cada lote se confirma por separado
+    public ResultadoImportacionDTO importarPropiedades(Integer idArrendador, InputStream entrada) {
+        Optional<Arrendador> arrendadorTmp = arrendadorRepository.findById(idArrendador);
+        UtilityService.verificarAusencia(arrendadorTmp, ManejadorErrores.ERROR_ARRENDADOR_NO_EXISTE);
+        Arrendador arrendador = arrendadorTmp.get();
+
+        ResultadoImportacionDTO resultado = new ResultadoImportacionDTO(0, 0, 0, new ArrayList<>());
+        List<Propiedad> lote = new ArrayList<>(TAMANO_LOTE_IMPORTACION);
+        List<Long> filasLote = new ArrayList<>(TAMANO_LOTE_IMPORTACION);
+        try (CSVReader reader = new CSVReaderBuilder(new InputStreamReader(entrada, StandardCharsets.UTF_8))
+                .withMultilineLimit(MAXIMO_LINEAS_CAMPO_IMPORTACION).build()) {
+            Map<String, Integer> columnas = leerCabeceraImportacion(reader);
+            String[] linea;
+            while ((linea = leerLineaImportacion(reader, resultado)) != null) {
+                if (linea.length == 1 && linea[0].isBlank()) {
+                    continue;
+                }
+                resultado.setFilasLeidas(resultado.getFilasLeidas() + 1);
+                try {
+                    Propiedad propiedad = crearPropiedadImportada(linea, columnas, resultado.getErrores().size() < MAXIMO_ERRORES_IMPORTACION);
+                    propiedad.setArrendador(arrendador);
+                    lote.add(propiedad);
+                    filasLote.add(reader.getLinesRead());
+                } catch (IllegalArgumentException e) {
+                    registrarErrorImportacion(resultado, reader.getLinesRead(), e.getMessage());
+                }
+                if (lote.size() == TAMANO_LOTE_IMPORTACION) {
+                    guardarLoteImportacion(lote, filasLote, resultado);
+                }
+            }
+        } catch (IOException e) {
+            // Las filas de los lotes ya confirmados se conservan; el error queda en el reporte
+            registrarErrorImportacion(resultado, null, ManejadorErrores.ERROR_ARCHIVO_IMPORTACION_INVALIDO);
+        }
+        guardarLoteImportacion(lote, filasLote, resultado);
+        return resultado;
+    }
+
+    private Map<String, Integer> leerCabeceraImportacion(CSVReader reader) throws IOException {
+        String[] cabecera = null;
+        try {
+            cabecera = reader.readNext();
+        } catch (CsvException e) {
+            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_ARCHIVO_IMPORTACION_INVALIDO);
+        }
+        if (cabecera == null) {
+            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_ARCHIVO_IMPORTACION_INVALIDO);
+        }
+        // Los nombres de columna son los de BasePropiedadDTO, sin distinguir mayúsculas; se ignora el BOM de Excel
+        Map<String, Integer> columnas = new HashMap<>();
+        for (int i = 0; i < cabecera.length; i++) {
+            columnas.putIfAbsent(cabecera[i].replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (String columna : COLUMNAS_OBLIGATORIAS_IMPORTACION) {
+            if (!columnas.containsKey(columna)) {
+                UtilityService.devolverBadRequest(ManejadorErrores.ERROR_COLUMNA_IMPORTACION_FALTANTE + columna);
+            }
+        }
+        return columnas;
+    }
+
+    // Una línea mal formada se reporta y se salta; la lectura sigue con la siguiente
+    private String[] leerLineaImportacion(CSVReader reader, ResultadoImportacionDTO resultado) throws IOException {
+        while (true) {
+            try {
+                return reader.readNext();
+            } catch (CsvException e) {
+                resultado.setFilasLeidas(resultado.getFilasLeidas() + 1);
+                registrarErrorImportacion(resultado, e.getLineNumber(), ManejadorErrores.ERROR_ARCHIVO_IMPORTACION_INVALIDO);
+            }
+        }
+    }
+
+    // Las sugerencias de ubicación solo se calculan para errores que alcanzan a entrar en el reporte
+    private Propiedad crearPropiedadImportada(String[] linea, Map<String, Integer> columnas, boolean conSugerencias) {
+        for (String columna : COLUMNAS_OBLIGATORIAS_IMPORTACION) {
+            if (valorImportado(linea, columnas, columna) == null) {
+                throw new IllegalArgumentException(ManejadorErrores.ERROR_CAMPO_IMPORTACION_VACIO + columna);
+            }
+        }
+        String municipio = valorImportado(linea, columnas, "municipio");
+        String departamento = valorImportado(linea, columnas, "departamento");
+        if (!verificarMunicipioYDepartamento(municipio, departamento)) {
+            throw new IllegalArgumentException(conSugerencias ? mensajeUbicacionInvalida(municipio, departamento)
+                                                              : ManejadorErrores.ERROR_MUNICIPIO_O_DEPARTAMENTO_INVALIDO);
+        }
+
+        Propiedad propiedad = new Propiedad();
+        propiedad.setNombrePropiedad(valorImportado(linea, columnas, "nombrepropiedad"));
+        propiedad.setDescripcionPropiedad(valorImportado(linea, columnas, "descripcionpropiedad"));
+        propiedad.setMunicipio(municipio);
+        propiedad.setDepartamento(departamento);
+        propiedad.setTipoIngreso(valorImportado(linea, columnas, "tipoingreso"));
+        propiedad.setCantidadHabitaciones(enteroImportado(linea, columnas, "cantidadhabitaciones"));
+        propiedad.setCantidadBanos(enteroImportado(linea, columnas, "cantidadbanos"));
+        propiedad.setPermiteMascotas(booleanoImportado(linea, columnas, "permitemascotas"));
+        propiedad.setTienePiscina(booleanoImportado(linea, columnas, "tienepiscina"));
+        propiedad.setTieneAsador(booleanoImportado(linea, columnas, "tieneasador"));
+        String valorNoche = valorImportado(linea, columnas, "valornoche");
+        try {
+            propiedad.setValorNoche(valorNoche == null ? null : Float.valueOf(valorNoche));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ManejadorErrores.ERROR_VALOR_IMPORTACION_INVALIDO + "valornoche", e);
+        }
+        propiedad.setEstado(Estado.ACTIVE);
+        propiedad.setCantidadCalificaciones(0);
+        propiedad.setSumaPuntajes(0L);
+        return propiedad;
+    }
+
+    private static String valorImportado(String[] linea, Map<String, Integer> columnas, String columna) {
+        Integer indice = columnas.get(columna);
+        if (indice == null || indice >= linea.length || linea[indice].isBlank()) {
+            return null;
+        }
+        return linea[indice].trim();
+    }
+
+    private static Integer enteroImportado(String[] linea, Map<String, Integer> columnas, String columna) {
+        String valor = valorImportado(linea, columnas, columna);
+        try {
+            return valor == null ? null : Integer.valueOf(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(ManejadorErrores.ERROR_VALOR_IMPORTACION_INVALIDO + columna, e);
+        }
+    }
+
+    private static Boolean booleanoImportado(String[] linea, Map<String, Integer> columnas, String columna) {
+        String valor = valorImportado(linea, columnas, columna);
+        if (valor == null) {
+            return null;
+        }
+        switch (NormalizadorTexto.normalizar(valor)) {
+            case "true", "si", "1":
+                return true;
+            case "false", "no", "0":
+                return false;
+            default:
+                throw new IllegalArgumentException(ManejadorErrores.ERROR_VALOR_IMPORTACION_INVALIDO + columna);
+        }
+    }
+
+    // Si el lote falla se reintenta fila por fila, cada una en su propia transacción: solo las filas que fallan
+    // quedan en el reporte y las demás del lote se guardan
+    private void guardarLoteImportacion(List<Propiedad> lote, List<Long> filasLote, ResultadoImportacionDTO resultado) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(estado -> propiedadRepository.saveAll(lote));
+            // Los índices en memoria solo ven lo que ya se confirmó
+            lote.forEach(this::indexar);
+            resultado.setPropiedadesCreadas(resultado.getPropiedadesCreadas() + lote.size());
+        } catch (DataAccessException e) {
+            for (int i = 0; i < lote.size(); i++) {
+                guardarFilaImportacion(lote.get(i), filasLote.get(i), resultado);
+            }
+        }
+        lote.clear();
+        filasLote.clear();
+    }
+
+    private void guardarFilaImportacion(Propiedad propiedad, Long fila, ResultadoImportacionDTO resultado) {
+        // El intento en lote pudo asignarle un id que se deshizo junto con su transacción
+        propiedad.setIdPropiedad(null);
+        try {
+            transactionTemplate.executeWithoutResult(estado -> propiedadRepository.save(propiedad));
+            indexar(propiedad);
+            resultado.setPropiedadesCreadas(resultado.getPropiedadesCreadas() + 1);
+        } catch (DataAccessException e) {
+            registrarErrorImportacion(resultado, fila, ManejadorErrores.ERROR_FILA_IMPORTACION_FALLIDA);
+        }
+    }
+
+    private static void registrarErrorImportacion(ResultadoImportacionDTO resultado, Long fila, String mensaje) {
+        resultado.setCantidadErrores(resultado.getCantidadErrores() + 1);
+        if (resultado.getErrores().size() < MAXIMO_ERRORES_IMPORTACION) {
+            resultado.getErrores().add(new ErrorImportacionDTO(fila, mensaje));
+        }
+    }
+
     private Propiedad verificarPropiedadExistente(SimplePropiedadDTO propiedadDTO, CuentaDTO arrendadorDTO) {
         Optional<Propiedad> propiedadTmp = propiedadRepository.findById(propiedadDTO.getIdPropiedad());
         UtilityService.verificarAusencia(propiedadTmp, ManejadorErrores.ERROR_PROPIEDAD_NO_EXISTE);
@@ -115,24 +338,156 @@ public class PropiedadService {
 
         // Verificar que el municipio y departamento sean válidos
         if (!verificarMunicipioYDepartamento(propiedad.getMunicipio(), propiedad.getDepartamento())) {
-           UtilityService.devolverBadRequest(ManejadorErrores.ERROR_MUNICIPIO_O_DEPARTAMENTO_INVALIDO);
+           UtilityService.devolverBadRequest(mensajeUbicacionInvalida(propiedad.getMunicipio(), propiedad.getDepartamento()));
+        }
+    }
+
+    // Agrega al error los municipios parecidos: "Medellin" sugiere "Medellín (Antioquia)"
+    private String mensajeUbicacionInvalida(String municipio, String departamento) {
+        List<Municipio> sugerencias = sugerenciasUbicacion.sugerirMunicipio(municipio, departamento, SugerenciasUbicacion.CANTIDAD_QUISO_DECIR);
+        if (sugerencias.isEmpty()) {
+            return ManejadorErrores.ERROR_MUNICIPIO_O_DEPARTAMENTO_INVALIDO;
         }
+        String opciones = sugerencias.stream()
+                .map(sugerencia -> sugerencia.getNombre() + " (" + sugerencia.getDepartamento() + ")")
+                .collect(Collectors.joining(", "));
+        return ManejadorErrores.ERROR_MUNICIPIO_O_DEPARTAMENTO_INVALIDO + ManejadorErrores.SUGERENCIA_QUISO_DECIR + opciones + "?";
     }
 
+    @Transactional(readOnly = true)
     public List<PropiedadDTO> getPropiedades(){
-        List<Propiedad> propiedades = (List<Propiedad>) propiedadRepository.findAll();
-        return propiedades.stream().map(propiedad -> modelMapper.map(propiedad, PropiedadDTO.class))
+        List<Object[]> propiedades = propiedadRepository.findAllConDetalle();
+        return propiedades.stream().map(fila -> crearPropiedadDTO(fila))
                                     .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public PaginaDTO<PropiedadDTO> getPaginaPropiedades(String cursor, Integer tamano, boolean incluirTotal){
+        int tamanoPagina = UtilityService.acotarTamanoPagina(tamano);
+        Integer ultimoId = cursor == null || cursor.isBlank() ? 0 : UtilityService.decodificarCursor(cursor);
+
+        // Se pide un elemento extra para saber si existe una página siguiente
+        List<Integer> ids = propiedadRepository.findIdsPagina(ultimoId, Limit.of(tamanoPagina + 1));
+        boolean haySiguiente = ids.size() > tamanoPagina;
+        if (haySiguiente) {
+            ids = ids.subList(0, tamanoPagina);
+        }
+        List<Object[]> propiedades = ids.isEmpty() ? new ArrayList<>() : propiedadRepository.findAllByIdConDetalle(ids);
+
+        List<PropiedadDTO> contenido = propiedades.stream().map(fila -> crearPropiedadDTO(fila))
+                                                  .collect(Collectors.toList());
+        String siguienteCursor = haySiguiente ? UtilityService.codificarCursor(ids.get(ids.size() - 1)) : null;
+        Long total = incluirTotal ? propiedadRepository.count() : null;
+        return new PaginaDTO<>(contenido, siguienteCursor, tamanoPagina, total);
+    }
+
+    // La región se resuelve en memoria a sus departamentos; el total sale de las estadísticas sin contar filas
+    @Transactional(readOnly = true)
+    public PaginaDTO<SimplePropiedadDTO> buscarPorRegion(String region, String cursor, Integer tamano){
+        List<String> regiones = catalogoGeografico.buscarRegiones(region);
+        if (regiones.isEmpty()) {
+            UtilityService.devolverNotFound(ManejadorErrores.ERROR_REGION_NO_EXISTE);
+        }
+        List<String> departamentos = regiones.stream()
+                .flatMap(nombre -> catalogoGeografico.getDepartamentosRegion(nombre).stream())
+                .map(Departamento::getNombre)
+                .collect(Collectors.toList());
+        int tamanoPagina = UtilityService.acotarTamanoPagina(tamano);
+        Integer ultimoId = cursor == null || cursor.isBlank() ? 0 : UtilityService.decodificarCursor(cursor);
+
+        List<Propiedad> propiedades = propiedadRepository.findByDepartamentoInAndIdPropiedadGreaterThanOrderByIdPropiedadAsc(
+            departamentos, ultimoId, Limit.of(tamanoPagina + 1));
+        boolean haySiguiente = propiedades.size() > tamanoPagina;
+        if (haySiguiente) {
+            propiedades = propiedades.subList(0, tamanoPagina);
+        }
+
+        List<SimplePropiedadDTO> contenido = propiedades.stream().map(propiedad -> PropiedadMapper.crearSimplePropiedadDTO(propiedad))
+                                                        .collect(Collectors.toList());
+        String siguienteCursor = haySiguiente ? UtilityService.codificarCursor(propiedades.get(propiedades.size() - 1).getIdPropiedad()) : null;
+        return new PaginaDTO<>(contenido, siguienteCursor, tamanoPagina, estadisticasRegion.contarPropiedades(regiones));
+    }
+
+    public List<EstadisticasRegionDTO> getEstadisticasRegiones(){
+        return estadisticasRegion.getEstadisticas();
+    }
+
+    @Transactional(readOnly = true)
+    public List<SimplePropiedadDTO> getMejoresPropiedades(String departamento, Integer limite){
+        if (catalogoGeografico.buscarDepartamento(departamento).isEmpty()) {
+            UtilityService.devolverNotFound(ManejadorErrores.ERROR_DEPARTAMENTO_NO_EXISTE);
+        }
+        return cargarPropiedades(rankingPropiedades.mejores(departamento, UtilityService.acotarTamanoPagina(limite)));
+    }
+
+    @Transactional(readOnly = true)
+    public ResultadoBusquedaDTO buscarPropiedades(FiltroPropiedadDTO filtro, String cursor, Integer tamano){
+        // Los filtros y los conteos se resuelven en memoria; solo la página pedida va a la base de datos
+        int tamanoPagina = tamanoPaginaBusqueda(tamano);
+        return crearResultadoBusqueda(indiceFacetas.buscar(filtro, ultimoIdBusqueda(cursor), tamanoPagina));
+    }
+
+    @Transactional(readOnly = true)
+    public ResultadoBusquedaDTO buscarDisponibles(LocalDateTime fechaInicio, LocalDateTime fechaFinal, FiltroPropiedadDTO filtro,
+                                                  String cursor, Integer tamano){
+        if (!fechaFinal.isAfter(fechaInicio)) {
+            UtilityService.devolverBadRequest(ManejadorErrores.ERROR_FECHA_FINAL_SOLICITUD_INVALIDA);
+        }
+        IndiceFacetasPropiedad.ResultadoFacetas resultado = indiceFacetas.buscar(filtro, indiceDisponibilidad.propiedadesConReservas(),
+            idPropiedad -> indiceDisponibilidad.estaDisponible(idPropiedad, fechaInicio, fechaFinal),
+            ultimoIdBusqueda(cursor), tamanoPaginaBusqueda(tamano));
+        return crearResultadoBusqueda(resultado);
+    }
+
+    // Tamaño 0 devuelve solo el total y las facetas
+    private static int tamanoPaginaBusqueda(Integer tamano){
+        return tamano != null && tamano == 0 ? 0 : UtilityService.acotarTamanoPagina(tamano);
+    }
+
+    private static Integer ultimoIdBusqueda(String cursor){
+        return cursor == null || cursor.isBlank() ? 0 : UtilityService.decodificarCursor(cursor);
+    }
+
+    private ResultadoBusquedaDTO crearResultadoBusqueda(IndiceFacetasPropiedad.ResultadoFacetas resultado){
+        List<Integer> ids = resultado.getIds();
+        String siguienteCursor = resultado.isHaySiguiente() && !ids.isEmpty() ? UtilityService.codificarCursor(ids.get(ids.size() - 1)) : null;
+        return new ResultadoBusquedaDTO(resultado.getTotal(), cargarPropiedades(ids), resultado.getFacetas(), siguienteCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public List<SimplePropiedadDTO> buscarPorTexto(String consulta, Integer tamano){
+        List<Integer> ids = indiceTexto.buscar(consulta, UtilityService.acotarTamanoPagina(tamano));
+        return cargarPropiedades(ids);
+    }
+
+    private List<SimplePropiedadDTO> cargarPropiedades(List<Integer> ids){
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        Map<Integer, Propiedad> propiedades = new HashMap<>();
+        propiedadRepository.findAllByIdConArrendador(ids).forEach(propiedad -> propiedades.put(propiedad.getIdPropiedad(), propiedad));
+        // Se conserva el orden entregado por el índice
+        return ids.stream().map(propiedades::get)
+                           .filter(propiedad -> propiedad != null)
+                           .map(propiedad -> PropiedadMapper.crearSimplePropiedadDTO(propiedad))
+                           .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
     public ResponseEntity<PropiedadDTO> getPropiedad(Integer id){
-        Optional<Propiedad> propiedad = propiedadRepository.findById(id);
+        Optional<Object[]> propiedad = propiedadRepository.findAllByIdConDetalle(List.of(id)).stream().findFirst();
         UtilityService.verificarAusencia(propiedad, ManejadorErrores.ERROR_PROPIEDAD_NO_EXISTE);
 
-        PropiedadDTO propiedadDTO = modelMapper.map(propiedad.get(), PropiedadDTO.class);
+        PropiedadDTO propiedadDTO = crearPropiedadDTO(propiedad.get());
         return ResponseEntity.ok(propiedadDTO);
     }
 
+    // Filas de las consultas ConDetalle: la propiedad y el conteo de sus solicitudes
+    private static PropiedadDTO crearPropiedadDTO(Object[] fila) {
+        return PropiedadMapper.crearPropiedadDTO((Propiedad) fila[0], ((Number) fila[1]).intValue());
+    }
+
+    @Transactional
     public void desactivarPropiedad(Integer id){
         // Verificar que la propiedad exista
         Optional<Propiedad> propiedadTmp = propiedadRepository.findById(id);
@@ -142,14 +497,16 @@ public class PropiedadService {
         Propiedad propiedad = propiedadTmp.get();
         propiedad.setEstado(Estado.INACTIVE);
         propiedadRepository.save(propiedad);
+        UtilityService.ejecutarAlConfirmar(() -> {
+            indiceFacetas.remover(id);
+            indiceTexto.remover(id);
+            estadisticasRegion.remover(id);
+            rankingPropiedades.remover(id);
+        });
     }
 
-    private Boolean verificarMunicipioYDepartamento(String municipio, String departamento){
-        List<String> municipios = departamentosMunicipios.get(departamento);
-        if (municipios == null) {
-            return false;
-        }
-        return municipios.contains(municipio);
+    public Boolean verificarMunicipioYDepartamento(String municipio, String departamento){
+        return catalogoGeografico.esValido(municipio, departamento);
     }
 
 }
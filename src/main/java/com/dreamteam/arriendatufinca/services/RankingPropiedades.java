@@ -0,0 +1,129 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+// Propiedades activas de cada departamento ordenadas por puntaje bayesiano:
+// (pesoPrevio * puntajePrevio + sumaPuntajes) / (pesoPrevio + cantidadCalificaciones).
+// Una propiedad con pocas calificaciones queda cerca del puntaje previo, así que un único 5 no supera a un 4,8 con
+// doscientas reseñas. El previo es fijo (configurable) para que una calificación solo reubique a su propiedad.
+// CargaIndices lo llena al iniciar.
+@Component
+public class RankingPropiedades {
+    private static final Comparator<Posicion> ORDEN = Comparator.comparingDouble(Posicion::getPuntaje).reversed()
+            .thenComparing(Comparator.comparingInt(Posicion::getCantidadCalificaciones).reversed())
+            .thenComparingInt(Posicion::getIdPropiedad);
+
+    private final double puntajePrevio;
+    private final int pesoPrevio;
+
+    // Todas las propiedades activas; en los rankings solo entran las que tienen al menos una calificación
+    private final Map<Integer, Posicion> posiciones = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<Posicion>> rankings = new ConcurrentHashMap<>();
+
+    private static final class Posicion {
+        private final Integer idPropiedad;
+        private final String departamento;
+        private final long sumaPuntajes;
+        private final int cantidadCalificaciones;
+        private final double puntaje;
+
+        private Posicion(Integer idPropiedad, String departamento, long sumaPuntajes, int cantidadCalificaciones, double puntaje) {
+            this.idPropiedad = idPropiedad;
+            this.departamento = departamento;
+            this.sumaPuntajes = sumaPuntajes;
+            this.cantidadCalificaciones = cantidadCalificaciones;
+            this.puntaje = puntaje;
+        }
+
+        private Integer getIdPropiedad() {
+            return idPropiedad;
+        }
+
+        private int getCantidadCalificaciones() {
+            return cantidadCalificaciones;
+        }
+
+        private double getPuntaje() {
+            return puntaje;
+        }
+    }
+
+    public RankingPropiedades(@Value("${arriendatufinca.ranking.puntaje-previo:3.5}") double puntajePrevio,
+                              @Value("${arriendatufinca.ranking.peso-previo:5}") int pesoPrevio) {
+        this.puntajePrevio = puntajePrevio;
+        this.pesoPrevio = pesoPrevio;
+    }
+
+    public void indexar(Propiedad propiedad) {
+        Integer idPropiedad = propiedad.getIdPropiedad();
+        if (propiedad.getEstado() != Estado.ACTIVE || propiedad.getDepartamento() == null) {
+            remover(idPropiedad);
+            return;
+        }
+        long suma = propiedad.getSumaPuntajes() == null ? 0 : propiedad.getSumaPuntajes();
+        int cantidad = propiedad.getCantidadCalificaciones() == null ? 0 : propiedad.getCantidadCalificaciones();
+        // Si ya está indexada conserva sus calificaciones: las de la entidad pueden ser anteriores a una calificación
+        // confirmada mientras se editaba la propiedad
+        posiciones.compute(idPropiedad, (id, anterior) -> reemplazar(anterior, anterior == null
+                ? crearPosicion(id, propiedad.getDepartamento(), suma, cantidad)
+                : crearPosicion(id, propiedad.getDepartamento(), anterior.sumaPuntajes, anterior.cantidadCalificaciones)));
+    }
+
+    public void remover(Integer idPropiedad) {
+        posiciones.computeIfPresent(idPropiedad, (id, anterior) -> reemplazar(anterior, null));
+    }
+
+    // Dentro de una transacción la calificación se aplica al confirmarla, igual que en la base de datos
+    public void registrarCalificacion(Integer idPropiedad, int puntaje) {
+        UtilityService.ejecutarAlConfirmar(() -> sumarCalificacion(idPropiedad, puntaje));
+    }
+
+    // Recorre solo las primeras posiciones del departamento
+    public List<Integer> mejores(String departamento, int limite) {
+        List<Integer> ids = new ArrayList<>(limite);
+        NavigableSet<Posicion> ranking = rankings.get(departamento);
+        if (ranking == null) {
+            return ids;
+        }
+        for (Posicion posicion : ranking) {
+            if (ids.size() == limite) {
+                break;
+            }
+            ids.add(posicion.idPropiedad);
+        }
+        return ids;
+    }
+
+    private void sumarCalificacion(Integer idPropiedad, int puntaje) {
+        posiciones.computeIfPresent(idPropiedad, (id, anterior) -> reemplazar(anterior,
+                crearPosicion(id, anterior.departamento, anterior.sumaPuntajes + puntaje, anterior.cantidadCalificaciones + 1)));
+    }
+
+    // Se ejecuta dentro de compute, que serializa los cambios de una misma propiedad
+    private Posicion reemplazar(Posicion anterior, Posicion nueva) {
+        if (anterior != null && anterior.cantidadCalificaciones > 0) {
+            rankings.get(anterior.departamento).remove(anterior);
+        }
+        if (nueva != null && nueva.cantidadCalificaciones > 0) {
+            rankings.computeIfAbsent(nueva.departamento, k -> new ConcurrentSkipListSet<>(ORDEN)).add(nueva);
+        }
+        return nueva;
+    }
+
+    private Posicion crearPosicion(Integer idPropiedad, String departamento, long sumaPuntajes, int cantidadCalificaciones) {
+        double puntaje = (pesoPrevio * puntajePrevio + sumaPuntajes) / (pesoPrevio + cantidadCalificaciones);
+        return new Posicion(idPropiedad, departamento, sumaPuntajes, cantidadCalificaciones, puntaje);
+    }
+}
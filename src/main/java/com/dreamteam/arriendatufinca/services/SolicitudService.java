@@ -3,18 +3,18 @@ package com.dreamteam.arriendatufinca.services;
 import com.dreamteam.arriendatufinca.dtos.EstadoSolicitudDTO;
 import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
 import com.dreamteam.arriendatufinca.dtos.solicitud.SolicitudDTO;
-import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
 import com.dreamteam.arriendatufinca.entities.Propiedad;
 import com.dreamteam.arriendatufinca.entities.Solicitud;
 import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
-import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
 import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
 import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+import com.dreamteam.arriendatufinca.mappers.SolicitudMapper;
 
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -25,32 +25,40 @@ import java.util.stream.Collectors;
 public class SolicitudService {
     private final SolicitudRepository solicitudRepository;
     private final PropiedadRepository propiedadRepository;
-    private final EstadoSolicitudRepository estadoSolicitudRepository;
+    private final CatalogoEstadosSolicitud catalogoEstados;
     private final ModelMapper modelMapper;
+    private final IndiceDisponibilidad indiceDisponibilidad;
+    private final BloqueoPropiedades bloqueoPropiedades;
 
-    public SolicitudService(SolicitudRepository solicitudRepository, PropiedadRepository propiedadRepository, ModelMapper modelMapper, EstadoSolicitudRepository estadoSolicitudRepository) {
+    public SolicitudService(SolicitudRepository solicitudRepository, PropiedadRepository propiedadRepository, ModelMapper modelMapper, CatalogoEstadosSolicitud catalogoEstados,
+                            IndiceDisponibilidad indiceDisponibilidad, BloqueoPropiedades bloqueoPropiedades) {
         this.solicitudRepository = solicitudRepository;
         this.propiedadRepository = propiedadRepository;
         this.modelMapper = modelMapper;
-        this.estadoSolicitudRepository = estadoSolicitudRepository;
+        this.catalogoEstados = catalogoEstados;
+        this.indiceDisponibilidad = indiceDisponibilidad;
+        this.bloqueoPropiedades = bloqueoPropiedades;
     }
     
 
+    @Transactional(readOnly = true)
     public List<SolicitudDTO> getAllSolicitudes() {
-        List<Solicitud> solicitudes = (List<Solicitud>) solicitudRepository.findAll();
+        List<Solicitud> solicitudes = solicitudRepository.findAllConDetalle();
         return solicitudes.stream()
-                .map(solicitud -> modelMapper.map(solicitud, SolicitudDTO.class))
+                .map(solicitud -> SolicitudMapper.crearSolicitudDTO(solicitud))
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
     public ResponseEntity<SimpleSolicitudDTO> getSolicitudById(Integer id) {
-        Optional<Solicitud> solicitud = solicitudRepository.findById(id);
+        Optional<Solicitud> solicitud = solicitudRepository.findByIdConDetalle(id);
         UtilityService.verificarAusencia(solicitud, ManejadorErrores.ERROR_SOLICITUD_NO_EXISTE);
 
-        SimpleSolicitudDTO solicitudDTO = modelMapper.map(solicitud.get(), SimpleSolicitudDTO.class);
+        SimpleSolicitudDTO solicitudDTO = SolicitudMapper.crearSimpleSolicitudDTO(solicitud.get());
         return ResponseEntity.ok(solicitudDTO);
     }
 
+    // Sin transacción envolvente: la inserción se confirma antes de liberar el candado de la propiedad
     public ResponseEntity<SimpleSolicitudDTO> saveSolicitud(SimpleSolicitudDTO solicitudDTO) {
         Optional<Propiedad> propiedad = propiedadRepository.findById(solicitudDTO.getPropiedad().getIdPropiedad());
         UtilityService.verificarAusencia(propiedad, ManejadorErrores.ERROR_PROPIEDAD_NO_EXISTE);
@@ -65,11 +73,23 @@ public class SolicitudService {
         if (solicitudDTO.getCantidadPersonas() <= 0 || solicitudDTO.getCantidadPersonas() > propiedad.get().getCantidadHabitaciones()) {
             UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CANTIDAD_PERSONAS_SOLICITUD_INVALIDA);
         }
+        // La verificación de traslape y la inserción se hacen bajo el candado de la propiedad
+        Solicitud solicitud = bloqueoPropiedades.ejecutar(propiedad.get().getIdPropiedad(), () -> reservar(solicitudDTO));
+        SimpleSolicitudDTO nuevaSolicitudDTO = SolicitudMapper.crearSimpleSolicitudDTO(solicitud);
+    
+        return ResponseEntity.ok(nuevaSolicitudDTO);
+    }
+
+    private Solicitud reservar(SimpleSolicitudDTO solicitudDTO) {
+        boolean ocupada = solicitudRepository.existeTraslape(solicitudDTO.getPropiedad().getIdPropiedad(), solicitudDTO.getFechaInicio(),
+                                                             solicitudDTO.getFechaFinal(), SolicitudStatus.RECHAZADA.getId());
+        if (ocupada) {
+            UtilityService.devolverConflict(ManejadorErrores.ERROR_SOLICITUD_FECHAS_OCUPADAS);
+        }
         Solicitud solicitud = configurarNuevaSolicitud(solicitudDTO);
         solicitud = solicitudRepository.save(solicitud);
-        solicitudDTO = modelMapper.map(solicitud, SimpleSolicitudDTO.class);
-    
-        return ResponseEntity.ok(solicitudDTO);
+        indiceDisponibilidad.registrar(solicitud);
+        return solicitud;
     }
 
     private Solicitud configurarNuevaSolicitud(SimpleSolicitudDTO solicitudDTO){
@@ -81,71 +101,39 @@ public class SolicitudService {
         solicitudDTO.setFechaCreacion(LocalDateTime.now());
 
         Solicitud solicitud = modelMapper.map(solicitudDTO, Solicitud.class);
-        solicitud.setEstadoSolicitud(estadoSolicitudRepository.findById(SolicitudStatus.PENDIENTE.getId()).get());
+        solicitud.setEstadoSolicitud(catalogoEstados.referencia(SolicitudStatus.PENDIENTE));
         return solicitud;
     }
 
-    public ResponseEntity<SimpleSolicitudDTO> actualizarEstadoSolicitud(EstadoSolicitudDTO estadoSolicitudDTO, Integer idSolicitud){
-        Optional<Solicitud> solicitudTmp = solicitudRepository.findById(idSolicitud);
+    @Transactional
+    public ResponseEntity<SimpleSolicitudDTO> actualizarEstadoSolicitud(SolicitudStatus nuevoEstado, Integer idSolicitud){
+        // Un solo UPDATE condicional y una sola lectura del detalle, que ya ve el estado nuevo
+        int filas = 0;
+        if (nuevoEstado != null && !nuevoEstado.getAnteriores().isEmpty()) {
+            filas = solicitudRepository.actualizarEstado(idSolicitud, catalogoEstados.referencias(nuevoEstado.getAnteriores()),
+                                                         catalogoEstados.referencia(nuevoEstado));
+        }
+        Optional<Solicitud> solicitudTmp = solicitudRepository.findByIdConDetalle(idSolicitud);
         UtilityService.verificarAusencia(solicitudTmp, ManejadorErrores.ERROR_SOLICITUD_NO_EXISTE);
 
         Solicitud solicitud = solicitudTmp.get();
-        String nuevoEstado = estadoSolicitudDTO.getNombreEstadoSolicitud();
-        String viejoEstado = solicitud.getEstadoSolicitud().getNombreEstadoSolicitud();
-
-        if (nuevoEstado != null && !nuevoEstado.equals(viejoEstado)) {
-            solicitud = actualizarEstado(solicitud, nuevoEstado, viejoEstado);
-        }
-        
-        solicitud = solicitudRepository.save(solicitud);
-        SimpleSolicitudDTO solicitudDTO = modelMapper.map(solicitud, SimpleSolicitudDTO.class);
-
-        return ResponseEntity.ok(solicitudDTO);
-    }
-
-    public ResponseEntity<SimpleSolicitudDTO> updateSolicitud(SimpleSolicitudDTO solicitudDTO) {
-        ResponseEntity<SimpleSolicitudDTO> response = actualizarEstadoSolicitud(solicitudDTO.getEstadoSolicitud(), solicitudDTO.getIdSolicitud());
-        
-        SimpleSolicitudDTO newSolicitudDTO = response.getBody();
-        newSolicitudDTO.setArrendadorCalificado(solicitudDTO.isArrendadorCalificado());
-        newSolicitudDTO.setArrendatarioCalificado(solicitudDTO.isArrendatarioCalificado());
-        newSolicitudDTO.setPropiedadCalificado(solicitudDTO.isPropiedadCalificado());
-
-        Solicitud solicitud = modelMapper.map(solicitudDTO, Solicitud.class);
-        solicitudRepository.save(solicitud);
-
-        return ResponseEntity.ok(newSolicitudDTO);
-    }
-
-    private Solicitud actualizarEstado(Solicitud solicitud, String nuevoEstado, String viejoEstado){
-        SolicitudStatus solicitudStatus = null;
-        if (viejoEstado.equals(SolicitudStatus.PENDIENTE.getNombre()) && nuevoEstado.equals(SolicitudStatus.POR_PAGAR.getNombre())){
-            solicitudStatus = SolicitudStatus.POR_PAGAR;
-        }
-        else if (viejoEstado.equals(SolicitudStatus.PENDIENTE.getNombre()) && nuevoEstado.equals(SolicitudStatus.RECHAZADA.getNombre())){
-            solicitudStatus = SolicitudStatus.RECHAZADA;
-        }
-        else if (viejoEstado.equals(SolicitudStatus.POR_PAGAR.getNombre()) && nuevoEstado.equals(SolicitudStatus.POR_CALIFICAR.getNombre())){
-            solicitudStatus = SolicitudStatus.POR_CALIFICAR;
-        }
-        else if(viejoEstado.equals(SolicitudStatus.POR_CALIFICAR.getNombre()) && nuevoEstado.equals(SolicitudStatus.CERRADA.getNombre())){
-            solicitudStatus = SolicitudStatus.CERRADA;
-        }
-        else{
+        // Sin filas afectadas solo es válido si se pidió el estado en el que ya está la solicitud
+        if (filas == 0 && catalogoEstados.estadoDe(solicitud.getEstadoSolicitud()) != nuevoEstado) {
             UtilityService.devolverBadRequest(ManejadorErrores.ERROR_CAMBIO_ESTADO_INVALIDO);
         }
-        Optional<EstadoSolicitud> estadoSolicitudTmp = estadoSolicitudRepository.findById(solicitudStatus.getId());
-        EstadoSolicitud estadoSolicitud = estadoSolicitudTmp.get();
-
-        solicitud.setEstadoSolicitud(estadoSolicitud);
-        return solicitud;
+        if (filas > 0) {
+            UtilityService.ejecutarAlConfirmar(() -> indiceDisponibilidad.cambiarEstado(idSolicitud, nuevoEstado));
+        }
+        return ResponseEntity.ok(SolicitudMapper.crearSimpleSolicitudDTO(solicitud));
     }
 
+    @Transactional
     public void deleteSolicitud(Integer id) {
         Optional<Solicitud> solicitudTmp = solicitudRepository.findById(id);
         UtilityService.verificarAusencia(solicitudTmp, ManejadorErrores.ERROR_SOLICITUD_NO_EXISTE);
 
         Solicitud solicitud = solicitudTmp.get();
         solicitudRepository.delete(solicitud);
+        UtilityService.ejecutarAlConfirmar(() -> indiceDisponibilidad.retirar(id));
     }
 }
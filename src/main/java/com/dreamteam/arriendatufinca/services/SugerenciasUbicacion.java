@@ -0,0 +1,293 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Departamento;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Municipio;
+
+// Autocompletado y sugerencias "¿quiso decir?" sobre el catálogo geográfico, sin tildes ni mayúsculas.
+// Los prefijos se resuelven con tries que guardan en cada nodo sus mejores resultados, y las sugerencias
+// con árboles BK sobre la distancia de edición; todo se construye en memoria en el primer uso.
+@Component
+public class SugerenciasUbicacion {
+    public static final int DISTANCIA_MAXIMA = 2;
+    // Resultados guardados por nodo del trie; acota el tamaño de cualquier respuesta
+    public static final int MAXIMO_RESULTADOS = 20;
+    public static final int CANTIDAD_QUISO_DECIR = 5;
+    private static final int LONGITUD_MINIMA_PALABRA = 3;
+
+    private final CatalogoGeografico catalogoGeografico;
+    private volatile Indices indices;
+
+    public SugerenciasUbicacion(CatalogoGeografico catalogoGeografico) {
+        this.catalogoGeografico = catalogoGeografico;
+    }
+
+    private static final class Indices {
+        private final Trie<Municipio> municipios = new Trie<>();
+        private final Map<String, Trie<Municipio>> municipiosPorDepartamento = new HashMap<>();
+        private final Trie<Departamento> departamentos = new Trie<>();
+        private final ArbolBK<Municipio> municipiosAproximados = new ArbolBK<>();
+        private final ArbolBK<Departamento> departamentosAproximados = new ArbolBK<>();
+        private final Map<String, Departamento> departamentosPorClave = new HashMap<>();
+    }
+
+    public List<Municipio> autocompletarMunicipio(String prefijo, String departamento, int limite) {
+        Indices actuales = indices();
+        Trie<Municipio> trie = actuales.municipios;
+        if (departamento != null && !departamento.isBlank()) {
+            Departamento encontrado = actuales.departamentosPorClave.get(clave(departamento));
+            if (encontrado == null) {
+                return new ArrayList<>();
+            }
+            trie = actuales.municipiosPorDepartamento.get(encontrado.getNombre());
+        }
+        return trie.buscar(clave(prefijo), limite);
+    }
+
+    public List<Departamento> autocompletarDepartamento(String prefijo, int limite) {
+        return indices().departamentos.buscar(clave(prefijo), limite);
+    }
+
+    // Municipios a distancia de edición máxima 2; primero los más cercanos y, a igual distancia,
+    // los del departamento indicado (o los de departamentos con nombre parecido)
+    public List<Municipio> sugerirMunicipio(String municipio, String departamento, int limite) {
+        Indices actuales = indices();
+        Set<String> departamentosCercanos = new LinkedHashSet<>();
+        String claveDepartamento = clave(departamento);
+        for (Coincidencia<Departamento> coincidencia : actuales.departamentosAproximados.buscar(claveDepartamento, DISTANCIA_MAXIMA)) {
+            departamentosCercanos.add(coincidencia.valor.getNombre());
+        }
+        List<Coincidencia<Municipio>> coincidencias = actuales.municipiosAproximados.buscar(clave(municipio), DISTANCIA_MAXIMA);
+        coincidencias.sort(Comparator.<Coincidencia<Municipio>>comparingInt(coincidencia -> coincidencia.distancia)
+                .thenComparing(coincidencia -> !departamentosCercanos.contains(coincidencia.valor.getDepartamento()))
+                .thenComparing(coincidencia -> coincidencia.valor.getNombre()));
+        List<Municipio> resultado = new ArrayList<>();
+        for (Coincidencia<Municipio> coincidencia : coincidencias) {
+            if (resultado.size() == limite) {
+                break;
+            }
+            resultado.add(coincidencia.valor);
+        }
+        return resultado;
+    }
+
+    static String clave(String texto) {
+        return NormalizadorTexto.normalizar(texto).replaceAll("[^a-z0-9]+", " ").trim();
+    }
+
+    private Indices indices() {
+        Indices actuales = indices;
+        if (actuales == null) {
+            synchronized (this) {
+                actuales = indices;
+                if (actuales == null) {
+                    actuales = construir(catalogoGeografico.getDepartamentos());
+                    indices = actuales;
+                }
+            }
+        }
+        return actuales;
+    }
+
+    private static Indices construir(List<Departamento> departamentos) {
+        Indices nuevos = new Indices();
+        for (Departamento departamento : departamentos) {
+            String claveDepartamento = clave(departamento.getNombre());
+            nuevos.departamentosPorClave.put(claveDepartamento, departamento);
+            nuevos.departamentosAproximados.agregar(claveDepartamento, departamento);
+            insertarConPalabras(nuevos.departamentos, claveDepartamento, departamento);
+            Trie<Municipio> trieDepartamento = new Trie<>();
+            for (Municipio municipio : departamento.getMunicipios()) {
+                String claveMunicipio = clave(municipio.getNombre());
+                nuevos.municipiosAproximados.agregar(claveMunicipio, municipio);
+                insertarConPalabras(nuevos.municipios, claveMunicipio, municipio);
+                insertarConPalabras(trieDepartamento, claveMunicipio, municipio);
+            }
+            nuevos.municipiosPorDepartamento.put(departamento.getNombre(), trieDepartamento);
+        }
+        nuevos.municipios.cerrar();
+        nuevos.departamentos.cerrar();
+        nuevos.municipiosPorDepartamento.values().forEach(Trie::cerrar);
+        return nuevos;
+    }
+
+    // El nombre completo tiene prioridad; luego cada palabra interna ("rosa" encuentra "Santa Rosa de Osos")
+    private static <T> void insertarConPalabras(Trie<T> trie, String clave, T valor) {
+        trie.insertar(clave, valor, 0);
+        for (int i = clave.indexOf(' '); i >= 0; i = clave.indexOf(' ', i + 1)) {
+            String resto = clave.substring(i + 1);
+            int finPalabra = resto.indexOf(' ');
+            if ((finPalabra < 0 ? resto.length() : finPalabra) >= LONGITUD_MINIMA_PALABRA) {
+                trie.insertar(resto, valor, 1);
+            }
+        }
+    }
+
+    private static final class Trie<T> {
+        private final Nodo<T> raiz = new Nodo<>();
+
+        private static final class Nodo<T> {
+            private final Map<Character, Nodo<T>> hijos = new HashMap<>(4);
+            private List<Entrada<T>> candidatos = new ArrayList<>();
+            private List<T> mejores;
+        }
+
+        private static final class Entrada<T> {
+            private final T valor;
+            private final String clave;
+            private final int rango;
+
+            private Entrada(T valor, String clave, int rango) {
+                this.valor = valor;
+                this.clave = clave;
+                this.rango = rango;
+            }
+        }
+
+        private void insertar(String clave, T valor, int rango) {
+            Entrada<T> entrada = new Entrada<>(valor, clave, rango);
+            Nodo<T> nodo = raiz;
+            nodo.candidatos.add(entrada);
+            for (int i = 0; i < clave.length(); i++) {
+                nodo = nodo.hijos.computeIfAbsent(clave.charAt(i), k -> new Nodo<>());
+                nodo.candidatos.add(entrada);
+            }
+        }
+
+        // Ordena una sola vez los candidatos de cada nodo: rango, nombre más corto y orden alfabético
+        private void cerrar() {
+            Comparator<Entrada<T>> orden = Comparator.<Entrada<T>>comparingInt(entrada -> entrada.rango)
+                    .thenComparingInt(entrada -> entrada.clave.length())
+                    .thenComparing(entrada -> entrada.clave);
+            List<Nodo<T>> pendientes = new ArrayList<>();
+            pendientes.add(raiz);
+            while (!pendientes.isEmpty()) {
+                Nodo<T> nodo = pendientes.remove(pendientes.size() - 1);
+                nodo.candidatos.sort(orden);
+                Set<T> mejores = new LinkedHashSet<>();
+                for (Entrada<T> entrada : nodo.candidatos) {
+                    if (mejores.size() == MAXIMO_RESULTADOS) {
+                        break;
+                    }
+                    mejores.add(entrada.valor);
+                }
+                nodo.mejores = List.copyOf(mejores);
+                nodo.candidatos = null;
+                pendientes.addAll(nodo.hijos.values());
+            }
+        }
+
+        private List<T> buscar(String prefijo, int limite) {
+            Nodo<T> nodo = raiz;
+            for (int i = 0; i < prefijo.length() && nodo != null; i++) {
+                nodo = nodo.hijos.get(prefijo.charAt(i));
+            }
+            if (nodo == null) {
+                return new ArrayList<>();
+            }
+            return new ArrayList<>(nodo.mejores.subList(0, Math.min(limite, nodo.mejores.size())));
+        }
+    }
+
+    private static final class Coincidencia<T> {
+        private final T valor;
+        private final int distancia;
+
+        private Coincidencia(T valor, int distancia) {
+            this.valor = valor;
+            this.distancia = distancia;
+        }
+    }
+
+    // Árbol BK: la desigualdad triangular permite descartar las ramas fuera de [d - tolerancia, d + tolerancia]
+    private static final class ArbolBK<T> {
+        private Nodo<T> raiz;
+
+        private static final class Nodo<T> {
+            private final String clave;
+            private final List<T> valores = new ArrayList<>(1);
+            private final Map<Integer, Nodo<T>> hijos = new HashMap<>(4);
+
+            private Nodo(String clave) {
+                this.clave = clave;
+            }
+        }
+
+        private void agregar(String clave, T valor) {
+            if (raiz == null) {
+                raiz = new Nodo<>(clave);
+                raiz.valores.add(valor);
+                return;
+            }
+            Nodo<T> nodo = raiz;
+            while (true) {
+                int distancia = distancia(clave, nodo.clave);
+                if (distancia == 0) {
+                    nodo.valores.add(valor);
+                    return;
+                }
+                Nodo<T> hijo = nodo.hijos.get(distancia);
+                if (hijo == null) {
+                    hijo = new Nodo<>(clave);
+                    hijo.valores.add(valor);
+                    nodo.hijos.put(distancia, hijo);
+                    return;
+                }
+                nodo = hijo;
+            }
+        }
+
+        private List<Coincidencia<T>> buscar(String clave, int tolerancia) {
+            List<Coincidencia<T>> resultado = new ArrayList<>();
+            if (raiz == null) {
+                return resultado;
+            }
+            List<Nodo<T>> pendientes = new ArrayList<>();
+            pendientes.add(raiz);
+            while (!pendientes.isEmpty()) {
+                Nodo<T> nodo = pendientes.remove(pendientes.size() - 1);
+                int distancia = distancia(clave, nodo.clave);
+                if (distancia <= tolerancia) {
+                    for (T valor : nodo.valores) {
+                        resultado.add(new Coincidencia<>(valor, distancia));
+                    }
+                }
+                for (Map.Entry<Integer, Nodo<T>> hijo : nodo.hijos.entrySet()) {
+                    if (Math.abs(hijo.getKey() - distancia) <= tolerancia) {
+                        pendientes.add(hijo.getValue());
+                    }
+                }
+            }
+            return resultado;
+        }
+    }
+
+    // Distancia de Levenshtein con dos filas
+    static int distancia(String a, String b) {
+        int[] anterior = new int[b.length() + 1];
+        int[] actual = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            anterior[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            actual[0] = i;
+            for (int j = 1; j <= b.length(); j++) {
+                int sustitucion = anterior[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1);
+                actual[j] = Math.min(sustitucion, Math.min(anterior[j], actual[j - 1]) + 1);
+            }
+            int[] temporal = anterior;
+            anterior = actual;
+            actual = temporal;
+        }
+        return anterior[b.length()];
+    }
+}
@@ -0,0 +1,172 @@
+package com.dreamteam.arriendatufinca.services;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import com.dreamteam.arriendatufinca.dtos.ubicacion.DepartamentoDTO;
+import com.dreamteam.arriendatufinca.dtos.ubicacion.MunicipioDTO;
+import com.dreamteam.arriendatufinca.dtos.ubicacion.RegionDTO;
+import com.dreamteam.arriendatufinca.dtos.ubicacion.SugerenciaUbicacionDTO;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Departamento;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Municipio;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+
+// El catálogo no cambia mientras la aplicación corre: se serializa y comprime una sola vez al iniciar,
+// y cada petición solo compara el ETag o copia los bytes ya preparados.
+@Service
+public class UbicacionService {
+    private static final CacheControl CACHE = CacheControl.maxAge(7, TimeUnit.DAYS).cachePublic();
+    private static final int TAMANO_SUGERENCIAS_DEFECTO = 10;
+
+    private final CatalogoGeografico catalogoGeografico;
+    private final SugerenciasUbicacion sugerenciasUbicacion;
+    private final ObjectMapper objectMapper;
+
+    private byte[] json;
+    private byte[] jsonGzip;
+    private String etag;
+    private String etagGzip;
+
+    public UbicacionService(CatalogoGeografico catalogoGeografico, SugerenciasUbicacion sugerenciasUbicacion, ObjectMapper objectMapper) {
+        this.catalogoGeografico = catalogoGeografico;
+        this.sugerenciasUbicacion = sugerenciasUbicacion;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        json = objectMapper.writeValueAsBytes(crearRegiones());
+        ByteArrayOutputStream comprimido = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(comprimido)) {
+            gzip.write(json);
+        }
+        jsonGzip = comprimido.toByteArray();
+        // Cada representación tiene su propio ETag fuerte, derivado del contenido
+        String huella = huella(json);
+        etag = "\"" + huella + "\"";
+        etagGzip = "\"" + huella + "-gzip\"";
+    }
+
+    public ResponseEntity<byte[]> getCatalogo(String ifNoneMatch, String acceptEncoding) {
+        boolean gzip = aceptaGzip(acceptEncoding);
+        String etagRespuesta = gzip ? etagGzip : etag;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(etagRespuesta);
+        headers.setCacheControl(CACHE);
+        headers.setVary(List.of(HttpHeaders.ACCEPT_ENCODING));
+        if (coincideEtag(ifNoneMatch, etagRespuesta)) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return new ResponseEntity<>(gzip ? jsonGzip : json, headers, HttpStatus.OK);
+    }
+
+    public List<SugerenciaUbicacionDTO> autocompletarMunicipios(String prefijo, String departamento, Integer tamano) {
+        List<Municipio> municipios = sugerenciasUbicacion.autocompletarMunicipio(prefijo, departamento, tamanoSugerencias(tamano));
+        return crearSugerencias(municipios);
+    }
+
+    public List<DepartamentoDTO> autocompletarDepartamentos(String prefijo, Integer tamano) {
+        List<DepartamentoDTO> resultado = new ArrayList<>();
+        for (Departamento departamento : sugerenciasUbicacion.autocompletarDepartamento(prefijo, tamanoSugerencias(tamano))) {
+            resultado.add(new DepartamentoDTO(departamento.getCodigo(), departamento.getNombre(), null));
+        }
+        return resultado;
+    }
+
+    // "¿Quiso decir?" para un par municipio/departamento que no pasó la validación
+    public List<SugerenciaUbicacionDTO> sugerirMunicipios(String municipio, String departamento) {
+        return crearSugerencias(sugerenciasUbicacion.sugerirMunicipio(municipio, departamento, SugerenciasUbicacion.CANTIDAD_QUISO_DECIR));
+    }
+
+    private static int tamanoSugerencias(Integer tamano) {
+        if (tamano == null || tamano <= 0) {
+            return TAMANO_SUGERENCIAS_DEFECTO;
+        }
+        return Math.min(tamano, SugerenciasUbicacion.MAXIMO_RESULTADOS);
+    }
+
+    private static List<SugerenciaUbicacionDTO> crearSugerencias(List<Municipio> municipios) {
+        List<SugerenciaUbicacionDTO> resultado = new ArrayList<>(municipios.size());
+        for (Municipio municipio : municipios) {
+            resultado.add(new SugerenciaUbicacionDTO(municipio.getCodigo(), municipio.getNombre(), municipio.getDepartamento()));
+        }
+        return resultado;
+    }
+
+    // Región -> departamento -> municipio, en el orden del archivo
+    private List<RegionDTO> crearRegiones() {
+        Map<String, List<DepartamentoDTO>> regiones = new LinkedHashMap<>();
+        for (Departamento departamento : catalogoGeografico.getDepartamentos()) {
+            List<MunicipioDTO> municipios = new ArrayList<>(departamento.getMunicipios().size());
+            for (Municipio municipio : departamento.getMunicipios()) {
+                municipios.add(new MunicipioDTO(municipio.getCodigo(), municipio.getNombre()));
+            }
+            regiones.computeIfAbsent(departamento.getRegion(), k -> new ArrayList<>())
+                    .add(new DepartamentoDTO(departamento.getCodigo(), departamento.getNombre(), municipios));
+        }
+        List<RegionDTO> resultado = new ArrayList<>(regiones.size());
+        regiones.forEach((nombre, departamentos) -> resultado.add(new RegionDTO(nombre, departamentos)));
+        return resultado;
+    }
+
+    private static boolean aceptaGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String codificacion : acceptEncoding.split(",")) {
+            String[] partes = codificacion.trim().split(";");
+            if (partes[0].trim().equalsIgnoreCase("gzip")) {
+                return partes.length < 2 || !partes[1].replace(" ", "").matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
+    }
+
+    // If-None-Match usa comparación débil: se ignora el prefijo W/ y se acepta "*"
+    private static boolean coincideEtag(String ifNoneMatch, String etagActual) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidato : ifNoneMatch.split(",")) {
+            String valor = candidato.trim();
+            if (valor.startsWith("W/")) {
+                valor = valor.substring(2);
+            }
+            if (valor.equals("*") || valor.equals(etagActual)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String huella(byte[] contenido) {
+        try {
+            byte[] resumen = MessageDigest.getInstance("SHA-256").digest(contenido);
+            return HexFormat.of().formatHex(resumen, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
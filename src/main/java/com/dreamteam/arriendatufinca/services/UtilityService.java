@@ -1,11 +1,19 @@
 package com.dreamteam.arriendatufinca.services;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Optional;
 
+import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
+
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 public class UtilityService {
+    public static final int TAMANO_PAGINA_DEFECTO = 20;
+    public static final int TAMANO_PAGINA_MAXIMO = 100;
 
     private UtilityService(){
         throw new IllegalStateException("Utility class");
@@ -23,6 +31,10 @@ public class UtilityService {
         throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, errorMessage);
     }
 
+    public static void devolverConflict(String errorMessage) {
+        throw new ResponseStatusException(HttpStatus.CONFLICT, errorMessage);
+    }
+
     public static void verificarExistencia(Optional<?> entity, String errorMessage) {
         if (entity.isPresent()) {
             devolverBadRequest(errorMessage);
@@ -34,4 +46,53 @@ public class UtilityService {
             devolverNotFound(errorMessage);
         }
     }
+
+    // Dentro de una transacción la acción se aplica al confirmarla: los índices en memoria no ven cambios que se deshacen
+    public static void ejecutarAlConfirmar(Runnable accion) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            accion.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                accion.run();
+            }
+        });
+    }
+
+    public static int acotarTamanoPagina(Integer tamano) {
+        if (tamano == null || tamano <= 0) {
+            return TAMANO_PAGINA_DEFECTO;
+        }
+        return Math.min(tamano, TAMANO_PAGINA_MAXIMO);
+    }
+
+    public static String codificarCursor(Integer ultimoId) {
+        // El cursor es opaco para el cliente: solo transporta el último id entregado
+        return codificarCursor(ultimoId.toString());
+    }
+
+    public static Integer decodificarCursor(String cursor) {
+        try {
+            return Integer.valueOf(decodificarTextoCursor(cursor));
+        } catch (IllegalArgumentException e) {
+            devolverBadRequest(ManejadorErrores.ERROR_CURSOR_INVALIDO);
+            return null;
+        }
+    }
+
+    // Cursores con más de un valor (p. ej. fecha e id); quien los arma define el formato del texto
+    public static String codificarCursor(String valor) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String decodificarTextoCursor(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            devolverBadRequest(ManejadorErrores.ERROR_CURSOR_INVALIDO);
+            return null;
+        }
+    }
 }
@@ -4,4 +4,42 @@ INSERT INTO estado_solicitud (nombre_estado_solicitud) VALUES
 ('Rechazada'),
 ('Por calificar'),
 ('Cerrada')
-ON DUPLICATE KEY UPDATE nombre_estado_solicitud = VALUES(nombre_estado_solicitud);
\ No newline at end of file
+ON DUPLICATE KEY UPDATE nombre_estado_solicitud = VALUES(nombre_estado_solicitud);
+
+-- Reconstruye la suma de puntajes de propiedades calificadas antes de que existiera la columna
+UPDATE propiedad p SET
+    suma_puntajes = (SELECT COALESCE(SUM(c.puntaje), 0) FROM calificacion c WHERE c.id_propiedad = p.id_propiedad AND c.tipo_calificacion = 2),
+    cantidad_calificaciones = (SELECT COUNT(*) FROM calificacion c WHERE c.id_propiedad = p.id_propiedad AND c.tipo_calificacion = 2)
+WHERE p.suma_puntajes IS NULL;
+
+-- Las calificaciones anteriores a la columna fecha_calificacion toman la fecha final de su solicitud (o 1970 si no la tienen).
+-- Las reseñas se paginan por fecha y una fecha nula quedaría fuera de todas las páginas
+UPDATE calificacion c SET
+    fecha_calificacion = COALESCE((SELECT s.fecha_final FROM solicitud s WHERE s.id_solicitud = c.id_solicitud), TIMESTAMP '1970-01-01 00:00:00')
+WHERE c.fecha_calificacion IS NULL;
+
+-- Reconstruye el resumen de reputación de cuentas calificadas antes de que existiera la tabla
+INSERT INTO resumen_reputacion (id_cuenta, cantidad_calificaciones, suma_puntajes, calificaciones_cero, calificaciones_uno,
+                                calificaciones_dos, calificaciones_tres, calificaciones_cuatro, calificaciones_cinco, ultima_calificacion)
+SELECT c.id_calificado, COUNT(*), SUM(c.puntaje),
+       SUM(CASE WHEN c.puntaje = 0 THEN 1 ELSE 0 END), SUM(CASE WHEN c.puntaje = 1 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN c.puntaje = 2 THEN 1 ELSE 0 END), SUM(CASE WHEN c.puntaje = 3 THEN 1 ELSE 0 END),
+       SUM(CASE WHEN c.puntaje = 4 THEN 1 ELSE 0 END), SUM(CASE WHEN c.puntaje = 5 THEN 1 ELSE 0 END),
+       MAX(c.fecha_calificacion)
+FROM calificacion c
+WHERE c.tipo_calificacion IN (0, 1)
+  AND NOT EXISTS (SELECT 1 FROM resumen_reputacion r WHERE r.id_cuenta = c.id_calificado)
+GROUP BY c.id_calificado;
+
+-- Los ids de cuenta, propiedad, solicitud y calificacion se reservan por bloques en generador_id.
+-- Cada fila queda por encima del máximo id existente, incluidas filas creadas con AUTO_INCREMENT o por inserciones directas
+INSERT INTO generador_id (entidad, siguiente_id) VALUES ('cuenta', 1), ('propiedad', 1), ('solicitud', 1), ('calificacion', 1)
+ON DUPLICATE KEY UPDATE siguiente_id = siguiente_id;
+UPDATE generador_id SET siguiente_id = (SELECT COALESCE(MAX(id_cuenta), 0) + 1 FROM cuenta)
+WHERE entidad = 'cuenta' AND siguiente_id <= (SELECT COALESCE(MAX(id_cuenta), 0) FROM cuenta);
+UPDATE generador_id SET siguiente_id = (SELECT COALESCE(MAX(id_propiedad), 0) + 1 FROM propiedad)
+WHERE entidad = 'propiedad' AND siguiente_id <= (SELECT COALESCE(MAX(id_propiedad), 0) FROM propiedad);
+UPDATE generador_id SET siguiente_id = (SELECT COALESCE(MAX(id_solicitud), 0) + 1 FROM solicitud)
+WHERE entidad = 'solicitud' AND siguiente_id <= (SELECT COALESCE(MAX(id_solicitud), 0) FROM solicitud);
+UPDATE generador_id SET siguiente_id = (SELECT COALESCE(MAX(id_calificacion), 0) + 1 FROM calificacion)
+WHERE entidad = 'calificacion' AND siguiente_id <= (SELECT COALESCE(MAX(id_calificacion), 0) FROM calificacion);
@@ -0,0 +1,408 @@
+package com.dreamteam.arriendatufinca.controllers;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.validation.LoginRequest;
+import com.dreamteam.arriendatufinca.dtos.validation.SignUpRequest;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Cuenta;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.repository.ArrendatarioRepository;
+import com.dreamteam.arriendatufinca.repository.CalificacionRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+import com.dreamteam.arriendatufinca.services.CalificacionService;
+import com.dreamteam.arriendatufinca.services.CatalogoEstadosSolicitud;
+import com.dreamteam.arriendatufinca.services.EstadisticasRegion;
+import com.dreamteam.arriendatufinca.services.IndiceDisponibilidad;
+import com.dreamteam.arriendatufinca.services.IndiceFacetasPropiedad;
+import com.dreamteam.arriendatufinca.services.IndiceTextoPropiedad;
+import com.dreamteam.arriendatufinca.services.RankingPropiedades;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Presupuesto de sentencias SQL por endpoint: cada ruta de los controladores de la API se llama una vez
+// sobre datos sembrados en H2 y falla si ejecuta más sentencias de las presupuestadas.
+// Las sentencias, filas leídas, entidades cargadas y el tiempo de cada llamada quedan en target/presupuesto-consultas.csv.
+// Los presupuestos no dependen de la cantidad de datos sembrados: una sentencia por fila es justo lo que se quiere detectar.
+// El monitor de consultas queda habilitado para que su filtro y el inspector de Hibernate corran en cada llamada.
+@SpringBootTest(properties = "arriendatufinca.monitor-consultas.habilitado=true")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestInstance(Lifecycle.PER_CLASS)
+class PresupuestoConsultasTest {
+
+    private static final Set<Class<?>> CONTROLADORES = Set.of(PropiedadController.class, SolicitudController.class,
+            CalificacionController.class, CuentaController.class, ArrendadorController.class, ArrendatarioController.class);
+    // Rutas sin presupuesto a propósito. DELETE /api/cuenta no declara {id} aunque el método lo recibe como
+    // @PathVariable: toda petición falla antes de llegar al servicio, así que no hay consultas que medir
+    private static final Set<String> RUTAS_EXCLUIDAS = Set.of("DELETE /api/cuenta");
+    private static final int CANTIDAD_PROPIEDADES = 12;
+    private static final int SOLICITUDES_POR_PROPIEDAD = 4;
+    private static final Path REPORTE = Path.of("target", "presupuesto-consultas.csv");
+    private static final DateTimeFormatter FORMATO_FECHA = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ArrendadorRepository arrendadorRepository;
+
+    @Autowired
+    private ArrendatarioRepository arrendatarioRepository;
+
+    @Autowired
+    private PropiedadRepository propiedadRepository;
+
+    @Autowired
+    private SolicitudRepository solicitudRepository;
+
+    @Autowired
+    private CalificacionRepository calificacionRepository;
+
+    @Autowired
+    private CatalogoEstadosSolicitud catalogoEstados;
+
+    @Autowired
+    private CalificacionService calificacionService;
+
+    @Autowired
+    private IndiceFacetasPropiedad indiceFacetas;
+
+    @Autowired
+    private IndiceTextoPropiedad indiceTexto;
+
+    @Autowired
+    private EstadisticasRegion estadisticasRegion;
+
+    @Autowired
+    private RankingPropiedades rankingPropiedades;
+
+    @Autowired
+    private IndiceDisponibilidad indiceDisponibilidad;
+
+    private Arrendador arrendador;
+    private Arrendador arrendadorBaja;
+    private Arrendatario arrendatario;
+    private Arrendatario arrendatarioBaja;
+    private final List<Propiedad> propiedades = new ArrayList<>();
+    private final List<Solicitud> solicitudes = new ArrayList<>();
+    private final List<String> reporte = new ArrayList<>();
+
+    private record Caso(String ruta, MockHttpServletRequestBuilder peticion, int estado, int presupuesto) {
+    }
+
+    @BeforeAll
+    void setUp() {
+        arrendador = arrendadorRepository.save(new Arrendador("arrendador", "contrasena", "arrendador@example.com"));
+        Arrendador otroArrendador = arrendadorRepository.save(new Arrendador("otro", "contrasena", "otro@example.com"));
+        arrendadorBaja = arrendadorRepository.save(new Arrendador("baja", "contrasena", "baja@example.com"));
+        arrendatario = arrendatarioRepository.save(new Arrendatario("arrendatario", "contrasena", "arrendatario@example.com"));
+        List<Arrendatario> arrendatarios = List.of(arrendatario,
+            arrendatarioRepository.save(new Arrendatario("segundo", "contrasena", "segundo@example.com")),
+            arrendatarioRepository.save(new Arrendatario("tercero", "contrasena", "tercero@example.com")));
+        arrendatarioBaja = arrendatarioRepository.save(new Arrendatario("retirado", "contrasena", "retirado@example.com"));
+        List<SolicitudStatus> estados = List.of(SolicitudStatus.PENDIENTE, SolicitudStatus.POR_PAGAR,
+                                                SolicitudStatus.POR_CALIFICAR, SolicitudStatus.CERRADA);
+
+        for (int i = 0; i < CANTIDAD_PROPIEDADES; i++) {
+            Propiedad propiedad = new Propiedad();
+            propiedad.setNombrePropiedad("Finca " + i);
+            propiedad.setDescripcionPropiedad("Finca con vista a la montaña");
+            propiedad.setArrendador(i % 2 == 0 ? arrendador : otroArrendador);
+            propiedad.setEstado(Estado.ACTIVE);
+            propiedad.setDepartamento(i % 3 == 0 ? "Antioquia" : "Cundinamarca");
+            propiedad.setMunicipio(i % 3 == 0 ? "Medellín" : "Girardot");
+            propiedad.setCantidadHabitaciones(4);
+            propiedad.setCantidadBanos(2);
+            propiedad.setTienePiscina(i % 2 == 0);
+            propiedad.setValorNoche(100000f + 10000f * i);
+            propiedad.setSumaPuntajes(0L);
+            propiedad.setCantidadCalificaciones(0);
+            propiedad = propiedadRepository.save(propiedad);
+            indiceFacetas.indexar(propiedad);
+            indiceTexto.indexar(propiedad);
+            estadisticasRegion.indexar(propiedad);
+            rankingPropiedades.indexar(propiedad);
+            propiedades.add(propiedad);
+            for (int j = 0; j < SOLICITUDES_POR_PROPIEDAD; j++) {
+                SolicitudStatus estado = estados.get(j);
+                // Las pendientes y por pagar están en el futuro; las demás ya ocurrieron
+                LocalDateTime inicio = estado.getId() <= SolicitudStatus.POR_PAGAR.getId()
+                        ? LocalDateTime.now().plusDays(30 + 10 * j) : LocalDateTime.now().minusDays(30 + 10 * j);
+                Solicitud solicitud = new Solicitud();
+                solicitud.setArrendatario(arrendatarios.get((i + j) % arrendatarios.size()));
+                solicitud.setPropiedad(propiedad);
+                solicitud.setEstadoSolicitud(catalogoEstados.referencia(estado));
+                solicitud.setFechaInicio(inicio);
+                solicitud.setFechaFinal(inicio.plusDays(3));
+                solicitud.setFechaCreacion(LocalDateTime.now().minusDays(60));
+                solicitud.setCantidadPersonas(2);
+                solicitud = solicitudRepository.save(solicitud);
+                indiceDisponibilidad.registrar(solicitud);
+                solicitudes.add(solicitud);
+            }
+        }
+        // Reseñas del arrendador a cada arrendatario y de los arrendatarios a algunas propiedades
+        for (Solicitud solicitud : solicitudesEn(SolicitudStatus.POR_CALIFICAR)) {
+            calificacionService.saveNewCalificacion(calificacion(solicitud, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO,
+                    solicitud.getPropiedad().getArrendador(), solicitud.getArrendatario()));
+            if (solicitud.getPropiedad().getIdPropiedad() % 2 == 0) {
+                calificacionService.saveNewCalificacion(calificacion(solicitud, TipoCalificacion.ARRENDATARIO_A_PROPIEDAD,
+                        solicitud.getArrendatario(), solicitud.getPropiedad().getArrendador()));
+            }
+        }
+    }
+
+    // Primero las consultas y luego las escrituras, para que las consultas vean siempre los mismos datos
+    private List<Caso> casos() throws JsonProcessingException {
+        Propiedad propiedad = propiedades.get(1);
+        // La actualización reemplaza la propiedad completa, así que se hace sobre una que no usan los demás casos
+        Propiedad modificada = propiedades.get(CANTIDAD_PROPIEDADES - 2);
+        Solicitud porCalificar = solicitudesEn(SolicitudStatus.POR_CALIFICAR).get(1);
+        Integer idCalificacion = calificacionRepository.findAll().iterator().next().getIdCalificacion();
+        List<Solicitud> pendientes = solicitudesEn(SolicitudStatus.PENDIENTE);
+        LocalDateTime inicio = LocalDateTime.now().plusDays(200);
+        String fechaInicio = inicio.format(FORMATO_FECHA);
+        String fechaFinal = inicio.plusDays(3).format(FORMATO_FECHA);
+
+        return List.of(
+            new Caso("GET /api/propiedad", get("/api/propiedad"), 200, 1),
+            new Caso("GET /api/propiedad/pagina", get("/api/propiedad/pagina").param("tamano", "5").param("total", "true"), 200, 3),
+            new Caso("GET /api/propiedad/buscar", get("/api/propiedad/buscar").param("departamento", "Cundinamarca").param("tamano", "5"), 200, 1),
+            new Caso("GET /api/propiedad/disponibles", get("/api/propiedad/disponibles").param("fechaInicio", fechaInicio)
+                    .param("fechaFinal", fechaFinal).param("tamano", "5"), 200, 1),
+            new Caso("GET /api/propiedad/region", get("/api/propiedad/region").param("region", "Centro Oriente").param("tamano", "5"), 200, 1),
+            new Caso("GET /api/propiedad/region/estadisticas", get("/api/propiedad/region/estadisticas"), 200, 0),
+            new Caso("GET /api/propiedad/ranking", get("/api/propiedad/ranking").param("departamento", "Cundinamarca"), 200, 1),
+            new Caso("GET /api/propiedad/texto", get("/api/propiedad/texto").param("consulta", "finca montaña"), 200, 1),
+            new Caso("GET /api/propiedad/{id}", get("/api/propiedad/{id}", propiedad.getIdPropiedad()), 200, 1),
+            new Caso("GET /api/solicitud", get("/api/solicitud"), 200, 1),
+            new Caso("GET /api/solicitud/{id}", get("/api/solicitud/{id}", porCalificar.getIdSolicitud()), 200, 1),
+            new Caso("GET /api/calificacion", get("/api/calificacion"), 200, 4),
+            new Caso("GET /api/calificacion/pagina", get("/api/calificacion/pagina").param("tamano", "5"), 200, 1),
+            new Caso("GET /api/calificacion/{id}", get("/api/calificacion/{id}", idCalificacion), 200, 1),
+            new Caso("GET /api/calificacion/calificado/{id}", get("/api/calificacion/calificado/{id}", arrendatario.getIdCuenta()), 200, 5),
+            new Caso("GET /api/calificacion/calificado/{id}/pagina",
+                    get("/api/calificacion/calificado/{id}/pagina", arrendatario.getIdCuenta()).param("tamano", "5"), 200, 2),
+            new Caso("GET /api/calificacion/calificado/{id}/resumen",
+                    get("/api/calificacion/calificado/{id}/resumen", arrendatario.getIdCuenta()), 200, 1),
+            new Caso("GET /api/cuenta", get("/api/cuenta"), 200, 1),
+            new Caso("GET /api/cuenta/{id}", get("/api/cuenta/{id}", arrendador.getIdCuenta()), 200, 1),
+            new Caso("GET /api/cuenta/email/{email}", get("/api/cuenta/email/{email}", arrendador.getEmail()), 200, 1),
+            new Caso("GET /api/arrendador", get("/api/arrendador"), 200, 1),
+            new Caso("GET /api/arrendador/{id}", get("/api/arrendador/{id}", arrendador.getIdCuenta()), 200, 1),
+            new Caso("GET /api/arrendatario", get("/api/arrendatario"), 200, 1),
+            new Caso("GET /api/arrendatario/{id}", get("/api/arrendatario/{id}", arrendatario.getIdCuenta()), 200, 1),
+            new Caso("POST /api/cuenta/login", json(post("/api/cuenta/login"),
+                    new LoginRequest(arrendador.getEmail(), arrendador.getContrasena())), 200, 1),
+
+            new Caso("POST /api/propiedad", json(post("/api/propiedad"), nuevaPropiedad(null, arrendador)), 200, 2),
+            // Más filas que un lote JDBC y que un bloque de ids: el costo debe crecer por lote, no por fila
+            new Caso("POST /api/propiedad/importar", multipart("/api/propiedad/importar")
+                    .file(new MockMultipartFile("archivo", "propiedades.csv", "text/csv", csvPropiedades(120)))
+                    .param("idArrendador", arrendador.getIdCuenta().toString()), 200, 2),
+            new Caso("PUT /api/propiedad", json(put("/api/propiedad"), nuevaPropiedad(modificada.getIdPropiedad(), modificada.getArrendador())), 200, 3),
+            new Caso("POST /api/solicitud", json(post("/api/solicitud"), nuevaSolicitud(propiedad, inicio)), 200, 3),
+            new Caso("PUT /api/solicitud/aprobar/{id}", put("/api/solicitud/aprobar/{id}", pendientes.get(0).getIdSolicitud()), 200, 2),
+            new Caso("PUT /api/solicitud/rechazar/{id}", put("/api/solicitud/rechazar/{id}", pendientes.get(1).getIdSolicitud()), 200, 2),
+            new Caso("PUT /api/solicitud/pagar/{id}", put("/api/solicitud/pagar/{id}", solicitudesEn(SolicitudStatus.POR_PAGAR).get(0).getIdSolicitud()), 200, 2),
+            new Caso("DELETE /api/solicitud/{id}", delete("/api/solicitud/{id}", pendientes.get(2).getIdSolicitud()), 204, 2),
+            new Caso("POST /api/calificacion", json(post("/api/calificacion"), calificacion(porCalificar, TipoCalificacion.ARRENDATARIO_A_ARRENDADOR,
+                    porCalificar.getArrendatario(), porCalificar.getPropiedad().getArrendador())), 200, 4),
+            new Caso("PUT /api/cuenta", json(put("/api/cuenta"), cuenta(arrendatario, "arrendatario renombrado")), 200, 2),
+            new Caso("PUT /api/cuenta/nuevaContrasena", json(put("/api/cuenta/nuevaContrasena").param("contrasenaIngresada", "contrasena")
+                    .param("nuevaContrasena", "nueva"), cuenta(arrendatario, null)), 200, 2),
+            new Caso("POST /api/arrendador", json(post("/api/arrendador"),
+                    new SignUpRequest(new CuentaDTO(null, "nuevo", "nuevo.arrendador@example.com"), "contrasena")), 200, 3),
+            new Caso("PUT /api/arrendador", json(put("/api/arrendador"), cuenta(arrendador, "arrendador renombrado")), 200, 2),
+            new Caso("DELETE /api/arrendador/{id}", delete("/api/arrendador/{id}", arrendadorBaja.getIdCuenta()), 204, 2),
+            new Caso("POST /api/arrendatario", json(post("/api/arrendatario"),
+                    new SignUpRequest(new CuentaDTO(null, "nuevo", "nuevo.arrendatario@example.com"), "contrasena")), 200, 3),
+            new Caso("DELETE /api/arrendatario/{id}", delete("/api/arrendatario/{id}", arrendatarioBaja.getIdCuenta()), 204, 2),
+            new Caso("DELETE /api/propiedad/{id}", delete("/api/propiedad/{id}", propiedades.get(CANTIDAD_PROPIEDADES - 1).getIdPropiedad()), 204, 2)
+        );
+    }
+
+    @TestFactory
+    Stream<DynamicTest> testPresupuestoPorEndpoint() throws JsonProcessingException {
+        return casos().stream().map(caso -> DynamicTest.dynamicTest(caso.ruta(), () -> medir(caso)));
+    }
+
+    @Test
+    void testTodasLasRutasTienenPresupuesto() throws JsonProcessingException {
+        Set<String> conPresupuesto = casos().stream().map(Caso::ruta).collect(Collectors.toSet());
+        Set<String> sinPresupuesto = new TreeSet<>();
+        for (Map.Entry<RequestMappingInfo, HandlerMethod> ruta : handlerMapping.getHandlerMethods().entrySet()) {
+            if (!CONTROLADORES.contains(ruta.getValue().getBeanType())) {
+                continue;
+            }
+            for (String patron : ruta.getKey().getPatternValues()) {
+                ruta.getKey().getMethodsCondition().getMethods()
+                        .forEach(metodo -> sinPresupuesto.add(metodo.name() + " " + patron));
+            }
+        }
+        sinPresupuesto.removeAll(conPresupuesto);
+        sinPresupuesto.removeAll(RUTAS_EXCLUIDAS);
+        assertTrue(sinPresupuesto.isEmpty(), "Rutas sin presupuesto de consultas: " + sinPresupuesto);
+    }
+
+    @AfterAll
+    void escribirReporte() throws IOException {
+        List<String> lineas = new ArrayList<>();
+        lineas.add("ruta,estado,sentencias,presupuesto,filas,entidades,ms");
+        lineas.addAll(reporte);
+        Files.createDirectories(REPORTE.getParent());
+        Files.write(REPORTE, lineas);
+    }
+
+    private void medir(Caso caso) throws Exception {
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        long inicio = System.nanoTime();
+        int estado = mockMvc.perform(caso.peticion()).andReturn().getResponse().getStatus();
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+        long sentencias = estadisticas.getPrepareStatementCount();
+        reporte.add(String.join(",", caso.ruta(), String.valueOf(estado), String.valueOf(sentencias),
+                String.valueOf(caso.presupuesto()), String.valueOf(filasLeidas(estadisticas)),
+                String.valueOf(estadisticas.getEntityLoadCount()), String.valueOf(ms)));
+
+        assertEquals(caso.estado(), estado, caso.ruta());
+        // El tiempo solo se reporta: depende de la máquina y no debe romper la prueba
+        assertTrue(sentencias <= caso.presupuesto(),
+                caso.ruta() + " ejecutó " + sentencias + " sentencias; presupuesto " + caso.presupuesto());
+    }
+
+    // Filas devueltas por las consultas JPQL; las cargas por identificador se cuentan como entidades
+    private static long filasLeidas(Statistics estadisticas) {
+        long filas = 0;
+        for (String consulta : estadisticas.getQueries()) {
+            filas += estadisticas.getQueryStatistics(consulta).getExecutionRowCount();
+        }
+        return filas;
+    }
+
+    private List<Solicitud> solicitudesEn(SolicitudStatus estado) {
+        return solicitudes.stream().filter(solicitud -> catalogoEstados.estadoDe(solicitud.getEstadoSolicitud()) == estado).toList();
+    }
+
+    private MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder peticion, Object cuerpo) throws JsonProcessingException {
+        return peticion.contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(cuerpo));
+    }
+
+    private static byte[] csvPropiedades(int cantidad) {
+        StringBuilder csv = new StringBuilder("nombrePropiedad,municipio,departamento,cantidadHabitaciones,tienePiscina,valorNoche\n");
+        for (int i = 0; i < cantidad; i++) {
+            csv.append("Finca importada ").append(i).append(",Girardot,Cundinamarca,3,si,180000\n");
+        }
+        return csv.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private SimplePropiedadDTO nuevaPropiedad(Integer idPropiedad, Cuenta arrendadorPropiedad) {
+        SimplePropiedadDTO propiedadDTO = new SimplePropiedadDTO();
+        propiedadDTO.setIdPropiedad(idPropiedad);
+        propiedadDTO.setNombrePropiedad("Finca La Esperanza");
+        propiedadDTO.setDescripcionPropiedad("Finca con piscina");
+        propiedadDTO.setDepartamento("Cundinamarca");
+        propiedadDTO.setMunicipio("Girardot");
+        propiedadDTO.setCantidadHabitaciones(4);
+        propiedadDTO.setCantidadBanos(2);
+        propiedadDTO.setTienePiscina(true);
+        propiedadDTO.setValorNoche(250000f);
+        propiedadDTO.setArrendador(cuenta(arrendadorPropiedad, null));
+        return propiedadDTO;
+    }
+
+    private SimpleSolicitudDTO nuevaSolicitud(Propiedad propiedad, LocalDateTime inicio) {
+        SimpleSolicitudDTO solicitudDTO = new SimpleSolicitudDTO();
+        solicitudDTO.setFechaInicio(inicio);
+        solicitudDTO.setFechaFinal(inicio.plusDays(3));
+        solicitudDTO.setCantidadPersonas(2);
+        solicitudDTO.setArrendatario(cuenta(arrendatario, null));
+        SimplePropiedadDTO propiedadDTO = new SimplePropiedadDTO();
+        propiedadDTO.setIdPropiedad(propiedad.getIdPropiedad());
+        solicitudDTO.setPropiedad(propiedadDTO);
+        return solicitudDTO;
+    }
+
+    private CalificacionDTO calificacion(Solicitud solicitud, TipoCalificacion tipo, Cuenta calificador, Cuenta calificado) {
+        CalificacionDTO calificacionDTO = new CalificacionDTO();
+        calificacionDTO.setTipoCalificacion(tipo.getValue());
+        calificacionDTO.setPuntaje(4);
+        calificacionDTO.setComentario("Muy bien");
+        calificacionDTO.setCalificador(cuenta(calificador, null));
+        calificacionDTO.setCalificado(cuenta(calificado, null));
+        BasePropiedadDTO propiedadDTO = new BasePropiedadDTO();
+        propiedadDTO.setIdPropiedad(solicitud.getPropiedad().getIdPropiedad());
+        calificacionDTO.setPropiedad(propiedadDTO);
+        BaseSolicitudDTO solicitudDTO = new BaseSolicitudDTO();
+        solicitudDTO.setIdSolicitud(solicitud.getIdSolicitud());
+        calificacionDTO.setSolicitud(solicitudDTO);
+        return calificacionDTO;
+    }
+
+    private static CuentaDTO cuenta(Cuenta cuenta, String nombreCuenta) {
+        return new CuentaDTO(cuenta.getIdCuenta(), nombreCuenta == null ? cuenta.getNombreCuenta() : nombreCuenta, cuenta.getEmail());
+    }
+}
@@ -0,0 +1,88 @@
+package com.dreamteam.arriendatufinca.entities;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GeneradorIdsTest {
+
+    @Autowired
+    private PropiedadRepository propiedadRepository;
+
+    @Autowired
+    private ArrendadorRepository arrendadorRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    // Las pruebas confirman sus escrituras (el generador reserva bloques en su propia transacción)
+    @AfterEach
+    void limpiar() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("DELETE FROM propiedad WHERE nombre_propiedad LIKE 'Finca %'");
+        jdbc.update("DELETE FROM arrendador WHERE id_cuenta IN (SELECT id_cuenta FROM cuenta WHERE email = 'arrendador@example.com')");
+        jdbc.update("DELETE FROM cuenta WHERE email IN ('externa@example.com', 'arrendador@example.com')");
+    }
+
+    @Test
+    void testInsercionesEnLotes() {
+        int cantidad = 2 * GeneradorIds.BLOQUE + 20;
+        List<Propiedad> propiedades = new ArrayList<>();
+        for (int i = 0; i < cantidad; i++) {
+            Propiedad propiedad = new Propiedad();
+            propiedad.setNombrePropiedad("Finca " + i);
+            propiedad.setEstado(Estado.ACTIVE);
+            propiedades.add(propiedad);
+        }
+
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        propiedadRepository.saveAll(propiedades);
+
+        // Con IDENTITY serían 120 INSERT; en lotes de 50 son 3, más la reserva de cada bloque de ids
+        assertTrue(estadisticas.getPrepareStatementCount() <= 10, "Sentencias: " + estadisticas.getPrepareStatementCount());
+        assertEquals(cantidad, propiedades.stream().map(Propiedad::getIdPropiedad).distinct().count());
+        propiedadRepository.findAllById(propiedades.stream().map(Propiedad::getIdPropiedad).toList()).forEach(p -> assertNotNull(p.getNombrePropiedad()));
+    }
+
+    @Test
+    void testDataSqlAvanzaElGeneradorSobreIdsExistentes() {
+        // Una cuenta creada fuera de Hibernate, como las de AUTO_INCREMENT o las de GeneradorDatos
+        new JdbcTemplate(dataSource).update("INSERT INTO cuenta (id_cuenta, nombre_cuenta, email, estado) VALUES (5000, 'externa', 'externa@example.com', 1)");
+        new ResourceDatabasePopulator(new ClassPathResource("data.sql")).execute(dataSource);
+
+        Arrendador arrendador = arrendadorRepository.save(new Arrendador("arrendador", "contrasena", "arrendador@example.com"));
+        assertTrue(arrendador.getIdCuenta() > 5000, "Id: " + arrendador.getIdCuenta());
+    }
+}
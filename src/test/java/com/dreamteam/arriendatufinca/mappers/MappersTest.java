@@ -0,0 +1,146 @@
+package com.dreamteam.arriendatufinca.mappers;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.modelmapper.ModelMapper;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.ArrendadorDTO;
+import com.dreamteam.arriendatufinca.dtos.ArrendatarioDTO;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.BaseCalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Calificacion;
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// Los mappers escritos a mano deben producir el mismo JSON que ModelMapper con la configuración STRICT
+class MappersTest {
+
+    private ModelMapper modelMapper;
+    private ObjectMapper objectMapper;
+
+    private Arrendador arrendador;
+    private Arrendatario arrendatario;
+    private Propiedad propiedad;
+    private Solicitud solicitud;
+    private Calificacion calificacion;
+
+    @BeforeEach
+    void setUp() {
+        modelMapper = new ModelMapperConfiguration().modelMapper();
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        arrendador = new Arrendador("arrendador", "contrasena", "arrendador@example.com");
+        arrendador.setIdCuenta(1);
+        arrendatario = new Arrendatario("arrendatario", "contrasena", "arrendatario@example.com");
+        arrendatario.setIdCuenta(2);
+
+        propiedad = new Propiedad();
+        propiedad.setIdPropiedad(3);
+        propiedad.setArrendador(arrendador);
+        propiedad.setNombrePropiedad("Finca");
+        propiedad.setDescripcionPropiedad("Finca con vista");
+        propiedad.setMunicipio("Anapoima");
+        propiedad.setDepartamento("Cundinamarca");
+        propiedad.setTipoIngreso("Carretera");
+        propiedad.setCantidadHabitaciones(3);
+        propiedad.setCantidadBanos(2);
+        propiedad.setPermiteMascotas(true);
+        propiedad.setTienePiscina(false);
+        propiedad.setValorNoche(250000f);
+        propiedad.setEstado(Estado.ACTIVE);
+        propiedad.setSumaPuntajes(9L);
+        propiedad.setCantidadCalificaciones(2);
+
+        solicitud = new Solicitud();
+        solicitud.setIdSolicitud(4);
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setEstadoSolicitud(new EstadoSolicitud(4, "Por calificar"));
+        solicitud.setFechaInicio(LocalDateTime.of(2024, 1, 10, 15, 0));
+        solicitud.setFechaFinal(LocalDateTime.of(2024, 1, 12, 11, 0));
+        solicitud.setFechaCreacion(LocalDateTime.of(2024, 1, 1, 9, 30));
+        solicitud.setCantidadPersonas(4);
+        solicitud.setArrendadorCalificado(true);
+
+        propiedad.setSolicitudes(new ArrayList<>(List.of(solicitud)));
+        arrendador.setPropiedades(new ArrayList<>(List.of(propiedad)));
+        arrendatario.setSolicitudes(new ArrayList<>(List.of(solicitud)));
+
+        calificacion = new Calificacion(5, arrendatario, arrendador, propiedad, solicitud, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO,
+                                        "Muy bien", 4, LocalDateTime.of(2024, 1, 13, 8, 0));
+    }
+
+    @Test
+    void testPropiedad_IgualAModelMapper() throws Exception {
+        assertMismoJson(modelMapper.map(propiedad, BasePropiedadDTO.class), PropiedadMapper.crearBasePropiedadDTO(propiedad));
+        assertMismoJson(modelMapper.map(propiedad, SimplePropiedadDTO.class), PropiedadMapper.crearSimplePropiedadDTO(propiedad));
+    }
+
+    @Test
+    void testPropiedadDTO_CuentaSolicitudes() throws Exception {
+        PropiedadDTO propiedadDTO = PropiedadMapper.crearPropiedadDTO(propiedad);
+
+        assertEquals(1, propiedadDTO.getCantidadSolicitudes());
+        assertEquals(7, PropiedadMapper.crearPropiedadDTO(propiedad, 7).getCantidadSolicitudes());
+        // Los demás campos son los de SimplePropiedadDTO
+        assertMismoJson(PropiedadMapper.crearSimplePropiedadDTO(propiedad), modelMapper.map(propiedadDTO, SimplePropiedadDTO.class));
+        assertEquals(0, PropiedadMapper.crearPropiedadDTO(new Propiedad()).getCantidadSolicitudes());
+    }
+
+    @Test
+    void testSolicitud_IgualAModelMapper() throws Exception {
+        assertMismoJson(modelMapper.map(solicitud, BaseSolicitudDTO.class), SolicitudMapper.crearBaseSolicitudDTO(solicitud));
+        assertMismoJson(modelMapper.map(solicitud, SimpleSolicitudDTO.class), SolicitudMapper.crearSimpleSolicitudDTO(solicitud));
+        assertMismoJson(modelMapper.map(solicitud, SolicitudDTO.class), SolicitudMapper.crearSolicitudDTO(solicitud));
+    }
+
+    @Test
+    void testCalificacion_IgualAModelMapper() throws Exception {
+        assertMismoJson(modelMapper.map(calificacion, BaseCalificacionDTO.class), CalificacionMapper.crearBaseCalificacionDTO(calificacion));
+        assertMismoJson(modelMapper.map(calificacion, CalificacionDTO.class), CalificacionMapper.crearCalificacionDTO(calificacion));
+    }
+
+    @Test
+    void testCuenta_IgualAModelMapper() throws Exception {
+        assertMismoJson(modelMapper.map(arrendador, CuentaDTO.class), CuentaMapper.crearCuentaDTO(arrendador));
+        assertMismoJson(modelMapper.map(arrendador, ArrendadorDTO.class), CuentaMapper.crearArrendadorDTO(arrendador));
+        assertMismoJson(modelMapper.map(arrendatario, ArrendatarioDTO.class), CuentaMapper.crearArrendatarioDTO(arrendatario));
+    }
+
+    @Test
+    void testCamposNulos_IgualAModelMapper() throws Exception {
+        Propiedad vacia = new Propiedad();
+        Solicitud sinRelaciones = new Solicitud();
+        Calificacion sinDatos = new Calificacion();
+
+        assertMismoJson(modelMapper.map(vacia, SimplePropiedadDTO.class), PropiedadMapper.crearSimplePropiedadDTO(vacia));
+        assertMismoJson(modelMapper.map(sinRelaciones, SolicitudDTO.class), SolicitudMapper.crearSolicitudDTO(sinRelaciones));
+        assertMismoJson(modelMapper.map(sinDatos, CalificacionDTO.class), CalificacionMapper.crearCalificacionDTO(sinDatos));
+        assertNull(PropiedadMapper.crearPropiedadDTO(null));
+    }
+
+    private void assertMismoJson(Object esperado, Object obtenido) throws Exception {
+        assertEquals(esperado.getClass(), obtenido.getClass());
+        assertEquals(objectMapper.writeValueAsString(esperado), objectMapper.writeValueAsString(obtenido));
+    }
+}
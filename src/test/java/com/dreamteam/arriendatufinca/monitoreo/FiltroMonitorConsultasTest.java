@@ -0,0 +1,56 @@
+package com.dreamteam.arriendatufinca.monitoreo;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.dreamteam.arriendatufinca.monitoreo.InspectorConsultas.ConsultasPeticion;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+class FiltroMonitorConsultasTest {
+    private static final String CONSULTA_CUENTA = "select c.id from cuenta c where c.id=?";
+    private static final String CONSULTA_PROPIEDADES = "select p.id_propiedad from propiedad p";
+
+    @Test
+    void testDetectarRepetidas() {
+        InspectorConsultas inspector = new InspectorConsultas();
+        FiltroMonitorConsultas filtro = new FiltroMonitorConsultas(inspector, 3, 30);
+
+        inspector.iniciar();
+        inspector.inspect(CONSULTA_PROPIEDADES);
+        for (int i = 0; i < 3; i++) {
+            inspector.inspect(CONSULTA_CUENTA);
+        }
+        ConsultasPeticion consultas = inspector.finalizar();
+
+        assertEquals(4, consultas.getTotal());
+        assertEquals(List.of(CONSULTA_CUENTA), filtro.detectarRepetidas(consultas));
+    }
+
+    @Test
+    void testSoloRegistraDuranteLaPeticion() throws Exception {
+        InspectorConsultas inspector = new InspectorConsultas();
+        FiltroMonitorConsultas filtro = new FiltroMonitorConsultas(inspector, 3, 30);
+        HttpServlet servlet = new HttpServlet() {
+            @Override
+            protected void service(HttpServletRequest request, HttpServletResponse response) {
+                assertEquals(CONSULTA_CUENTA, inspector.inspect(CONSULTA_CUENTA));
+            }
+        };
+
+        inspector.inspect(CONSULTA_PROPIEDADES);
+        filtro.doFilter(new MockHttpServletRequest("GET", "/api/cuenta/1"), new MockHttpServletResponse(), new MockFilterChain(servlet));
+        inspector.inspect(CONSULTA_PROPIEDADES);
+
+        // Al terminar la petición el filtro ya retiró lo registrado
+        assertEquals(0, inspector.finalizar().getTotal());
+    }
+}
@@ -72,7 +72,7 @@ class ArrendadorServiceTest {
         Arrendador arrendador = new Arrendador("arrendador1", "contrasena1", "arrendador1@example.com");
         arrendador.setIdCuenta(1);
 
-        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(arrendador));
+        when(arrendadorRepository.findByIdConPropiedades(1)).thenReturn(Optional.of(arrendador));
 
         ArrendadorDTO arrendadorDTO = new ArrendadorDTO();
         arrendadorDTO.setIdCuenta(1);
@@ -89,7 +89,7 @@ class ArrendadorServiceTest {
 
     @Test
     void testGetArrendador_NotFound() {
-        when(arrendadorRepository.findById(1)).thenReturn(Optional.empty());
+        when(arrendadorRepository.findByIdConPropiedades(1)).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             arrendadorService.getArrendador(1);
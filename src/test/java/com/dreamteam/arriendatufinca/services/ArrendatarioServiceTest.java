@@ -73,7 +73,7 @@ class ArrendatarioServiceTest {
         Arrendatario arrendatario = new Arrendatario("arrendatario1", "contrasena1", "arrendatario1@example.com");
         arrendatario.setIdCuenta(1);
 
-        when(arrendatarioRepository.findById(1)).thenReturn(Optional.of(arrendatario));
+        when(arrendatarioRepository.findByIdConSolicitudes(1)).thenReturn(Optional.of(arrendatario));
 
         ArrendatarioDTO arrendatarioDTO = new ArrendatarioDTO();
         arrendatarioDTO.setIdCuenta(1);
@@ -90,7 +90,7 @@ class ArrendatarioServiceTest {
 
     @Test
     void testGetArrendatario_NotFound() {
-        when(arrendatarioRepository.findById(1)).thenReturn(Optional.empty());
+        when(arrendatarioRepository.findByIdConSolicitudes(1)).thenReturn(Optional.empty());
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             arrendatarioService.getArrendatario(1);
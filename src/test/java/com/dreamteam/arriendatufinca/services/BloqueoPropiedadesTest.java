@@ -0,0 +1,156 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+class BloqueoPropiedadesTest {
+    private static final int RESERVAS_CONCURRENTES = 300;
+    private static final LocalDateTime BASE = LocalDateTime.of(2035, 1, 1, 15, 0);
+
+    private SolicitudRepository solicitudRepository;
+    private PropiedadRepository propiedadRepository;
+    private SolicitudService solicitudService;
+    // Hace las veces de la tabla solicitud
+    private final List<Solicitud> guardadas = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        solicitudRepository = mock(SolicitudRepository.class);
+        propiedadRepository = mock(PropiedadRepository.class);
+        when(propiedadRepository.findById(anyInt())).thenAnswer(invocacion -> {
+            Propiedad propiedad = new Propiedad();
+            propiedad.setIdPropiedad(invocacion.getArgument(0));
+            propiedad.setCantidadHabitaciones(10);
+            return Optional.of(propiedad);
+        });
+        when(solicitudRepository.existeTraslape(anyInt(), any(), any(), anyInt())).thenAnswer(invocacion -> {
+            Integer idPropiedad = invocacion.getArgument(0);
+            LocalDateTime inicio = invocacion.getArgument(1);
+            LocalDateTime fin = invocacion.getArgument(2);
+            synchronized (guardadas) {
+                return guardadas.stream().anyMatch(s -> s.getPropiedad().getIdPropiedad().equals(idPropiedad)
+                    && s.getFechaInicio().isBefore(fin) && s.getFechaFinal().isAfter(inicio));
+            }
+        });
+        AtomicInteger secuencia = new AtomicInteger();
+        when(solicitudRepository.save(any(Solicitud.class))).thenAnswer(invocacion -> {
+            Solicitud solicitud = invocacion.getArgument(0);
+            // Ensancha la ventana entre la verificación y la inserción
+            Thread.sleep(1);
+            solicitud.setIdSolicitud(secuencia.incrementAndGet());
+            guardadas.add(solicitud);
+            return solicitud;
+        });
+
+        CatalogoEstadosSolicitud catalogoEstados = new CatalogoEstadosSolicitud(mock(EstadoSolicitudRepository.class));
+        solicitudService = new SolicitudService(solicitudRepository, propiedadRepository, new ModelMapperConfiguration().modelMapper(),
+                                                catalogoEstados, new IndiceDisponibilidad(catalogoEstados), new BloqueoPropiedades());
+    }
+
+    @Test
+    void testReservasConcurrentes_SinTraslapes() throws Exception {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(32);
+        CountDownLatch salida = new CountDownLatch(1);
+        AtomicInteger rechazadas = new AtomicInteger();
+        Random random = new Random(42);
+        List<Future<?>> tareas = new ArrayList<>();
+        for (int i = 0; i < RESERVAS_CONCURRENTES; i++) {
+            int diaInicio = random.nextInt(60);
+            int noches = 2 + random.nextInt(5);
+            tareas.add(ejecutor.submit(() -> {
+                salida.await();
+                try {
+                    solicitudService.saveSolicitud(crearSolicitudDTO(1, diaInicio, noches));
+                } catch (ResponseStatusException e) {
+                    assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+                    rechazadas.incrementAndGet();
+                }
+                return null;
+            }));
+        }
+        salida.countDown();
+        for (Future<?> tarea : tareas) {
+            tarea.get(30, TimeUnit.SECONDS);
+        }
+        ejecutor.shutdown();
+
+        assertThat(guardadas.size() + rechazadas.get()).isEqualTo(RESERVAS_CONCURRENTES);
+        assertThat(guardadas).isNotEmpty();
+        for (int i = 0; i < guardadas.size(); i++) {
+            for (int j = i + 1; j < guardadas.size(); j++) {
+                Solicitud a = guardadas.get(i);
+                Solicitud b = guardadas.get(j);
+                assertThat(a.getFechaInicio().isBefore(b.getFechaFinal()) && b.getFechaInicio().isBefore(a.getFechaFinal()))
+                    .as("Solicitudes %d y %d se traslapan", a.getIdSolicitud(), b.getIdSolicitud())
+                    .isFalse();
+            }
+        }
+    }
+
+    @Test
+    void testPropiedadesDistintas_NoSeSerializan() throws Exception {
+        BloqueoPropiedades bloqueo = new BloqueoPropiedades();
+        CountDownLatch dentroDeLaPrimera = new CountDownLatch(1);
+        CountDownLatch segundaTermino = new CountDownLatch(1);
+        ExecutorService ejecutor = Executors.newFixedThreadPool(2);
+
+        // Si ambas propiedades compartieran candado, la primera esperaría para siempre a la segunda
+        Future<Boolean> primera = ejecutor.submit(() -> bloqueo.ejecutar(1, () -> {
+            dentroDeLaPrimera.countDown();
+            try {
+                return segundaTermino.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        dentroDeLaPrimera.await();
+        ejecutor.submit(() -> bloqueo.ejecutar(2, () -> {
+            segundaTermino.countDown();
+            return null;
+        }));
+
+        assertThat(primera.get(10, TimeUnit.SECONDS)).isTrue();
+        ejecutor.shutdown();
+    }
+
+    private SimpleSolicitudDTO crearSolicitudDTO(Integer idPropiedad, int diaInicio, int noches) {
+        SimplePropiedadDTO propiedadDTO = new SimplePropiedadDTO();
+        propiedadDTO.setIdPropiedad(idPropiedad);
+        SimpleSolicitudDTO solicitudDTO = new SimpleSolicitudDTO();
+        solicitudDTO.setPropiedad(propiedadDTO);
+        solicitudDTO.setFechaInicio(BASE.plusDays(diaInicio));
+        solicitudDTO.setFechaFinal(BASE.plusDays(diaInicio + noches));
+        solicitudDTO.setCantidadPersonas(2);
+        return solicitudDTO;
+    }
+}
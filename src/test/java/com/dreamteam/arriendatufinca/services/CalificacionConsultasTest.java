@@ -0,0 +1,311 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.PaginaResenasDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.ResenaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.ResumenReputacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Calificacion;
+import com.dreamteam.arriendatufinca.entities.Cuenta;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
+import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.repository.ArrendatarioRepository;
+import com.dreamteam.arriendatufinca.repository.CalificacionRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.ResumenReputacionRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Fija la cantidad de sentencias SQL de saveNewCalificacion sobre H2
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CalificacionService.class, CatalogoEstadosSolicitud.class, CatalogoGeografico.class, EstadisticasRegion.class,
+    RankingPropiedades.class, ModelMapperConfiguration.class})
+class CalificacionConsultasTest {
+
+    @Autowired
+    private CalificacionService calificacionService;
+
+    @Autowired
+    private CatalogoEstadosSolicitud catalogoEstados;
+
+    @Autowired
+    private ArrendadorRepository arrendadorRepository;
+
+    @Autowired
+    private ArrendatarioRepository arrendatarioRepository;
+
+    @Autowired
+    private PropiedadRepository propiedadRepository;
+
+    @Autowired
+    private SolicitudRepository solicitudRepository;
+
+    @Autowired
+    private CalificacionRepository calificacionRepository;
+
+    @Autowired
+    private ResumenReputacionRepository resumenReputacionRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private Arrendador arrendador;
+    private Arrendatario arrendatario;
+    private Propiedad propiedad;
+    private Solicitud solicitud;
+
+    @BeforeEach
+    void setUp() {
+        arrendador = arrendadorRepository.save(new Arrendador("arrendador", "contrasena", "arrendador@example.com"));
+        arrendatario = arrendatarioRepository.save(new Arrendatario("arrendatario", "contrasena", "arrendatario@example.com"));
+
+        propiedad = new Propiedad();
+        propiedad.setNombrePropiedad("Finca");
+        propiedad.setArrendador(arrendador);
+        propiedad.setEstado(Estado.ACTIVE);
+        propiedad.setCantidadHabitaciones(3);
+        propiedad = propiedadRepository.save(propiedad);
+
+        solicitud = new Solicitud();
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setEstadoSolicitud(catalogoEstados.referencia(SolicitudStatus.POR_CALIFICAR));
+        solicitud.setFechaInicio(LocalDateTime.now().minusDays(5));
+        solicitud.setFechaFinal(LocalDateTime.now().minusDays(2));
+        solicitud.setFechaCreacion(LocalDateTime.now().minusDays(10));
+        solicitud.setCantidadPersonas(2);
+        solicitud = solicitudRepository.save(solicitud);
+    }
+
+    @Test
+    void testSaveNewCalificacion_CalificacionCuenta() {
+        Statistics estadisticas = estadisticas();
+
+        calificacionService.saveNewCalificacion(calificacion(TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, arrendador, arrendatario));
+
+        // SELECT con join fetch, upsert del resumen, INSERT de la calificación y UPDATE de la solicitud
+        assertEquals(4, estadisticas.getPrepareStatementCount());
+        assertTrue(solicitudRepository.findById(solicitud.getIdSolicitud()).get().isArrendatarioCalificado());
+        assertTrue(resumenReputacionRepository.existsById(arrendatario.getIdCuenta()));
+    }
+
+    @Test
+    void testGetResumenCuenta_AcumulaCalificaciones() {
+        calificacionService.saveNewCalificacion(calificacion(TipoCalificacion.ARRENDATARIO_A_ARRENDADOR, arrendatario, arrendador));
+        resumenReputacionRepository.registrarCalificacion(arrendador.getIdCuenta(), 1, LocalDateTime.now().minusYears(1));
+
+        ResumenReputacionDTO resumen = calificacionService.getResumenCuenta(arrendador.getIdCuenta()).getBody();
+
+        assertEquals(2, resumen.getCantidadCalificaciones());
+        assertEquals(5L, resumen.getSumaPuntajes());
+        assertEquals(2.5f, resumen.getPuntajePromedio());
+        assertEquals(List.of(0, 1, 0, 0, 1, 0), resumen.getHistograma());
+        // La fecha más antigua no reemplaza la última calificación
+        assertTrue(resumen.getUltimaCalificacion().isAfter(LocalDateTime.now().minusDays(1)));
+    }
+
+    @Test
+    void testGetResumenCuenta_SinCalificaciones() {
+        ResumenReputacionDTO resumen = calificacionService.getResumenCuenta(arrendatario.getIdCuenta()).getBody();
+
+        assertEquals(0, resumen.getCantidadCalificaciones());
+        assertNull(resumen.getPuntajePromedio());
+        assertNull(resumen.getUltimaCalificacion());
+    }
+
+    @Test
+    void testSaveNewCalificacion_CalificacionPropiedad() {
+        Statistics estadisticas = estadisticas();
+
+        calificacionService.saveNewCalificacion(calificacion(TipoCalificacion.ARRENDATARIO_A_PROPIEDAD, arrendatario, arrendador));
+
+        // Además se actualiza el puntaje de la propiedad
+        assertEquals(4, estadisticas.getPrepareStatementCount());
+        Propiedad actualizada = propiedadRepository.findById(propiedad.getIdPropiedad()).get();
+        assertEquals(4f, actualizada.getPuntajePromedio());
+        assertEquals(1, actualizada.getCantidadCalificaciones());
+    }
+
+    @Test
+    void testGetPaginaResenasCuenta_MasRecientesPrimero() {
+        for (int puntaje = 1; puntaje <= 5; puntaje++) {
+            calificar(arrendador, arrendatario, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, puntaje);
+        }
+        // Las calificaciones a la propiedad no son parte de la reputación de la cuenta
+        calificar(arrendatario, arrendatario, TipoCalificacion.ARRENDATARIO_A_PROPIEDAD, 1);
+        Statistics estadisticas = estadisticas();
+
+        PaginaResenasDTO primera = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), null, 2);
+
+        // Lectura del resumen y de la página
+        assertEquals(2, estadisticas.getPrepareStatementCount());
+        assertEquals(List.of(5, 4), primera.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        assertEquals("arrendador", primera.getContenido().get(0).getNombreCalificador());
+        assertEquals(5L, primera.getTotal());
+        assertNotNull(primera.getResumen());
+
+        PaginaResenasDTO segunda = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), primera.getSiguienteCursor(), 2);
+        PaginaResenasDTO tercera = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), segunda.getSiguienteCursor(), 2);
+
+        assertEquals(List.of(3, 2), segunda.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        assertNull(segunda.getResumen());
+        assertEquals(List.of(1), tercera.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        assertNull(tercera.getSiguienteCursor());
+    }
+
+    @Test
+    void testGetPaginaResenasCuenta_OrdenPorFechaNoPorId() {
+        // Con varias instancias un id mayor puede corresponder a una calificación más antigua
+        LocalDateTime ahora = LocalDateTime.now();
+        calificar(arrendador, arrendatario, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, 5, ahora);
+        calificar(arrendador, arrendatario, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, 1, ahora.minusDays(2));
+        calificar(arrendador, arrendatario, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, 3, ahora.minusDays(1));
+
+        PaginaResenasDTO primera = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), null, 2);
+        PaginaResenasDTO segunda = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), primera.getSiguienteCursor(), 2);
+
+        assertEquals(List.of(5, 3), primera.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        assertEquals(List.of(1), segunda.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        assertNull(segunda.getSiguienteCursor());
+    }
+
+    @Test
+    void testGetPaginaResenasCuenta_CalificacionSinFecha() {
+        calificar(arrendador, arrendatario, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, 5);
+        // Una calificación guardada antes de que existiera la columna fecha_calificacion
+        Calificacion anterior = new Calificacion();
+        anterior.setCalificador(arrendador);
+        anterior.setCalificado(arrendatario);
+        anterior.setPropiedad(propiedad);
+        anterior.setSolicitud(solicitud);
+        anterior.setTipoCalificacion(TipoCalificacion.ARRENDADOR_A_ARRENDATARIO);
+        anterior.setPuntaje(2);
+        calificacionRepository.save(anterior);
+        new ResourceDatabasePopulator(new ClassPathResource("data.sql")).execute(dataSource);
+
+        PaginaResenasDTO primera = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), null, 1);
+        PaginaResenasDTO segunda = calificacionService.getPaginaResenasCuenta(arrendatario.getIdCuenta(), primera.getSiguienteCursor(), 1);
+
+        assertEquals(List.of(5), primera.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        // Toma la fecha final de la solicitud, anterior a la calificación reciente
+        assertEquals(List.of(2), segunda.getContenido().stream().map(ResenaDTO::getPuntaje).toList());
+        assertNotNull(segunda.getContenido().get(0).getFechaCalificacion());
+        assertNull(segunda.getSiguienteCursor());
+    }
+
+    @Test
+    void testGetPaginaResenas_CursorInvalido() {
+        String cursor = UtilityService.codificarCursor("no es una fecha_1");
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class,
+                () -> calificacionService.getPaginaResenas(cursor, 2));
+
+        assertEquals(ManejadorErrores.ERROR_CURSOR_INVALIDO, exception.getReason());
+    }
+
+    @Test
+    void testGetPaginaResenas_IncluyeTodosLosTipos() {
+        calificar(arrendador, arrendatario, TipoCalificacion.ARRENDADOR_A_ARRENDATARIO, 3);
+        calificar(arrendatario, arrendatario, TipoCalificacion.ARRENDATARIO_A_PROPIEDAD, 4);
+
+        PaginaResenasDTO pagina = calificacionService.getPaginaResenas(null, 2);
+
+        assertEquals(List.of(TipoCalificacion.ARRENDATARIO_A_PROPIEDAD.getValue(), TipoCalificacion.ARRENDADOR_A_ARRENDATARIO.getValue()),
+                     pagina.getContenido().stream().map(ResenaDTO::getTipoCalificacion).toList());
+        assertNull(pagina.getResumen());
+        assertNull(pagina.getTotal());
+    }
+
+    private void calificar(Cuenta calificador, Cuenta calificado, TipoCalificacion tipo, int puntaje) {
+        calificar(calificador, calificado, tipo, puntaje, LocalDateTime.now());
+    }
+
+    private void calificar(Cuenta calificador, Cuenta calificado, TipoCalificacion tipo, int puntaje, LocalDateTime fecha) {
+        Calificacion calificacion = new Calificacion();
+        calificacion.setCalificador(calificador);
+        calificacion.setCalificado(calificado);
+        calificacion.setPropiedad(propiedad);
+        calificacion.setSolicitud(solicitud);
+        calificacion.setTipoCalificacion(tipo);
+        calificacion.setPuntaje(puntaje);
+        calificacion.setFechaCalificacion(fecha);
+        calificacionRepository.save(calificacion);
+        if (tipo != TipoCalificacion.ARRENDATARIO_A_PROPIEDAD) {
+            resumenReputacionRepository.registrarCalificacion(calificado.getIdCuenta(), puntaje, calificacion.getFechaCalificacion());
+        }
+    }
+
+    private Statistics estadisticas() {
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        return estadisticas;
+    }
+
+    private CalificacionDTO calificacion(TipoCalificacion tipo, Arrendador calificador, Arrendatario calificado) {
+        return calificacion(tipo, calificador.getIdCuenta(), calificado.getIdCuenta());
+    }
+
+    private CalificacionDTO calificacion(TipoCalificacion tipo, Arrendatario calificador, Arrendador calificado) {
+        return calificacion(tipo, calificador.getIdCuenta(), calificado.getIdCuenta());
+    }
+
+    private CalificacionDTO calificacion(TipoCalificacion tipo, Integer idCalificador, Integer idCalificado) {
+        CalificacionDTO calificacionDTO = new CalificacionDTO();
+        calificacionDTO.setTipoCalificacion(tipo.getValue());
+        calificacionDTO.setPuntaje(4);
+        calificacionDTO.setComentario("Muy bien");
+        CuentaDTO calificadorDTO = new CuentaDTO();
+        calificadorDTO.setIdCuenta(idCalificador);
+        calificacionDTO.setCalificador(calificadorDTO);
+        CuentaDTO calificadoDTO = new CuentaDTO();
+        calificadoDTO.setIdCuenta(idCalificado);
+        calificacionDTO.setCalificado(calificadoDTO);
+        BasePropiedadDTO propiedadDTO = new BasePropiedadDTO();
+        propiedadDTO.setIdPropiedad(propiedad.getIdPropiedad());
+        calificacionDTO.setPropiedad(propiedadDTO);
+        BaseSolicitudDTO solicitudDTO = new BaseSolicitudDTO();
+        solicitudDTO.setIdSolicitud(solicitud.getIdSolicitud());
+        calificacionDTO.setSolicitud(solicitudDTO);
+        return calificacionDTO;
+    }
+}
@@ -6,6 +6,7 @@ import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.server.ResponseStatusException;
@@ -22,9 +24,7 @@ import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
 import com.dreamteam.arriendatufinca.dtos.calificacion.BaseCalificacionDTO;
 import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
-import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
 import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
-import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
 import com.dreamteam.arriendatufinca.entities.Arrendador;
 import com.dreamteam.arriendatufinca.entities.Arrendatario;
 import com.dreamteam.arriendatufinca.entities.Calificacion;
@@ -37,7 +37,9 @@ import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.CalificacionRepository;
 import com.dreamteam.arriendatufinca.repository.CuentaRepository;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
 import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.ResumenReputacionRepository;
 import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
 
 class CalificacionServiceTest {
@@ -57,17 +59,23 @@ class CalificacionServiceTest {
     @Mock
     private PropiedadRepository propiedadRepository;
 
-    @InjectMocks
-    private ModelMapper realModelMapper;
+    @Mock
+    private ResumenReputacionRepository resumenReputacionRepository;
 
     @Mock
-    private ModelMapper modelMapper;
+    private EstadisticasRegion estadisticasRegion;
 
     @Mock
-    private SolicitudService solicitudService;
+    private RankingPropiedades rankingPropiedades;
+
+    @InjectMocks
+    private ModelMapper realModelMapper;
 
     @Mock
-    private PropiedadService propiedadService;
+    private ModelMapper modelMapper;
+
+    @Spy
+    private CatalogoEstadosSolicitud catalogoEstados = new CatalogoEstadosSolicitud(mock(EstadoSolicitudRepository.class));
 
     @BeforeEach
     void setUp() {
@@ -146,27 +154,31 @@ class CalificacionServiceTest {
         prepararCalificacionCorrecta(calificacionDTO, solicitud);
         solicitud.setArrendadorCalificado(true);
         solicitud.setPropiedadCalificado(true);
-        SimpleSolicitudDTO solicitudDTO = realModelMapper.map(solicitud, SimpleSolicitudDTO.class);
-        
+
 
         Calificacion calificacion = new Calificacion();
         calificacion.setSolicitud(new Solicitud());
-        calificacion.getSolicitud().setEstadoSolicitud(new EstadoSolicitud(1, SolicitudStatus.POR_CALIFICAR.getNombre()));
+        calificacion.getSolicitud().setEstadoSolicitud(new EstadoSolicitud(SolicitudStatus.POR_CALIFICAR.getId(), SolicitudStatus.POR_CALIFICAR.getNombre()));
         
-        when(modelMapper.map(any(Solicitud.class), eq(SimpleSolicitudDTO.class))).thenReturn(solicitudDTO);
-        when(cuentaRepository.findById(anyInt())).thenReturn(Optional.of(new Cuenta()));
-        when(propiedadRepository.findById(anyInt())).thenReturn(Optional.of(new Propiedad()));
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
         when(modelMapper.map(any(CalificacionDTO.class), eq(Calificacion.class))).thenReturn(calificacion);
         when(calificacionRepository.save(any(Calificacion.class))).thenReturn(calificacion);
         when(modelMapper.map(any(Calificacion.class), eq(CalificacionDTO.class))).thenReturn(calificacionDTO);
-        when(solicitudService.updateSolicitud(any(SimpleSolicitudDTO.class))).thenReturn(ResponseEntity.ok(solicitudDTO));
 
         ResponseEntity<CalificacionDTO> result = calificacionService.saveNewCalificacion(calificacionDTO);
 
         assertNotNull(result);
         assertEquals(200, result.getStatusCode().value());
         verify(calificacionRepository, times(1)).save(any(Calificacion.class));
+        // Todas las verificaciones se resuelven con la solicitud ya cargada
+        verify(solicitudRepository, never()).findById(anyInt());
+        verify(cuentaRepository, never()).findById(anyInt());
+        verify(propiedadRepository, never()).findById(anyInt());
+        verify(resumenReputacionRepository, times(1)).registrarCalificacion(eq(calificacion.getCalificado().getIdCuenta()),
+                                                                            eq(calificacionDTO.getPuntaje()), any(LocalDateTime.class));
+        assertNotNull(calificacion.getFechaCalificacion());
+        assertTrue(solicitud.isArrendatarioCalificado());
+        assertEquals(SolicitudStatus.CERRADA.getId(), solicitud.getEstadoSolicitud().getIdEstadoSolicitud());
     }
 
     @Test
@@ -178,7 +190,7 @@ class CalificacionServiceTest {
         
         when(propiedadRepository.findById(anyInt())).thenReturn(Optional.of(new Propiedad()));
         when(cuentaRepository.findById(anyInt())).thenReturn(Optional.of(new Cuenta()));
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             calificacionService.saveNewCalificacion(calificacionDTO);
@@ -196,7 +208,7 @@ class CalificacionServiceTest {
         
         when(propiedadRepository.findById(anyInt())).thenReturn(Optional.of(new Propiedad()));
         when(cuentaRepository.findById(anyInt())).thenReturn(Optional.of(new Cuenta()));
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             calificacionService.saveNewCalificacion(calificacionDTO);
@@ -205,6 +217,24 @@ class CalificacionServiceTest {
         assertEquals(ManejadorErrores.ERROR_CALIFICADOR_NO_PERTENECE_SOLICITUD, exception.getReason());
     }
 
+    @Test
+    void testSaveNewCalificacion_CalificadorNoExiste() {
+        CalificacionDTO calificacionDTO = new CalificacionDTO();
+        Solicitud solicitud = new Solicitud();
+        prepararCalificacionCorrecta(calificacionDTO, solicitud);
+        calificacionDTO.getCalificador().setIdCuenta(3);
+
+        when(cuentaRepository.findById(anyInt())).thenReturn(Optional.empty());
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            calificacionService.saveNewCalificacion(calificacionDTO);
+        });
+
+        assertEquals(ManejadorErrores.ERROR_CUENTA_NO_EXISTE, exception.getReason());
+        verify(calificacionRepository, never()).save(any(Calificacion.class));
+    }
+
     @Test
     void testSaveNewCalificacion_CalificadoNoPerteneceSolicitud() {
         CalificacionDTO calificacionDTO = new CalificacionDTO();
@@ -214,7 +244,7 @@ class CalificacionServiceTest {
         
         when(propiedadRepository.findById(anyInt())).thenReturn(Optional.of(new Propiedad()));
         when(cuentaRepository.findById(anyInt())).thenReturn(Optional.of(new Cuenta()));
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             calificacionService.saveNewCalificacion(calificacionDTO);
@@ -232,7 +262,7 @@ class CalificacionServiceTest {
         
         when(propiedadRepository.findById(anyInt())).thenReturn(Optional.of(new Propiedad()));
         when(cuentaRepository.findById(anyInt())).thenReturn(Optional.of(new Cuenta()));
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             calificacionService.saveNewCalificacion(calificacionDTO);
@@ -248,7 +278,7 @@ class CalificacionServiceTest {
         prepararCalificacionCorrecta(calificacionDTO, solicitud);
         when(cuentaRepository.findById(anyInt())).thenReturn(Optional.of(new Cuenta()));
         when(propiedadRepository.findById(anyInt())).thenReturn(Optional.of(new Propiedad()));
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
+        when(solicitudRepository.findByIdConParticipantes(anyInt())).thenReturn(Optional.of(solicitud));
 
         calificacionDTO.setPuntaje(6); // Invalid puntaje
 
@@ -268,18 +298,17 @@ class CalificacionServiceTest {
         prepararCalificacionCorrecta(calificacionDTO, solicitud);
         calificacionDTO.setTipoCalificacion(TipoCalificacion.ARRENDATARIO_A_PROPIEDAD.getValue());
 
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
-        when(propiedadService.updatePropiedad(any(SimplePropiedadDTO.class))).thenReturn(ResponseEntity.ok(new SimplePropiedadDTO()));
-
-        SimpleSolicitudDTO solicitudDTO = new SimpleSolicitudDTO();
-        solicitudDTO.setIdSolicitud(1);
-        solicitudDTO.setPropiedad(new SimplePropiedadDTO());
+        solicitud.getPropiedad().setSumaPuntajes(3L);
+        solicitud.getPropiedad().setCantidadCalificaciones(1);
 
-        SimpleSolicitudDTO result = calificacionService.asignarCalificacionSolicitud(calificacionDTO, solicitudDTO);
+        Solicitud result = calificacionService.asignarCalificacionSolicitud(calificacionDTO, solicitud);
 
         assertNotNull(result);
         assertTrue(result.isPropiedadCalificado());
-        verify(solicitudRepository, times(1)).findById(anyInt());
+        assertEquals(4f, result.getPropiedad().getPuntajePromedio());
+        assertEquals(2, result.getPropiedad().getCantidadCalificaciones());
+        verify(propiedadRepository, times(1)).registrarPuntaje(1, 5);
+        verify(solicitudRepository, never()).findById(anyInt());
     }
 
     @Test
@@ -290,13 +319,8 @@ class CalificacionServiceTest {
         calificacionDTO.setTipoCalificacion("INVALID_TYPE");
 
 
-        when(solicitudRepository.findById(anyInt())).thenReturn(Optional.of(solicitud));
-
-        SimpleSolicitudDTO solicitudDTO = new SimpleSolicitudDTO();
-        solicitudDTO.setIdSolicitud(1);
-
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
-            calificacionService.asignarCalificacionSolicitud(calificacionDTO, solicitudDTO);
+            calificacionService.asignarCalificacionSolicitud(calificacionDTO, solicitud);
         });
 
         assertEquals(ManejadorErrores.ERROR_TIPO_CALIFICACION_INVALIDO, exception.getReason());
@@ -320,7 +344,7 @@ class CalificacionServiceTest {
         calificacionDTO.setSolicitud(solicitudDTO);
 
         solicitud.setIdSolicitud(1);
-        solicitud.setEstadoSolicitud(new EstadoSolicitud(1, SolicitudStatus.POR_CALIFICAR.getNombre()));
+        solicitud.setEstadoSolicitud(new EstadoSolicitud(SolicitudStatus.POR_CALIFICAR.getId(), SolicitudStatus.POR_CALIFICAR.getNombre()));
         Arrendador arrendador = new Arrendador();
         arrendador.setIdCuenta(1);
         Propiedad propiedad = new Propiedad();
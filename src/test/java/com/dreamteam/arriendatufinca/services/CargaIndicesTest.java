@@ -0,0 +1,161 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dreamteam.arriendatufinca.dtos.propiedad.FiltroPropiedadDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.repository.ArrendatarioRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// La carga recorre propiedad y solicitud una vez, por lotes, sin cargar entidades
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CatalogoEstadosSolicitud.class, CatalogoGeografico.class})
+class CargaIndicesTest {
+    private static final String DEPARTAMENTO = "Vaupés";
+
+    @Autowired
+    private PropiedadRepository propiedadRepository;
+
+    @Autowired
+    private SolicitudRepository solicitudRepository;
+
+    @Autowired
+    private ArrendadorRepository arrendadorRepository;
+
+    @Autowired
+    private ArrendatarioRepository arrendatarioRepository;
+
+    @Autowired
+    private CatalogoEstadosSolicitud catalogoEstados;
+
+    @Autowired
+    private CatalogoGeografico catalogoGeografico;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Arrendador arrendador;
+    private Arrendatario arrendatario;
+    private Propiedad calificada;
+    private Propiedad sinCalificar;
+    private Propiedad inactiva;
+
+    @BeforeEach
+    void setUp() {
+        arrendador = arrendadorRepository.save(new Arrendador("arrendador", "contrasena", "carga-arrendador@example.com"));
+        arrendatario = arrendatarioRepository.save(new Arrendatario("arrendatario", "contrasena", "carga-arrendatario@example.com"));
+        calificada = guardarPropiedad("Finca Zarigüeya", Estado.ACTIVE, 9L, 2);
+        sinCalificar = guardarPropiedad("Cabaña Zarigüeya", Estado.ACTIVE, 0L, 0);
+        inactiva = guardarPropiedad("Villa Zarigüeya", Estado.INACTIVE, 5L, 1);
+        guardarSolicitud(calificada, dia(1), dia(5), SolicitudStatus.POR_PAGAR);
+        guardarSolicitud(sinCalificar, dia(1), dia(5), SolicitudStatus.RECHAZADA);
+        guardarSolicitud(calificada, dia(10), dia(12), SolicitudStatus.PENDIENTE);
+    }
+
+    // Las pruebas confirman sus escrituras; se borran para no afectar a otras clases que comparten la base
+    @AfterEach
+    void limpiar() {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.update("DELETE FROM solicitud WHERE id_arrendatario = ?", arrendatario.getIdCuenta());
+        jdbc.update("DELETE FROM propiedad WHERE id_arrendador = ?", arrendador.getIdCuenta());
+        jdbc.update("DELETE FROM arrendatario WHERE id_cuenta = ?", arrendatario.getIdCuenta());
+        jdbc.update("DELETE FROM arrendador WHERE id_cuenta = ?", arrendador.getIdCuenta());
+        jdbc.update("DELETE FROM cuenta WHERE id_cuenta IN (?, ?)", arrendatario.getIdCuenta(), arrendador.getIdCuenta());
+    }
+
+    @Test
+    void testCargaEnUnSoloRecorridoPorLotes() {
+        IndiceFacetasPropiedad indiceFacetas = new IndiceFacetasPropiedad();
+        IndiceTextoPropiedad indiceTexto = new IndiceTextoPropiedad();
+        EstadisticasRegion estadisticasRegion = new EstadisticasRegion(catalogoGeografico);
+        RankingPropiedades rankingPropiedades = new RankingPropiedades(3.5, 5);
+        IndiceDisponibilidad indiceDisponibilidad = new IndiceDisponibilidad(catalogoEstados);
+        CargaIndices carga = new CargaIndices(propiedadRepository, solicitudRepository, catalogoEstados, indiceFacetas, indiceTexto,
+                                              estadisticasRegion, rankingPropiedades, indiceDisponibilidad, 2);
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+
+        carga.init();
+
+        // Solo proyecciones: ninguna entidad pasa por la sesión
+        assertEquals(0, estadisticas.getEntityLoadCount());
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setDepartamento(DEPARTAMENTO);
+        assertEquals(List.of(calificada.getIdPropiedad(), sinCalificar.getIdPropiedad()), indiceFacetas.buscar(filtro, 0, 10).getIds());
+        assertEquals(List.of(calificada.getIdPropiedad(), sinCalificar.getIdPropiedad()),
+                     indiceTexto.buscar("zarigueya", 10).stream().sorted().toList());
+        // El ranking conserva las calificaciones de la propiedad; las que no tienen ninguna no entran
+        assertEquals(List.of(calificada.getIdPropiedad()), rankingPropiedades.mejores(DEPARTAMENTO, 10));
+        assertTrue(estadisticasRegion.contarPropiedades(List.of(catalogoGeografico.regionDe(DEPARTAMENTO))) >= 2);
+        // Las fechas de la solicitud rechazada no ocupan la propiedad
+        assertFalse(indiceDisponibilidad.estaDisponible(calificada.getIdPropiedad(), dia(2), dia(3)));
+        assertFalse(indiceDisponibilidad.estaDisponible(calificada.getIdPropiedad(), dia(11), dia(13)));
+        assertTrue(indiceDisponibilidad.estaDisponible(sinCalificar.getIdPropiedad(), dia(2), dia(3)));
+        assertFalse(indiceDisponibilidad.propiedadesConReservas().contains(inactiva.getIdPropiedad()));
+    }
+
+    private Propiedad guardarPropiedad(String nombre, Estado estado, Long sumaPuntajes, Integer calificaciones) {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setNombrePropiedad(nombre);
+        propiedad.setDepartamento(DEPARTAMENTO);
+        propiedad.setMunicipio("Mitú");
+        propiedad.setArrendador(arrendador);
+        propiedad.setEstado(estado);
+        propiedad.setCantidadHabitaciones(3);
+        propiedad.setValorNoche(200000f);
+        propiedad.setSumaPuntajes(sumaPuntajes);
+        propiedad.setCantidadCalificaciones(calificaciones);
+        return propiedadRepository.save(propiedad);
+    }
+
+    private void guardarSolicitud(Propiedad propiedad, LocalDateTime inicio, LocalDateTime fin, SolicitudStatus estado) {
+        Solicitud solicitud = new Solicitud();
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setEstadoSolicitud(catalogoEstados.referencia(estado));
+        solicitud.setFechaInicio(inicio);
+        solicitud.setFechaFinal(fin);
+        solicitud.setFechaCreacion(LocalDateTime.now());
+        solicitud.setCantidadPersonas(2);
+        solicitudRepository.save(solicitud);
+    }
+
+    private static LocalDateTime dia(int dia) {
+        return LocalDateTime.of(2030, 1, 1, 12, 0).plusDays(dia);
+    }
+}
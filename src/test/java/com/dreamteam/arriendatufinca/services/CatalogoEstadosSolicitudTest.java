@@ -0,0 +1,59 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+
+class CatalogoEstadosSolicitudTest {
+
+    @Test
+    void testTablaTransiciones() {
+        assertTrue(SolicitudStatus.PENDIENTE.puedeCambiarA(SolicitudStatus.POR_PAGAR));
+        assertTrue(SolicitudStatus.PENDIENTE.puedeCambiarA(SolicitudStatus.RECHAZADA));
+        assertTrue(SolicitudStatus.POR_PAGAR.puedeCambiarA(SolicitudStatus.POR_CALIFICAR));
+        assertTrue(SolicitudStatus.POR_CALIFICAR.puedeCambiarA(SolicitudStatus.CERRADA));
+        assertFalse(SolicitudStatus.POR_PAGAR.puedeCambiarA(SolicitudStatus.CERRADA));
+        assertFalse(SolicitudStatus.RECHAZADA.puedeCambiarA(SolicitudStatus.PENDIENTE));
+        assertFalse(SolicitudStatus.CERRADA.puedeCambiarA(null));
+        assertEquals(List.of(SolicitudStatus.PENDIENTE), List.copyOf(SolicitudStatus.RECHAZADA.getAnteriores()));
+        assertTrue(SolicitudStatus.PENDIENTE.getAnteriores().isEmpty());
+    }
+
+    @Test
+    void testEstadosPorIdDeLaTabla() {
+        // Ids distintos a los del enum, como quedarían si data.sql insertara en otro orden
+        EstadoSolicitudRepository estadoSolicitudRepository = mock(EstadoSolicitudRepository.class);
+        when(estadoSolicitudRepository.findAll()).thenReturn(List.of(
+            new EstadoSolicitud(7, SolicitudStatus.CERRADA.getNombre()),
+            new EstadoSolicitud(2, SolicitudStatus.PENDIENTE.getNombre()),
+            new EstadoSolicitud(9, "Desconocido")));
+        CatalogoEstadosSolicitud catalogo = new CatalogoEstadosSolicitud(estadoSolicitudRepository);
+        catalogo.init();
+
+        assertEquals(SolicitudStatus.CERRADA, catalogo.estadoDe(new EstadoSolicitud(7, null)));
+        assertEquals(SolicitudStatus.PENDIENTE, catalogo.estadoDe(new EstadoSolicitud(2, null)));
+        assertNull(catalogo.estadoDe(new EstadoSolicitud(9, "Desconocido")));
+        assertEquals(7, catalogo.referencia(SolicitudStatus.CERRADA).getIdEstadoSolicitud());
+        // Los estados ausentes de la tabla conservan el id declarado en el enum
+        assertEquals(SolicitudStatus.POR_CALIFICAR.getId(), catalogo.referencia(SolicitudStatus.POR_CALIFICAR).getIdEstadoSolicitud());
+    }
+
+    @Test
+    void testTablaVaciaUsaIdsDelEnum() {
+        CatalogoEstadosSolicitud catalogo = new CatalogoEstadosSolicitud(mock(EstadoSolicitudRepository.class));
+        catalogo.init();
+
+        for (SolicitudStatus estado : SolicitudStatus.values()) {
+            assertEquals(estado, catalogo.estadoDe(new EstadoSolicitud(estado.getId(), null)));
+        }
+        assertNull(catalogo.estadoDe(null));
+        assertNull(catalogo.estadoDe(new EstadoSolicitud(99, null)));
+    }
+}
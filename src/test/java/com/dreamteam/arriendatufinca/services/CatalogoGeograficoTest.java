@@ -0,0 +1,91 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Departamento;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Municipio;
+
+class CatalogoGeograficoTest {
+
+    private final CatalogoGeografico catalogo = new CatalogoGeografico();
+
+    @Test
+    void testValidacion() {
+        assertTrue(catalogo.esValido("Medellín", "Antioquia"));
+        assertTrue(catalogo.esValido("Cartagena", "Bolívar"));
+        assertFalse(catalogo.esValido("Medellín", "Cundinamarca"));
+        assertFalse(catalogo.esValido("Atlantis", "Antioquia"));
+        assertFalse(catalogo.esValido("Medellín", null));
+        assertFalse(catalogo.esValido(null, "Antioquia"));
+    }
+
+    @Test
+    void testBusquedaPorCodigoDane() {
+        assertEquals("Medellín", catalogo.buscarMunicipioPorCodigo("05001").get().getNombre());
+        assertEquals("Medellín", catalogo.buscarMunicipioPorCodigo("5.001").get().getNombre());
+        assertEquals("Antioquia", catalogo.buscarDepartamentoPorCodigo("5").get().getNombre());
+        assertEquals("05", catalogo.buscarDepartamento("Antioquia").get().getCodigo());
+        assertTrue(catalogo.buscarMunicipioPorCodigo("99999").isEmpty());
+
+        Municipio bogota = catalogo.buscarMunicipio("Bogotá D.C.", "Bogotá D.C.").get();
+        assertEquals("11001", bogota.getCodigo());
+        assertEquals("11", bogota.getCodigoDepartamento());
+    }
+
+    @Test
+    void testNormalizarCodigos() {
+        assertEquals("05", CatalogoGeografico.normalizarCodigoDepartamento("5"));
+        assertEquals("11", CatalogoGeografico.normalizarCodigoDepartamento("11"));
+        // El CSV pierde los ceros finales de la parte decimal
+        assertEquals("05400", CatalogoGeografico.normalizarCodigoMunicipio("5.4"));
+        assertEquals("05030", CatalogoGeografico.normalizarCodigoMunicipio("5.03"));
+        assertEquals("11001", CatalogoGeografico.normalizarCodigoMunicipio("11.001"));
+        assertEquals("05001", CatalogoGeografico.normalizarCodigoMunicipio("5001"));
+    }
+
+    @Test
+    void testBinarioEquivalenteAlCsv() throws Exception {
+        List<Departamento> desdeCsv;
+        try (InputStream entrada = new ClassPathResource(CatalogoGeografico.ARCHIVO_CSV).getInputStream()) {
+            desdeCsv = CatalogoGeografico.leerCsv(entrada);
+        }
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        CatalogoGeografico.escribirBinario(desdeCsv, salida);
+        List<Departamento> desdeBinario = CatalogoGeografico.leerBinario(new ByteArrayInputStream(salida.toByteArray()));
+
+        assertEquals(desdeCsv, desdeBinario);
+        assertEquals(33, desdeCsv.size());
+        assertEquals(1123, desdeCsv.stream().mapToInt(departamento -> departamento.getMunicipios().size()).sum());
+        // El catálogo del componente, venga del binario del build o del CSV, tiene el mismo contenido
+        assertEquals(desdeCsv, catalogo.getDepartamentos());
+    }
+
+    @Test
+    void testBuscarRegiones() {
+        assertEquals(6, catalogo.getRegiones().size());
+        assertEquals("Región Caribe", catalogo.regionDe("Bolívar"));
+        assertNull(catalogo.regionDe("Atlantis"));
+        assertEquals(List.of("Región Caribe"), catalogo.buscarRegiones("caribe"));
+        assertEquals(List.of("Región Pacífico"), catalogo.buscarRegiones("Region Pacifico"));
+        assertEquals(List.of("Región Eje Cafetero - Antioquia"), catalogo.buscarRegiones("eje cafetero"));
+        assertEquals(List.of("Región Centro Oriente", "Región Centro Sur"), catalogo.buscarRegiones("centro"));
+        assertTrue(catalogo.buscarRegiones("xyz").isEmpty());
+        assertTrue(catalogo.buscarRegiones("").isEmpty());
+        assertEquals(4, catalogo.getDepartamentosRegion("Región Eje Cafetero - Antioquia").size());
+    }
+
+    @Test
+    void testBinarioInvalido() {
+        assertThrows(IOException.class,
+            () -> CatalogoGeografico.leerBinario(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8})));
+    }
+}
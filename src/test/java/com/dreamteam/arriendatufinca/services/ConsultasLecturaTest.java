@@ -0,0 +1,207 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.TestInstance.Lifecycle;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.ArrendadorDTO;
+import com.dreamteam.arriendatufinca.dtos.ArrendatarioDTO;
+import com.dreamteam.arriendatufinca.dtos.PaginaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.SolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.repository.ArrendatarioRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+import jakarta.persistence.EntityManagerFactory;
+
+// Fija la cantidad de sentencias SQL de los listados y detalles sobre H2: no depende de cuántas filas haya.
+// Se ejecuta sin transacción, así que además comprueba que los DTO no necesitan cargas perezosas posteriores.
+// Los datos se crean una sola vez para la clase
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({PropiedadService.class, SolicitudService.class, ArrendadorService.class, ArrendatarioService.class,
+    CatalogoEstadosSolicitud.class, CatalogoGeografico.class, SugerenciasUbicacion.class, EstadisticasRegion.class,
+    RankingPropiedades.class, IndiceFacetasPropiedad.class, IndiceTextoPropiedad.class, IndiceDisponibilidad.class,
+    BloqueoPropiedades.class, ModelMapperConfiguration.class})
+@TestInstance(Lifecycle.PER_CLASS)
+class ConsultasLecturaTest {
+
+    private static final int CANTIDAD_PROPIEDADES = 6;
+    private static final int SOLICITUDES_POR_PROPIEDAD = 3;
+
+    @Autowired
+    private PropiedadService propiedadService;
+
+    @Autowired
+    private SolicitudService solicitudService;
+
+    @Autowired
+    private ArrendadorService arrendadorService;
+
+    @Autowired
+    private ArrendatarioService arrendatarioService;
+
+    @Autowired
+    private CatalogoEstadosSolicitud catalogoEstados;
+
+    @Autowired
+    private ArrendadorRepository arrendadorRepository;
+
+    @Autowired
+    private ArrendatarioRepository arrendatarioRepository;
+
+    @Autowired
+    private PropiedadRepository propiedadRepository;
+
+    @Autowired
+    private SolicitudRepository solicitudRepository;
+
+    @Autowired
+    private IndiceTextoPropiedad indiceTexto;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Arrendador arrendador;
+    private Arrendatario arrendatario;
+    private final List<Propiedad> propiedades = new ArrayList<>();
+    private Solicitud solicitud;
+
+    @BeforeAll
+    void setUp() {
+        arrendador = arrendadorRepository.save(new Arrendador("arrendador", "contrasena", "arrendador@example.com"));
+        Arrendador otroArrendador = arrendadorRepository.save(new Arrendador("otro", "contrasena", "otro@example.com"));
+        arrendatario = arrendatarioRepository.save(new Arrendatario("arrendatario", "contrasena", "arrendatario@example.com"));
+        List<Arrendatario> arrendatarios = List.of(arrendatario,
+            arrendatarioRepository.save(new Arrendatario("segundo", "contrasena", "segundo@example.com")),
+            arrendatarioRepository.save(new Arrendatario("tercero", "contrasena", "tercero@example.com")));
+        List<SolicitudStatus> estados = List.of(SolicitudStatus.PENDIENTE, SolicitudStatus.POR_PAGAR, SolicitudStatus.CERRADA);
+
+        for (int i = 0; i < CANTIDAD_PROPIEDADES; i++) {
+            Propiedad propiedad = new Propiedad();
+            propiedad.setNombrePropiedad("Finca " + i);
+            propiedad.setArrendador(i % 2 == 0 ? arrendador : otroArrendador);
+            propiedad.setEstado(Estado.ACTIVE);
+            propiedad.setDepartamento("Cundinamarca");
+            propiedad.setMunicipio("Girardot");
+            propiedad = propiedadRepository.save(propiedad);
+            indiceTexto.indexar(propiedad);
+            propiedades.add(propiedad);
+            for (int j = 0; j < SOLICITUDES_POR_PROPIEDAD; j++) {
+                Solicitud nueva = new Solicitud();
+                nueva.setArrendatario(arrendatarios.get(j));
+                nueva.setPropiedad(propiedad);
+                nueva.setEstadoSolicitud(catalogoEstados.referencia(estados.get((i + j) % estados.size())));
+                nueva.setFechaInicio(LocalDateTime.now().plusDays(10 * j));
+                nueva.setFechaFinal(LocalDateTime.now().plusDays(10 * j + 2));
+                nueva.setFechaCreacion(LocalDateTime.now());
+                nueva.setCantidadPersonas(2);
+                solicitud = solicitudRepository.save(nueva);
+            }
+        }
+    }
+
+    @Test
+    void testPropiedades() {
+        Statistics estadisticas = estadisticas();
+        List<PropiedadDTO> todas = propiedadService.getPropiedades();
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(CANTIDAD_PROPIEDADES, todas.size());
+        assertEquals(SOLICITUDES_POR_PROPIEDAD, (int) todas.get(0).getCantidadSolicitudes());
+        assertEquals("arrendador", todas.get(0).getArrendador().getNombreCuenta());
+
+        // Identificadores de la página y luego sus propiedades con arrendador y conteo de solicitudes
+        estadisticas = estadisticas();
+        PaginaDTO<PropiedadDTO> pagina = propiedadService.getPaginaPropiedades(null, 4, false);
+        assertEquals(2, estadisticas.getPrepareStatementCount());
+        assertEquals(4, pagina.getContenido().size());
+        assertEquals(SOLICITUDES_POR_PROPIEDAD, (int) pagina.getContenido().get(3).getCantidadSolicitudes());
+        assertEquals(propiedades.get(3).getIdPropiedad(), UtilityService.decodificarCursor(pagina.getSiguienteCursor()));
+
+        estadisticas = estadisticas();
+        PropiedadDTO detalle = propiedadService.getPropiedad(propiedades.get(1).getIdPropiedad()).getBody();
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals("otro", detalle.getArrendador().getNombreCuenta());
+        assertEquals(SOLICITUDES_POR_PROPIEDAD, (int) detalle.getCantidadSolicitudes());
+    }
+
+    @Test
+    void testResultadosDeBusqueda() {
+        Statistics estadisticas = estadisticas();
+        PaginaDTO<SimplePropiedadDTO> pagina = propiedadService.buscarPorRegion("Centro Oriente", null, 10);
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(CANTIDAD_PROPIEDADES, pagina.getContenido().size());
+        assertNotNull(pagina.getContenido().get(CANTIDAD_PROPIEDADES - 1).getArrendador());
+
+        estadisticas = estadisticas();
+        List<SimplePropiedadDTO> resultado = propiedadService.buscarPorTexto("finca", null);
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(CANTIDAD_PROPIEDADES, resultado.size());
+    }
+
+    @Test
+    void testSolicitudes() {
+        Statistics estadisticas = estadisticas();
+        List<SolicitudDTO> todas = solicitudService.getAllSolicitudes();
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(CANTIDAD_PROPIEDADES * SOLICITUDES_POR_PROPIEDAD, todas.size());
+        assertNotNull(todas.get(0).getEstadoSolicitud().getNombreEstadoSolicitud());
+        assertNotNull(todas.get(0).getPropiedad().getArrendador());
+
+        estadisticas = estadisticas();
+        SimpleSolicitudDTO detalle = solicitudService.getSolicitudById(solicitud.getIdSolicitud()).getBody();
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals("otro", detalle.getPropiedad().getArrendador().getNombreCuenta());
+        assertEquals("tercero", detalle.getArrendatario().getNombreCuenta());
+    }
+
+    @Test
+    void testCuentas() {
+        Statistics estadisticas = estadisticas();
+        ArrendadorDTO arrendadorDTO = arrendadorService.getArrendador(arrendador.getIdCuenta()).getBody();
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(CANTIDAD_PROPIEDADES / 2, arrendadorDTO.getPropiedades().size());
+
+        estadisticas = estadisticas();
+        ArrendatarioDTO arrendatarioDTO = arrendatarioService.getArrendatario(arrendatario.getIdCuenta()).getBody();
+        assertEquals(1, estadisticas.getPrepareStatementCount());
+        assertEquals(CANTIDAD_PROPIEDADES, arrendatarioDTO.getSolicitudes().size());
+        assertNotNull(arrendatarioDTO.getSolicitudes().get(0).getEstadoSolicitud());
+    }
+
+    private Statistics estadisticas() {
+        Statistics estadisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        estadisticas.clear();
+        return estadisticas;
+    }
+}
@@ -0,0 +1,117 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.dtos.ubicacion.EstadisticasRegionDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+class EstadisticasRegionTest {
+
+    private static final String CARIBE = "Región Caribe";
+    private static final String EJE_CAFETERO = "Región Eje Cafetero - Antioquia";
+
+    private EstadisticasRegion estadisticas;
+
+    @BeforeEach
+    void setUp() {
+        estadisticas = new EstadisticasRegion(new CatalogoGeografico());
+        List.of(
+            crearPropiedad(1, "Antioquia", 200000f, 9L, 2),
+            crearPropiedad(2, "Caldas", 100000f, 5L, 1),
+            crearPropiedad(3, "Bolívar", 300000f, 0L, 0),
+            crearPropiedad(4, "Departamento inexistente", 500000f, 0L, 0)).forEach(estadisticas::indexar);
+    }
+
+    @Test
+    void testCargaInicial() {
+        List<EstadisticasRegionDTO> resultado = estadisticas.getEstadisticas();
+        assertEquals(6, resultado.size());
+
+        EstadisticasRegionDTO eje = buscar(EJE_CAFETERO);
+        assertEquals(2, eje.getCantidadPropiedades());
+        assertEquals(150000f, eje.getMedianaValorNoche());
+        assertEquals(14f / 3, eje.getPuntajePromedio(), 0.0001);
+        assertEquals(3, eje.getCantidadCalificaciones());
+
+        EstadisticasRegionDTO caribe = buscar(CARIBE);
+        assertEquals(1, caribe.getCantidadPropiedades());
+        assertNull(caribe.getPuntajePromedio());
+
+        EstadisticasRegionDTO llano = buscar("Región Llano");
+        assertEquals(0, llano.getCantidadPropiedades());
+        assertNull(llano.getMedianaValorNoche());
+        assertEquals(3, estadisticas.contarPropiedades(List.of(EJE_CAFETERO, CARIBE)));
+    }
+
+    @Test
+    void testCambioDePrecioYRegion() {
+        // La propiedad 2 sube de precio y se mueve al Caribe: sale de una región y entra a la otra con sus calificaciones
+        estadisticas.indexar(crearPropiedad(2, "Atlántico", 400000f, 5L, 1));
+
+        EstadisticasRegionDTO eje = buscar(EJE_CAFETERO);
+        assertEquals(1, eje.getCantidadPropiedades());
+        assertEquals(200000f, eje.getMedianaValorNoche());
+        assertEquals(4.5f, eje.getPuntajePromedio(), 0.0001);
+
+        EstadisticasRegionDTO caribe = buscar(CARIBE);
+        assertEquals(2, caribe.getCantidadPropiedades());
+        assertEquals(350000f, caribe.getMedianaValorNoche());
+        assertEquals(5f, caribe.getPuntajePromedio(), 0.0001);
+    }
+
+    @Test
+    void testDesactivarYCalificar() {
+        Propiedad inactiva = crearPropiedad(1, "Antioquia", 200000f, 9L, 2);
+        inactiva.setEstado(Estado.INACTIVE);
+        estadisticas.indexar(inactiva);
+        estadisticas.remover(3);
+
+        assertEquals(1, buscar(EJE_CAFETERO).getCantidadPropiedades());
+        assertEquals(0, buscar(CARIBE).getCantidadPropiedades());
+
+        // Sin transacción activa la calificación se suma de inmediato; las de propiedades no indexadas se ignoran
+        estadisticas.registrarCalificacion(2, 3);
+        estadisticas.registrarCalificacion(1, 5);
+        EstadisticasRegionDTO eje = buscar(EJE_CAFETERO);
+        assertEquals(2, eje.getCantidadCalificaciones());
+        assertEquals(4f, eje.getPuntajePromedio(), 0.0001);
+    }
+
+    @Test
+    void testCalificacionDuranteEdicion() {
+        // updatePropiedad carga la propiedad 2 con un 5; antes de que confirme se confirma un 3
+        Propiedad editada = crearPropiedad(2, "Atlántico", 400000f, 5L, 1);
+        estadisticas.registrarCalificacion(2, 3);
+        estadisticas.indexar(editada);
+
+        EstadisticasRegionDTO caribe = buscar(CARIBE);
+        assertEquals(2, caribe.getCantidadCalificaciones());
+        assertEquals(4f, caribe.getPuntajePromedio(), 0.0001);
+        assertEquals(350000f, caribe.getMedianaValorNoche());
+        assertEquals(2, buscar(EJE_CAFETERO).getCantidadCalificaciones());
+    }
+
+    private EstadisticasRegionDTO buscar(String region) {
+        return estadisticas.getEstadisticas().stream()
+            .filter(dto -> dto.getRegion().equals(region))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private Propiedad crearPropiedad(Integer id, String departamento, Float valorNoche, Long sumaPuntajes, Integer calificaciones) {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(id);
+        propiedad.setDepartamento(departamento);
+        propiedad.setValorNoche(valorNoche);
+        propiedad.setSumaPuntajes(sumaPuntajes);
+        propiedad.setCantidadCalificaciones(calificaciones);
+        propiedad.setEstado(Estado.ACTIVE);
+        return propiedad;
+    }
+}
@@ -0,0 +1,93 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+
+class IndiceDisponibilidadTest {
+
+    private IndiceDisponibilidad indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceDisponibilidad(new CatalogoEstadosSolicitud(mock(EstadoSolicitudRepository.class)));
+        List.of(
+            crearSolicitud(1, 10, dia(1), dia(5), SolicitudStatus.POR_PAGAR),
+            crearSolicitud(2, 10, dia(4), dia(8), SolicitudStatus.PENDIENTE),
+            crearSolicitud(3, 10, dia(20), dia(22), SolicitudStatus.RECHAZADA)).forEach(indice::registrar);
+    }
+
+    @Test
+    void testEstaDisponible_RangosTraslapados() {
+        assertThat(indice.estaDisponible(10, dia(6), dia(7))).isFalse();
+        assertThat(indice.estaDisponible(10, dia(0), dia(2))).isFalse();
+        assertThat(indice.estaDisponible(10, dia(8), dia(10))).isTrue();
+    }
+
+    @Test
+    void testEstaDisponible_IgnoraRechazadasYPropiedadesSinSolicitudes() {
+        assertThat(indice.estaDisponible(10, dia(20), dia(22))).isTrue();
+        assertThat(indice.estaDisponible(99, dia(1), dia(5))).isTrue();
+    }
+
+    @Test
+    void testPropiedadesConReservas() {
+        assertThat(indice.propiedadesConReservas()).containsExactly(10);
+
+        indice.retirar(1);
+        indice.retirar(2);
+        assertThat(indice.propiedadesConReservas()).isEmpty();
+    }
+
+    @Test
+    void testRetirar_PartirRangoFusionado() {
+        indice.retirar(2);
+
+        assertThat(indice.estaDisponible(10, dia(5), dia(8))).isTrue();
+        assertThat(indice.estaDisponible(10, dia(4), dia(6))).isFalse();
+    }
+
+    @Test
+    void testCambiarEstado_SoloRechazadaLiberaFechas() {
+        indice.cambiarEstado(1, SolicitudStatus.POR_CALIFICAR);
+        assertThat(indice.estaDisponible(10, dia(1), dia(4))).isFalse();
+
+        indice.cambiarEstado(1, SolicitudStatus.RECHAZADA);
+        assertThat(indice.estaDisponible(10, dia(1), dia(4))).isTrue();
+    }
+
+    @Test
+    void testRegistrar_CambioARechazadaLiberaFechas() {
+        indice.registrar(crearSolicitud(1, 10, dia(1), dia(5), SolicitudStatus.RECHAZADA));
+
+        assertThat(indice.estaDisponible(10, dia(1), dia(4))).isTrue();
+        assertThat(indice.estaDisponible(10, dia(4), dia(5))).isFalse();
+    }
+
+    private LocalDateTime dia(int dia) {
+        return LocalDateTime.of(2030, 1, 1, 12, 0).plusDays(dia);
+    }
+
+    private Solicitud crearSolicitud(Integer id, Integer idPropiedad, LocalDateTime inicio, LocalDateTime fin, SolicitudStatus estado) {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(idPropiedad);
+        Solicitud solicitud = new Solicitud();
+        solicitud.setIdSolicitud(id);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setFechaInicio(inicio);
+        solicitud.setFechaFinal(fin);
+        solicitud.setEstadoSolicitud(new EstadoSolicitud(estado.getId(), estado.getNombre()));
+        return solicitud;
+    }
+}
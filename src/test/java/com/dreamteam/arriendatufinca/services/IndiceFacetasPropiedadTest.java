@@ -0,0 +1,153 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.dtos.propiedad.FiltroPropiedadDTO;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+class IndiceFacetasPropiedadTest {
+
+    private IndiceFacetasPropiedad indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceFacetasPropiedad();
+        List.of(
+            crearPropiedad(1, "Cundinamarca", "Girardot", 3, true, 250000f),
+            crearPropiedad(2, "Cundinamarca", "Anapoima", 5, false, 400000f),
+            crearPropiedad(3, "Antioquia", "Medellín", 2, true, 180000f)).forEach(indice::indexar);
+    }
+
+    @Test
+    void testBuscar_SinFiltros() {
+        IndiceFacetasPropiedad.ResultadoFacetas resultado = indice.buscar(new FiltroPropiedadDTO(), 0, 10);
+
+        assertThat(resultado.getIds()).containsExactly(1, 2, 3);
+        assertThat(resultado.getFacetas().get(IndiceFacetasPropiedad.FACETA_DEPARTAMENTO))
+            .containsEntry("Cundinamarca", 2)
+            .containsEntry("Antioquia", 1);
+    }
+
+    @Test
+    void testBuscar_CombinaFiltros() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setDepartamento("Cundinamarca");
+        filtro.setTienePiscina(true);
+
+        IndiceFacetasPropiedad.ResultadoFacetas resultado = indice.buscar(filtro, 0, 10);
+
+        assertThat(resultado.getIds()).containsExactly(1);
+        assertThat(resultado.getFacetas().get(IndiceFacetasPropiedad.FACETA_MUNICIPIO)).containsOnlyKeys("Girardot");
+    }
+
+    @Test
+    void testBuscar_HabitacionesMinimasYRangoDePrecio() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setCantidadHabitaciones(3);
+        filtro.setValorNocheMaximo(300000f);
+
+        assertThat(indice.buscar(filtro, 0, 10).getIds()).containsExactly(1);
+    }
+
+    @Test
+    void testBuscar_FacetasPorInterseccion() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setDepartamento("Cundinamarca");
+
+        IndiceFacetasPropiedad.ResultadoFacetas resultado = indice.buscar(filtro, 0, 10);
+
+        assertThat(resultado.getTotal()).isEqualTo(2);
+        assertThat(resultado.getFacetas().get(IndiceFacetasPropiedad.FACETA_MUNICIPIO))
+            .isEqualTo(Map.of("Anapoima", 1, "Girardot", 1));
+        assertThat(resultado.getFacetas().get(IndiceFacetasPropiedad.FACETA_PISCINA))
+            .containsEntry("true", 1)
+            .containsEntry("false", 1);
+        assertThat(resultado.getFacetas().get(IndiceFacetasPropiedad.FACETA_HABITACIONES)).containsOnlyKeys("3", "5");
+    }
+
+    @Test
+    void testBuscar_PaginaConCursor() {
+        IndiceFacetasPropiedad.ResultadoFacetas primera = indice.buscar(new FiltroPropiedadDTO(), 0, 2);
+        assertThat(primera.getIds()).containsExactly(1, 2);
+        assertThat(primera.isHaySiguiente()).isTrue();
+        assertThat(primera.getTotal()).isEqualTo(3);
+
+        IndiceFacetasPropiedad.ResultadoFacetas segunda = indice.buscar(new FiltroPropiedadDTO(), 2, 2);
+        assertThat(segunda.getIds()).containsExactly(3);
+        assertThat(segunda.isHaySiguiente()).isFalse();
+        // El total y las facetas son de todo el resultado, no de la página
+        assertThat(segunda.getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void testBuscar_CondicionSoloParaPorVerificar() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setDepartamento("Cundinamarca");
+        List<Integer> evaluadas = new ArrayList<>();
+
+        // La propiedad 3 no cumple el filtro y la 1 no está por verificar: solo se evalúa la 2
+        IndiceFacetasPropiedad.ResultadoFacetas resultado = indice.buscar(filtro, List.of(2, 3, 99), idPropiedad -> {
+            evaluadas.add(idPropiedad);
+            return false;
+        }, 0, 10);
+
+        assertThat(evaluadas).containsExactly(2);
+        assertThat(resultado.getIds()).containsExactly(1);
+        assertThat(resultado.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void testBuscar_PaginaDeResultadoDisperso() {
+        // Muchas propiedades y un filtro que deja pocas: la página se arma recorriendo solo esos bits
+        for (int id = 100; id < 300; id++) {
+            indice.indexar(crearPropiedad(id, "Tolima", "Melgar", 1, false, 100000f));
+        }
+        indice.indexar(crearPropiedad(250, "Meta", "Villavicencio", 2, true, 90000f));
+        indice.indexar(crearPropiedad(120, "Meta", "Villavicencio", 2, true, 90000f));
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setDepartamento("Meta");
+
+        assertThat(indice.buscar(filtro, 0, 1).getIds()).containsExactly(120);
+        assertThat(indice.buscar(filtro, 120, 1).getIds()).containsExactly(250);
+        assertThat(indice.buscar(filtro, 250, 1).getIds()).isEmpty();
+    }
+
+    @Test
+    void testIndexar_ActualizaYRemueve() {
+        indice.indexar(crearPropiedad(1, "Tolima", "Melgar", 3, true, 250000f));
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setDepartamento("Cundinamarca");
+        assertThat(indice.buscar(filtro, 0, 10).getIds()).containsExactly(2);
+
+        indice.remover(2);
+        assertThat(indice.buscar(filtro, 0, 10).getIds()).isEmpty();
+
+        Propiedad inactiva = crearPropiedad(3, "Antioquia", "Medellín", 2, true, 180000f);
+        inactiva.setEstado(Estado.INACTIVE);
+        indice.indexar(inactiva);
+        assertThat(indice.buscar(new FiltroPropiedadDTO(), 0, 10).getIds()).containsExactly(1);
+    }
+
+    private Propiedad crearPropiedad(Integer id, String departamento, String municipio, Integer habitaciones, Boolean piscina, Float valorNoche) {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(id);
+        propiedad.setDepartamento(departamento);
+        propiedad.setMunicipio(municipio);
+        propiedad.setCantidadHabitaciones(habitaciones);
+        propiedad.setCantidadBanos(1);
+        propiedad.setTienePiscina(piscina);
+        propiedad.setPermiteMascotas(false);
+        propiedad.setTieneAsador(false);
+        propiedad.setValorNoche(valorNoche);
+        propiedad.setEstado(Estado.ACTIVE);
+        return propiedad;
+    }
+}
@@ -0,0 +1,98 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+class IndiceTextoPropiedadTest {
+
+    private IndiceTextoPropiedad indice;
+
+    @BeforeEach
+    void setUp() {
+        indice = new IndiceTextoPropiedad();
+        List.of(
+            crearPropiedad(1, "Finca El Descanso", "Casa campestre con piscina y zonas verdes", "Girardot"),
+            crearPropiedad(2, "Cabaña del Río", "Cabaña rústica junto al río, ideal para descansar", "San Gil"),
+            crearPropiedad(3, "Villa Piscinas", "Hermosa villa con dos piscinas y jacuzzi", "Melgar")).forEach(indice::indexar);
+    }
+
+    @Test
+    void testBuscar_IgnoraTildesYMayusculas() {
+        assertThat(indice.buscar("CABANA rio", 10)).containsExactly(2);
+    }
+
+    @Test
+    void testBuscar_RankingBM25() {
+        List<Integer> resultado = indice.buscar("finca piscina Girardot", 10);
+
+        assertThat(resultado).containsExactly(1, 3);
+    }
+
+    @Test
+    void testBuscar_Plurales() {
+        assertThat(indice.buscar("piscinas", 10)).containsExactlyInAnyOrder(1, 3);
+    }
+
+    @Test
+    void testIndexar_ActualizaYRemueve() {
+        indice.indexar(crearPropiedad(2, "Cabaña del Lago", "Frente al lago", "Guatavita"));
+        assertThat(indice.buscar("rio", 10)).isEmpty();
+        assertThat(indice.buscar("lago", 10)).containsExactly(2);
+
+        indice.remover(2);
+        assertThat(indice.buscar("lago", 10)).isEmpty();
+    }
+
+    @Test
+    void testBuscar_ConsultaVacia() {
+        assertThat(indice.buscar("  de la  ", 10)).isEmpty();
+    }
+
+    @Test
+    void testBuscar_PodaIgualAlRankingCompleto() {
+        String[] palabras = {"finca", "casa", "piscina", "rio", "lago", "bosque", "fogata", "mirador"};
+        Random random = new Random(7);
+        for (int id = 10; id < 2010; id++) {
+            indice.indexar(crearPropiedad(id, texto(random, palabras, 3), texto(random, palabras, 12), "Girardot"));
+        }
+        // Ediciones y retiros liberan slots que luego se reutilizan
+        for (int id = 10; id < 2010; id += 7) {
+            indice.remover(id);
+        }
+        for (int id = 10; id < 2010; id += 14) {
+            indice.indexar(crearPropiedad(id, texto(random, palabras, 3), texto(random, palabras, 12), "Melgar"));
+        }
+
+        // Con un límite mayor que el índice no hay umbral y nada se poda
+        for (String consulta : List.of("finca", "fogata", "casa piscina melgar", "lago mirador bosque rio")) {
+            List<Integer> completo = indice.buscar(consulta, 10_000);
+            assertThat(indice.buscar(consulta, 5)).containsExactlyElementsOf(completo.subList(0, 5));
+        }
+    }
+
+    private static String texto(Random random, String[] palabras, int cantidad) {
+        StringBuilder texto = new StringBuilder();
+        for (int i = 0; i < cantidad; i++) {
+            texto.append(palabras[(int) (palabras.length * Math.pow(random.nextDouble(), 2))]).append(' ');
+        }
+        return texto.toString();
+    }
+
+    private Propiedad crearPropiedad(Integer id, String nombre, String descripcion, String municipio) {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(id);
+        propiedad.setNombrePropiedad(nombre);
+        propiedad.setDescripcionPropiedad(descripcion);
+        propiedad.setMunicipio(municipio);
+        propiedad.setEstado(Estado.ACTIVE);
+        return propiedad;
+    }
+}
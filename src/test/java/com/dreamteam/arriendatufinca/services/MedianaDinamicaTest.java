@@ -0,0 +1,57 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class MedianaDinamicaTest {
+
+    @Test
+    void testMedianaParEImpar() {
+        MedianaDinamica mediana = new MedianaDinamica();
+        assertNull(mediana.mediana());
+        mediana.agregar(300);
+        mediana.agregar(100);
+        assertEquals(200, mediana.mediana());
+        mediana.agregar(200);
+        assertEquals(200, mediana.mediana());
+        assertTrue(mediana.remover(100));
+        assertEquals(250, mediana.mediana());
+        assertFalse(mediana.remover(999));
+        assertEquals(2, mediana.tamano());
+    }
+
+    @Test
+    void testCoincideConOrdenarConRepetidos() {
+        // Precios repetidos, como los de propiedades reales, y retiros de valores arbitrarios
+        Random random = new Random(7);
+        MedianaDinamica mediana = new MedianaDinamica();
+        List<Double> valores = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            if (!valores.isEmpty() && random.nextInt(3) == 0) {
+                Double valor = valores.remove(random.nextInt(valores.size()));
+                assertTrue(mediana.remover(valor));
+            } else {
+                double valor = 100000 + 10000 * random.nextInt(20);
+                valores.add(valor);
+                mediana.agregar(valor);
+            }
+            assertEquals(esperada(valores), mediana.mediana());
+        }
+    }
+
+    private static Double esperada(List<Double> valores) {
+        if (valores.isEmpty()) {
+            return null;
+        }
+        List<Double> ordenados = new ArrayList<>(valores);
+        Collections.sort(ordenados);
+        int mitad = ordenados.size() / 2;
+        return ordenados.size() % 2 == 1 ? ordenados.get(mitad) : (ordenados.get(mitad - 1) + ordenados.get(mitad)) / 2;
+    }
+}
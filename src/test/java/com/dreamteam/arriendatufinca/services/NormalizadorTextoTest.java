@@ -0,0 +1,29 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class NormalizadorTextoTest {
+
+    @Test
+    void testNormalizar() {
+        assertEquals("bogota", NormalizadorTexto.normalizar("Bogotá"));
+        assertEquals("medellin", NormalizadorTexto.normalizar(" MEDELLÍN "));
+        assertEquals("", NormalizadorTexto.normalizar(null));
+    }
+
+    @Test
+    void testTerminos() {
+        assertEquals(List.of("finc", "piscin", "girardot"), NormalizadorTexto.terminos("Finca con piscina en Girardot"));
+    }
+
+    @Test
+    void testRaiz_Plurales() {
+        assertEquals(NormalizadorTexto.raiz("hotel"), NormalizadorTexto.raiz("hoteles"));
+        assertEquals(NormalizadorTexto.raiz("casa"), NormalizadorTexto.raiz("casas"));
+        assertEquals(NormalizadorTexto.raiz("piscina"), NormalizadorTexto.raiz("piscinas"));
+    }
+}
@@ -7,7 +7,11 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.PaginaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.FiltroPropiedadDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.PropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ResultadoBusquedaDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.ResultadoImportacionDTO;
 import com.dreamteam.arriendatufinca.dtos.propiedad.SimplePropiedadDTO;
 import com.dreamteam.arriendatufinca.entities.Arrendador;
 import com.dreamteam.arriendatufinca.entities.Propiedad;
@@ -15,22 +19,34 @@ import com.dreamteam.arriendatufinca.enums.Estado;
 import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
 import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
 import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
-import com.opencsv.exceptions.CsvException;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
 import org.modelmapper.ModelMapper;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
-import java.io.IOException;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.IntPredicate;
 
 class PropiedadServiceTest {
 
@@ -46,17 +62,36 @@ class PropiedadServiceTest {
     @Mock
     private UtilityService utilityService;
 
+    @Mock
+    private IndiceFacetasPropiedad indiceFacetas;
+
+    @Mock
+    private IndiceTextoPropiedad indiceTexto;
+
+    @Mock
+    private IndiceDisponibilidad indiceDisponibilidad;
+
+    @Mock
+    private EstadisticasRegion estadisticasRegion;
+
+    @Mock
+    private RankingPropiedades rankingPropiedades;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Spy
+    private CatalogoGeografico catalogoGeografico = new CatalogoGeografico();
+
+    @Spy
+    private SugerenciasUbicacion sugerenciasUbicacion = new SugerenciasUbicacion(catalogoGeografico);
+
     @InjectMocks
     private PropiedadService propiedadService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        try {
-            propiedadService.init();
-        } catch (IOException | CsvException e) {
-            e.printStackTrace();
-        }
     }
 
     @Test
@@ -86,6 +121,29 @@ class PropiedadServiceTest {
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getIdPropiedad()).isEqualTo(1);
         verify(propiedadRepository).save(any(Propiedad.class));
+        verify(indiceFacetas).indexar(propiedad);
+        verify(indiceTexto).indexar(propiedad);
+    }
+
+    @Test
+    void testSaveNewPropiedad_MunicipioInvalidoConSugerencias() {
+        SimplePropiedadDTO propiedadDTO = new SimplePropiedadDTO();
+        propiedadDTO.setMunicipio("Medellin");
+        propiedadDTO.setDepartamento("Antioquia");
+        propiedadDTO.setArrendador(new CuentaDTO());
+        propiedadDTO.getArrendador().setIdCuenta(1);
+
+        Arrendador arrendador = new Arrendador();
+        arrendador.setIdCuenta(1);
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(arrendador));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.saveNewPropiedad(propiedadDTO);
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(exception.getReason()).startsWith(ManejadorErrores.ERROR_MUNICIPIO_O_DEPARTAMENTO_INVALIDO + ManejadorErrores.SUGERENCIA_QUISO_DECIR + "Medellín (Antioquia)");
+        verify(propiedadRepository, never()).save(any(Propiedad.class));
     }
 
     @Test
@@ -156,7 +214,7 @@ class PropiedadServiceTest {
         Propiedad propiedad2 = new Propiedad();
         propiedad2.setIdPropiedad(2);
 
-        when(propiedadRepository.findAll()).thenReturn(Arrays.asList(propiedad1, propiedad2));
+        when(propiedadRepository.findAllConDetalle()).thenReturn(Arrays.asList(new Object[] {propiedad1, 2L}, new Object[] {propiedad2, 0L}));
 
         PropiedadDTO propiedadDTO1 = new PropiedadDTO();
         propiedadDTO1.setIdPropiedad(1);
@@ -171,6 +229,207 @@ class PropiedadServiceTest {
         assertThat(propiedades).hasSize(2);
         assertThat(propiedades.get(0).getIdPropiedad()).isEqualTo(1);
         assertThat(propiedades.get(1).getIdPropiedad()).isEqualTo(2);
+        assertThat(propiedades).extracting(PropiedadDTO::getCantidadSolicitudes).containsExactly(2, 0);
+    }
+
+    @Test
+    void testGetPaginaPropiedades_ConSiguientePagina() {
+        Propiedad propiedad1 = new Propiedad();
+        propiedad1.setIdPropiedad(1);
+        Propiedad propiedad2 = new Propiedad();
+        propiedad2.setIdPropiedad(2);
+
+        when(propiedadRepository.findIdsPagina(0, Limit.of(3))).thenReturn(Arrays.asList(1, 2, 3));
+        when(propiedadRepository.findAllByIdConDetalle(List.of(1, 2))).thenReturn(Arrays.asList(new Object[] {propiedad1, 0L}, new Object[] {propiedad2, 0L}));
+        when(modelMapper.map(any(Propiedad.class), eq(PropiedadDTO.class))).thenReturn(new PropiedadDTO());
+        when(propiedadRepository.count()).thenReturn(3L);
+
+        PaginaDTO<PropiedadDTO> pagina = propiedadService.getPaginaPropiedades(null, 2, true);
+
+        assertThat(pagina.getContenido()).hasSize(2);
+        assertThat(pagina.getTamano()).isEqualTo(2);
+        assertThat(pagina.getTotal()).isEqualTo(3L);
+        assertThat(UtilityService.decodificarCursor(pagina.getSiguienteCursor())).isEqualTo(2);
+    }
+
+    @Test
+    void testGetPaginaPropiedades_UltimaPagina() {
+        Propiedad propiedad3 = new Propiedad();
+        propiedad3.setIdPropiedad(3);
+        String cursor = UtilityService.codificarCursor(2);
+
+        when(propiedadRepository.findIdsPagina(2, Limit.of(3))).thenReturn(Arrays.asList(3));
+        when(propiedadRepository.findAllByIdConDetalle(List.of(3))).thenReturn(Collections.singletonList(new Object[] {propiedad3, 0L}));
+        when(modelMapper.map(any(Propiedad.class), eq(PropiedadDTO.class))).thenReturn(new PropiedadDTO());
+
+        PaginaDTO<PropiedadDTO> pagina = propiedadService.getPaginaPropiedades(cursor, 2, false);
+
+        assertThat(pagina.getContenido()).hasSize(1);
+        assertThat(pagina.getSiguienteCursor()).isNull();
+        assertThat(pagina.getTotal()).isNull();
+        verify(propiedadRepository, never()).count();
+    }
+
+    @Test
+    void testGetPaginaPropiedades_CursorInvalido() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.getPaginaPropiedades("cursor-invalido", 10, false);
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_CURSOR_INVALIDO);
+    }
+
+    @Test
+    void testBuscarPorRegion() {
+        Propiedad propiedad1 = new Propiedad();
+        propiedad1.setIdPropiedad(4);
+        Propiedad propiedad2 = new Propiedad();
+        propiedad2.setIdPropiedad(7);
+        List<String> departamentos = List.of("Antioquia", "Caldas", "Quindío", "Risaralda");
+
+        when(propiedadRepository.findByDepartamentoInAndIdPropiedadGreaterThanOrderByIdPropiedadAsc(departamentos, 0, Limit.of(2)))
+            .thenReturn(Arrays.asList(propiedad1, propiedad2));
+        when(estadisticasRegion.contarPropiedades(List.of("Región Eje Cafetero - Antioquia"))).thenReturn(5L);
+
+        PaginaDTO<SimplePropiedadDTO> pagina = propiedadService.buscarPorRegion("eje cafetero", null, 1);
+
+        assertThat(pagina.getContenido()).extracting(SimplePropiedadDTO::getIdPropiedad).containsExactly(4);
+        assertThat(pagina.getTotal()).isEqualTo(5L);
+        assertThat(UtilityService.decodificarCursor(pagina.getSiguienteCursor())).isEqualTo(4);
+    }
+
+    @Test
+    void testBuscarPorRegion_NoExiste() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.buscarPorRegion("Atlantida", null, 10);
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_REGION_NO_EXISTE);
+    }
+
+    @Test
+    void testGetMejoresPropiedades_ConservaOrdenDelRanking() {
+        Propiedad propiedad3 = new Propiedad();
+        propiedad3.setIdPropiedad(3);
+        Propiedad propiedad8 = new Propiedad();
+        propiedad8.setIdPropiedad(8);
+
+        when(rankingPropiedades.mejores("Cundinamarca", 5)).thenReturn(List.of(8, 3));
+        when(propiedadRepository.findAllByIdConArrendador(List.of(8, 3))).thenReturn(List.of(propiedad3, propiedad8));
+
+        List<SimplePropiedadDTO> resultado = propiedadService.getMejoresPropiedades("Cundinamarca", 5);
+
+        assertThat(resultado).extracting(SimplePropiedadDTO::getIdPropiedad).containsExactly(8, 3);
+    }
+
+    @Test
+    void testGetMejoresPropiedades_DepartamentoNoExiste() {
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.getMejoresPropiedades("Atlantida", 5);
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_DEPARTAMENTO_NO_EXISTE);
+        verifyNoInteractions(rankingPropiedades);
+    }
+
+    @Test
+    void testBuscarPropiedades() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        filtro.setTienePiscina(true);
+        Map<String, Map<String, Integer>> facetas = Map.of(IndiceFacetasPropiedad.FACETA_PISCINA, Map.of("true", 2));
+        when(indiceFacetas.buscar(filtro, 0, 1)).thenReturn(new IndiceFacetasPropiedad.ResultadoFacetas(List.of(4), 2, true, facetas));
+
+        Propiedad propiedad4 = new Propiedad();
+        propiedad4.setIdPropiedad(4);
+        when(propiedadRepository.findAllByIdConArrendador(List.of(4))).thenReturn(List.of(propiedad4));
+
+        ResultadoBusquedaDTO resultado = propiedadService.buscarPropiedades(filtro, null, 1);
+
+        assertThat(resultado.getTotal()).isEqualTo(2);
+        assertThat(resultado.getPropiedades()).hasSize(1);
+        assertThat(resultado.getFacetas()).isEqualTo(facetas);
+        assertThat(UtilityService.decodificarCursor(resultado.getSiguienteCursor())).isEqualTo(4);
+    }
+
+    @Test
+    void testBuscarPropiedades_ConCursor() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        when(indiceFacetas.buscar(filtro, 4, 1)).thenReturn(new IndiceFacetasPropiedad.ResultadoFacetas(List.of(7), 2, false, Map.of()));
+        Propiedad propiedad7 = new Propiedad();
+        propiedad7.setIdPropiedad(7);
+        when(propiedadRepository.findAllByIdConArrendador(List.of(7))).thenReturn(List.of(propiedad7));
+
+        ResultadoBusquedaDTO resultado = propiedadService.buscarPropiedades(filtro, UtilityService.codificarCursor(4), 1);
+
+        assertThat(resultado.getPropiedades()).extracting(SimplePropiedadDTO::getIdPropiedad).containsExactly(7);
+        assertThat(resultado.getSiguienteCursor()).isNull();
+    }
+
+    @Test
+    void testBuscarPropiedades_SoloConteos() {
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        when(indiceFacetas.buscar(filtro, 0, 0)).thenReturn(new IndiceFacetasPropiedad.ResultadoFacetas(List.of(), 3, true, Map.of()));
+
+        ResultadoBusquedaDTO resultado = propiedadService.buscarPropiedades(filtro, null, 0);
+
+        assertThat(resultado.getTotal()).isEqualTo(3);
+        assertThat(resultado.getPropiedades()).isEmpty();
+        verify(propiedadRepository, never()).findAllByIdConArrendador(any());
+    }
+
+    @Test
+    void testBuscarDisponibles_FiltraPorFechas() {
+        LocalDateTime inicio = LocalDateTime.of(2030, 1, 10, 15, 0);
+        LocalDateTime fin = LocalDateTime.of(2030, 1, 12, 11, 0);
+        FiltroPropiedadDTO filtro = new FiltroPropiedadDTO();
+        when(indiceDisponibilidad.estaDisponible(1, inicio, fin)).thenReturn(false);
+        when(indiceDisponibilidad.estaDisponible(2, inicio, fin)).thenReturn(true);
+        when(indiceDisponibilidad.propiedadesConReservas()).thenReturn(List.of(1, 2));
+        when(indiceFacetas.buscar(eq(filtro), eq(List.of(1, 2)), any(), eq(0), eq(0))).thenAnswer(invocacion -> {
+            IntPredicate incluir = invocacion.getArgument(2);
+            int total = (int) List.of(1, 2).stream().filter(incluir::test).count();
+            return new IndiceFacetasPropiedad.ResultadoFacetas(List.of(), total, false, Map.of());
+        });
+
+        ResultadoBusquedaDTO resultado = propiedadService.buscarDisponibles(inicio, fin, filtro, null, 0);
+
+        assertThat(resultado.getTotal()).isEqualTo(1);
+    }
+
+    @Test
+    void testBuscarDisponibles_FechasInvalidas() {
+        LocalDateTime inicio = LocalDateTime.of(2030, 1, 10, 15, 0);
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.buscarDisponibles(inicio, inicio, new FiltroPropiedadDTO(), null, 10);
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_FECHA_FINAL_SOLICITUD_INVALIDA);
+    }
+
+    @Test
+    void testBuscarPorTexto_ConservaOrdenDeRelevancia() {
+        Propiedad propiedad2 = new Propiedad();
+        propiedad2.setIdPropiedad(2);
+        Propiedad propiedad9 = new Propiedad();
+        propiedad9.setIdPropiedad(9);
+        SimplePropiedadDTO propiedadDTO2 = new SimplePropiedadDTO();
+        propiedadDTO2.setIdPropiedad(2);
+        SimplePropiedadDTO propiedadDTO9 = new SimplePropiedadDTO();
+        propiedadDTO9.setIdPropiedad(9);
+
+        when(indiceTexto.buscar("finca piscina", UtilityService.TAMANO_PAGINA_DEFECTO)).thenReturn(List.of(9, 2));
+        when(propiedadRepository.findAllByIdConArrendador(List.of(9, 2))).thenReturn(List.of(propiedad2, propiedad9));
+        when(modelMapper.map(propiedad2, SimplePropiedadDTO.class)).thenReturn(propiedadDTO2);
+        when(modelMapper.map(propiedad9, SimplePropiedadDTO.class)).thenReturn(propiedadDTO9);
+
+        List<SimplePropiedadDTO> resultado = propiedadService.buscarPorTexto("finca piscina", null);
+
+        assertThat(resultado).extracting(SimplePropiedadDTO::getIdPropiedad).containsExactly(9, 2);
     }
 
     @Test
@@ -178,7 +437,7 @@ class PropiedadServiceTest {
         Propiedad propiedad = new Propiedad();
         propiedad.setIdPropiedad(1);
 
-        when(propiedadRepository.findById(1)).thenReturn(Optional.of(propiedad));
+        when(propiedadRepository.findAllByIdConDetalle(List.of(1))).thenReturn(Collections.singletonList(new Object[] {propiedad, 3L}));
 
         PropiedadDTO propiedadDTO = new PropiedadDTO();
         propiedadDTO.setIdPropiedad(1);
@@ -189,11 +448,12 @@ class PropiedadServiceTest {
 
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getIdPropiedad()).isEqualTo(1);
+        assertThat(response.getBody().getCantidadSolicitudes()).isEqualTo(3);
     }
 
     @Test
     void testGetPropiedadById_NotFound() {
-        when(propiedadRepository.findById(1)).thenReturn(Optional.empty());
+        when(propiedadRepository.findAllByIdConDetalle(List.of(1))).thenReturn(Collections.emptyList());
 
         ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
             propiedadService.getPropiedad(1);
@@ -214,9 +474,31 @@ class PropiedadServiceTest {
         propiedadService.desactivarPropiedad(1);
 
         verify(propiedadRepository).save(propiedad);
+        verify(indiceFacetas).remover(1);
         assertThat(propiedad.getEstado()).isEqualTo(Estado.INACTIVE);
     }
 
+    @Test
+    void testDesactivarPropiedad_IndicesAlConfirmar() {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(1);
+        propiedad.setEstado(Estado.ACTIVE);
+        when(propiedadRepository.findById(1)).thenReturn(Optional.of(propiedad));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            propiedadService.desactivarPropiedad(1);
+            // Si la transacción falla al confirmar, los índices no deben haber retirado la propiedad
+            verify(indiceFacetas, never()).remover(1);
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(indiceFacetas).remover(1);
+            verify(rankingPropiedades).remover(1);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     @Test
     void testDesactivarPropiedad_NotFound() {
         when(propiedadRepository.findById(1)).thenReturn(Optional.empty());
@@ -228,4 +510,128 @@ class PropiedadServiceTest {
         assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_PROPIEDAD_NO_EXISTE);
     }
-}
\ No newline at end of file
+
+    private static final String CABECERA_CSV = "nombrePropiedad,municipio,departamento,cantidadHabitaciones,tienePiscina,valorNoche\n";
+
+    private static InputStream csv(String contenido) {
+        return new ByteArrayInputStream(contenido.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // Tamaño de cada lote en el momento de guardarlo: el servicio reutiliza la lista
+    private List<Integer> registrarLotes() {
+        List<Integer> tamanos = new ArrayList<>();
+        when(propiedadRepository.saveAll(any())).thenAnswer(invocacion -> {
+            tamanos.add(((List<?>) invocacion.getArgument(0)).size());
+            return invocacion.getArgument(0);
+        });
+        return tamanos;
+    }
+
+    @Test
+    void testImportarPropiedades() {
+        Arrendador arrendador = new Arrendador();
+        arrendador.setIdCuenta(1);
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(arrendador));
+        List<Integer> lotes = registrarLotes();
+
+        ResultadoImportacionDTO resultado = propiedadService.importarPropiedades(1, csv("\uFEFF" + CABECERA_CSV
+                + "Finca El Sol,Girardot,Cundinamarca,4,si,250000\n"
+                + "\n"
+                + "Finca La Luna,Medellin,Antioquia,3,no,200000\n"
+                + "Finca Sin Cuartos,Girardot,Cundinamarca,muchos,si,150000\n"
+                + "\"Finca, con coma\",Anapoima,Cundinamarca,,,\n"));
+
+        assertThat(resultado.getFilasLeidas()).isEqualTo(4);
+        assertThat(resultado.getPropiedadesCreadas()).isEqualTo(2);
+        assertThat(resultado.getCantidadErrores()).isEqualTo(2);
+        assertThat(resultado.getErrores().get(0).getFila()).isEqualTo(4L);
+        assertThat(resultado.getErrores().get(0).getMensaje()).contains("Medellín (Antioquia)");
+        assertThat(resultado.getErrores().get(1).getFila()).isEqualTo(5L);
+        assertThat(resultado.getErrores().get(1).getMensaje()).isEqualTo(ManejadorErrores.ERROR_VALOR_IMPORTACION_INVALIDO + "cantidadhabitaciones");
+        assertThat(lotes).containsExactly(2);
+        // Una sola consulta del arrendador para todo el archivo
+        verify(arrendadorRepository, times(1)).findById(1);
+        verify(indiceFacetas, times(2)).indexar(any(Propiedad.class));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void testImportarPropiedades_EnLotes() {
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(new Arrendador()));
+        List<Integer> lotes = registrarLotes();
+        StringBuilder contenido = new StringBuilder(CABECERA_CSV);
+        for (int i = 0; i < 2 * PropiedadService.TAMANO_LOTE_IMPORTACION + 1; i++) {
+            contenido.append("Finca ").append(i).append(",Girardot,Cundinamarca,3,si,180000\n");
+        }
+
+        ResultadoImportacionDTO resultado = propiedadService.importarPropiedades(1, csv(contenido.toString()));
+
+        assertThat(resultado.getPropiedadesCreadas()).isEqualTo(2 * PropiedadService.TAMANO_LOTE_IMPORTACION + 1);
+        assertThat(lotes).containsExactly(PropiedadService.TAMANO_LOTE_IMPORTACION, PropiedadService.TAMANO_LOTE_IMPORTACION, 1);
+        verify(transactionManager, times(3)).commit(any());
+    }
+
+    @Test
+    void testImportarPropiedades_LoteFallidoSeReintentaPorFila() {
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(new Arrendador()));
+        when(propiedadRepository.saveAll(any())).thenThrow(new DataIntegrityViolationException("lote"));
+        when(propiedadRepository.save(any(Propiedad.class))).thenAnswer(invocacion -> {
+            Propiedad propiedad = invocacion.getArgument(0);
+            if (propiedad.getNombrePropiedad().equals("Finca Duplicada")) {
+                throw new DataIntegrityViolationException("fila");
+            }
+            return propiedad;
+        });
+
+        ResultadoImportacionDTO resultado = propiedadService.importarPropiedades(1, csv(CABECERA_CSV
+                + "Finca El Sol,Girardot,Cundinamarca,4,si,250000\n"
+                + "Finca Duplicada,Girardot,Cundinamarca,4,si,250000\n"
+                + "Finca La Luna,Girardot,Cundinamarca,3,no,200000\n"));
+
+        assertThat(resultado.getPropiedadesCreadas()).isEqualTo(2);
+        assertThat(resultado.getCantidadErrores()).isEqualTo(1);
+        assertThat(resultado.getErrores().get(0).getFila()).isEqualTo(3L);
+        assertThat(resultado.getErrores().get(0).getMensaje()).isEqualTo(ManejadorErrores.ERROR_FILA_IMPORTACION_FALLIDA);
+        verify(propiedadRepository, times(3)).save(any(Propiedad.class));
+        verify(indiceFacetas, times(2)).indexar(any(Propiedad.class));
+    }
+
+    @Test
+    void testImportarPropiedades_ReporteDeErroresAcotado() {
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(new Arrendador()));
+        StringBuilder contenido = new StringBuilder(CABECERA_CSV);
+        for (int i = 0; i < PropiedadService.MAXIMO_ERRORES_IMPORTACION + 10; i++) {
+            contenido.append("Finca ").append(i).append(",Atlantis,Cundinamarca,3,si,180000\n");
+        }
+
+        ResultadoImportacionDTO resultado = propiedadService.importarPropiedades(1, csv(contenido.toString()));
+
+        assertThat(resultado.getCantidadErrores()).isEqualTo(PropiedadService.MAXIMO_ERRORES_IMPORTACION + 10);
+        assertThat(resultado.getErrores()).hasSize(PropiedadService.MAXIMO_ERRORES_IMPORTACION);
+        verify(propiedadRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void testImportarPropiedades_ColumnaFaltante() {
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.of(new Arrendador()));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.importarPropiedades(1, csv("nombrePropiedad,municipio\nFinca,Girardot\n"));
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_COLUMNA_IMPORTACION_FALTANTE + "departamento");
+    }
+
+    @Test
+    void testImportarPropiedades_ArrendadorNotFound() {
+        when(arrendadorRepository.findById(1)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            propiedadService.importarPropiedades(1, csv(CABECERA_CSV));
+        });
+
+        assertThat(exception.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(exception.getReason()).isEqualTo(ManejadorErrores.ERROR_ARRENDADOR_NO_EXISTE);
+    }
+}
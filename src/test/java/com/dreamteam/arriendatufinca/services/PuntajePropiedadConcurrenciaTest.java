@@ -0,0 +1,186 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.dreamteam.arriendatufinca.ModelMapperConfiguration;
+import com.dreamteam.arriendatufinca.dtos.CuentaDTO;
+import com.dreamteam.arriendatufinca.dtos.calificacion.CalificacionDTO;
+import com.dreamteam.arriendatufinca.dtos.propiedad.BasePropiedadDTO;
+import com.dreamteam.arriendatufinca.dtos.solicitud.BaseSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.Arrendador;
+import com.dreamteam.arriendatufinca.entities.Arrendatario;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.Estado;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.enums.TipoCalificacion;
+import com.dreamteam.arriendatufinca.repository.ArrendadorRepository;
+import com.dreamteam.arriendatufinca.repository.ArrendatarioRepository;
+import com.dreamteam.arriendatufinca.repository.PropiedadRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+// Muchas calificaciones simultáneas sobre la misma propiedad no deben perder incrementos
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({CalificacionService.class, CatalogoEstadosSolicitud.class, CatalogoGeografico.class, EstadisticasRegion.class,
+    RankingPropiedades.class, ModelMapperConfiguration.class})
+class PuntajePropiedadConcurrenciaTest {
+    private static final int HILOS = 8;
+
+    @Autowired
+    private CalificacionService calificacionService;
+
+    @Autowired
+    private CatalogoEstadosSolicitud catalogoEstados;
+
+    @Autowired
+    private ArrendadorRepository arrendadorRepository;
+
+    @Autowired
+    private ArrendatarioRepository arrendatarioRepository;
+
+    @Autowired
+    private PropiedadRepository propiedadRepository;
+
+    @Autowired
+    private SolicitudRepository solicitudRepository;
+
+    private Arrendador arrendador;
+    private Propiedad propiedad;
+
+    @BeforeEach
+    void setUp() {
+        arrendador = arrendadorRepository.save(new Arrendador("arrendador", "contrasena", "arrendador@example.com"));
+        propiedad = new Propiedad();
+        propiedad.setNombrePropiedad("Finca");
+        propiedad.setArrendador(arrendador);
+        propiedad.setEstado(Estado.ACTIVE);
+        propiedad.setCantidadHabitaciones(3);
+        propiedad.setSumaPuntajes(0L);
+        propiedad.setCantidadCalificaciones(0);
+        propiedad = propiedadRepository.save(propiedad);
+    }
+
+    @Test
+    void testRegistrarPuntaje_IncrementosConcurrentes() throws Exception {
+        int porHilo = 250;
+        ejecutarConcurrente(HILOS, hilo -> {
+            for (int i = 0; i < porHilo; i++) {
+                propiedadRepository.registrarPuntaje(propiedad.getIdPropiedad(), (hilo + i) % 6);
+            }
+        });
+
+        long sumaEsperada = 0;
+        for (int hilo = 0; hilo < HILOS; hilo++) {
+            for (int i = 0; i < porHilo; i++) {
+                sumaEsperada += (hilo + i) % 6;
+            }
+        }
+        Propiedad actualizada = propiedadRepository.findById(propiedad.getIdPropiedad()).get();
+        assertEquals(HILOS * porHilo, actualizada.getCantidadCalificaciones());
+        assertEquals(sumaEsperada, actualizada.getSumaPuntajes());
+        assertEquals((float) sumaEsperada / (HILOS * porHilo), actualizada.getPuntajePromedio());
+    }
+
+    @Test
+    void testSaveNewCalificacion_CalificacionesConcurrentes() throws Exception {
+        int porHilo = 10;
+        List<List<Solicitud>> solicitudes = new ArrayList<>();
+        for (int hilo = 0; hilo < HILOS; hilo++) {
+            List<Solicitud> delHilo = new ArrayList<>();
+            for (int i = 0; i < porHilo; i++) {
+                delHilo.add(crearSolicitud(hilo * porHilo + i));
+            }
+            solicitudes.add(delHilo);
+        }
+
+        ejecutarConcurrente(HILOS, hilo -> {
+            for (Solicitud solicitud : solicitudes.get(hilo)) {
+                calificacionService.saveNewCalificacion(calificacion(solicitud, 1 + solicitud.getIdSolicitud() % 5));
+            }
+        });
+
+        long sumaEsperada = solicitudes.stream().flatMap(List::stream).mapToLong(s -> 1 + s.getIdSolicitud() % 5).sum();
+        Propiedad actualizada = propiedadRepository.findById(propiedad.getIdPropiedad()).get();
+        assertEquals(HILOS * porHilo, actualizada.getCantidadCalificaciones());
+        assertEquals(sumaEsperada, actualizada.getSumaPuntajes());
+    }
+
+    private void ejecutarConcurrente(int hilos, TareaHilo tarea) throws Exception {
+        ExecutorService ejecutor = Executors.newFixedThreadPool(hilos);
+        CountDownLatch inicio = new CountDownLatch(1);
+        List<Future<?>> resultados = new ArrayList<>();
+        for (int hilo = 0; hilo < hilos; hilo++) {
+            int numero = hilo;
+            resultados.add(ejecutor.submit(() -> {
+                inicio.await();
+                tarea.ejecutar(numero);
+                return null;
+            }));
+        }
+        inicio.countDown();
+        for (Future<?> resultado : resultados) {
+            resultado.get(60, TimeUnit.SECONDS);
+        }
+        ejecutor.shutdown();
+    }
+
+    private Solicitud crearSolicitud(int numero) {
+        Arrendatario arrendatario = arrendatarioRepository.save(
+            new Arrendatario("arrendatario" + numero, "contrasena", "arrendatario" + numero + "@example.com"));
+        Solicitud solicitud = new Solicitud();
+        solicitud.setArrendatario(arrendatario);
+        solicitud.setPropiedad(propiedad);
+        solicitud.setEstadoSolicitud(catalogoEstados.referencia(SolicitudStatus.POR_CALIFICAR));
+        solicitud.setFechaInicio(LocalDateTime.now().minusDays(5));
+        solicitud.setFechaFinal(LocalDateTime.now().minusDays(2));
+        solicitud.setCantidadPersonas(2);
+        return solicitudRepository.save(solicitud);
+    }
+
+    private CalificacionDTO calificacion(Solicitud solicitud, int puntaje) {
+        CalificacionDTO calificacionDTO = new CalificacionDTO();
+        calificacionDTO.setTipoCalificacion(TipoCalificacion.ARRENDATARIO_A_PROPIEDAD.getValue());
+        calificacionDTO.setPuntaje(puntaje);
+        CuentaDTO calificadorDTO = new CuentaDTO();
+        calificadorDTO.setIdCuenta(solicitud.getArrendatario().getIdCuenta());
+        calificacionDTO.setCalificador(calificadorDTO);
+        CuentaDTO calificadoDTO = new CuentaDTO();
+        calificadoDTO.setIdCuenta(arrendador.getIdCuenta());
+        calificacionDTO.setCalificado(calificadoDTO);
+        BasePropiedadDTO propiedadDTO = new BasePropiedadDTO();
+        propiedadDTO.setIdPropiedad(propiedad.getIdPropiedad());
+        calificacionDTO.setPropiedad(propiedadDTO);
+        BaseSolicitudDTO solicitudDTO = new BaseSolicitudDTO();
+        solicitudDTO.setIdSolicitud(solicitud.getIdSolicitud());
+        calificacionDTO.setSolicitud(solicitudDTO);
+        return calificacionDTO;
+    }
+
+    @FunctionalInterface
+    private interface TareaHilo {
+        void ejecutar(int hilo) throws Exception;
+    }
+}
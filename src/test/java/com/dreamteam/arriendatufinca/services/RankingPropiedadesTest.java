@@ -0,0 +1,90 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.enums.Estado;
+
+class RankingPropiedadesTest {
+
+    private RankingPropiedades ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new RankingPropiedades(3.5, 5);
+        List.of(
+            crearPropiedad(1, "Cundinamarca", 5L, 1),      // un único 5
+            crearPropiedad(2, "Cundinamarca", 960L, 200),  // 4,8 con doscientas reseñas
+            crearPropiedad(3, "Cundinamarca", 12L, 3),
+            crearPropiedad(4, "Cundinamarca", 0L, 0),
+            crearPropiedad(5, "Antioquia", 20L, 4)).forEach(ranking::indexar);
+    }
+
+    @Test
+    void testPuntajeBayesiano() {
+        // Las propiedades sin calificaciones no entran al ranking
+        assertEquals(List.of(2, 1, 3), ranking.mejores("Cundinamarca", 10));
+        assertEquals(List.of(2), ranking.mejores("Cundinamarca", 1));
+        assertEquals(List.of(5), ranking.mejores("Antioquia", 10));
+        assertTrue(ranking.mejores("Bolívar", 10).isEmpty());
+    }
+
+    @Test
+    void testCalificacionReubicaPropiedad() {
+        for (int i = 0; i < 60; i++) {
+            ranking.registrarCalificacion(3, 5);
+        }
+        assertEquals(List.of(3, 2, 1), ranking.mejores("Cundinamarca", 10));
+
+        // La primera calificación hace entrar a la propiedad
+        ranking.registrarCalificacion(4, 0);
+        assertEquals(4, ranking.mejores("Cundinamarca", 10).get(3));
+        ranking.registrarCalificacion(99, 5);
+        assertEquals(4, ranking.mejores("Cundinamarca", 10).size());
+    }
+
+    @Test
+    void testCambiosDePropiedad() {
+        // Cambio de departamento conservando las calificaciones
+        ranking.indexar(crearPropiedad(2, "Antioquia", 960L, 200));
+        assertEquals(List.of(1, 3), ranking.mejores("Cundinamarca", 10));
+        assertEquals(List.of(2, 5), ranking.mejores("Antioquia", 10));
+
+        Propiedad inactiva = crearPropiedad(5, "Antioquia", 20L, 4);
+        inactiva.setEstado(Estado.INACTIVE);
+        ranking.indexar(inactiva);
+        ranking.remover(1);
+        ranking.registrarCalificacion(5, 5);
+        assertEquals(List.of(2), ranking.mejores("Antioquia", 10));
+        assertEquals(List.of(3), ranking.mejores("Cundinamarca", 10));
+    }
+
+    @Test
+    void testCalificacionDuranteEdicion() {
+        // updatePropiedad carga la propiedad 1 con un único 5; antes de que confirme se confirman otros cuatro
+        Propiedad editada = crearPropiedad(1, "Antioquia", 5L, 1);
+        for (int i = 0; i < 4; i++) {
+            ranking.registrarCalificacion(1, 5);
+        }
+        ranking.indexar(editada);
+
+        // (5 * 3,5 + 25) / 10 = 4,25 supera a la propiedad 5: (5 * 3,5 + 20) / 9 ≈ 4,17; con un solo 5 serían 3,75
+        assertEquals(List.of(1, 5), ranking.mejores("Antioquia", 10));
+        assertEquals(List.of(2, 3), ranking.mejores("Cundinamarca", 10));
+    }
+
+    private Propiedad crearPropiedad(Integer id, String departamento, Long sumaPuntajes, Integer calificaciones) {
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(id);
+        propiedad.setDepartamento(departamento);
+        propiedad.setSumaPuntajes(sumaPuntajes);
+        propiedad.setCantidadCalificaciones(calificaciones);
+        propiedad.setEstado(Estado.ACTIVE);
+        return propiedad;
+    }
+}
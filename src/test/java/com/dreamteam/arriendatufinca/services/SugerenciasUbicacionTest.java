@@ -0,0 +1,89 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Departamento;
+import com.dreamteam.arriendatufinca.services.CatalogoGeografico.Municipio;
+
+class SugerenciasUbicacionTest {
+
+    private final SugerenciasUbicacion sugerencias = new SugerenciasUbicacion(new CatalogoGeografico());
+
+    @Test
+    void testAutocompletarSinTildes() {
+        List<Municipio> resultado = sugerencias.autocompletarMunicipio("MEDELL", null, 5);
+        assertEquals("Medellín", resultado.get(0).getNombre());
+        assertEquals("Antioquia", resultado.get(0).getDepartamento());
+
+        List<String> bogota = nombres(sugerencias.autocompletarMunicipio("bogota", null, 5));
+        assertEquals(List.of("Bogotá D.C."), bogota);
+        assertTrue(sugerencias.autocompletarMunicipio("xyzw", null, 5).isEmpty());
+    }
+
+    @Test
+    void testAutocompletarDentroDeDepartamento() {
+        List<Municipio> resultado = sugerencias.autocompletarMunicipio("san", "bolivar", 20);
+        assertFalse(resultado.isEmpty());
+        assertTrue(resultado.stream().allMatch(municipio -> municipio.getDepartamento().equals("Bolívar")));
+        // Más cortos primero entre los que empiezan por el prefijo
+        for (int i = 1; i < resultado.size(); i++) {
+            String anterior = SugerenciasUbicacion.clave(resultado.get(i - 1).getNombre());
+            String actual = SugerenciasUbicacion.clave(resultado.get(i).getNombre());
+            if (anterior.startsWith("san") && actual.startsWith("san")) {
+                assertTrue(anterior.length() <= actual.length());
+            }
+        }
+        assertEquals(3, sugerencias.autocompletarMunicipio("", "Bolívar", 3).size());
+        assertTrue(sugerencias.autocompletarMunicipio("san", "Departamento inexistente", 5).isEmpty());
+    }
+
+    @Test
+    void testAutocompletarPorPalabraInterna() {
+        List<Municipio> resultado = sugerencias.autocompletarMunicipio("osos", "Antioquia", 5);
+        assertTrue(nombres(resultado).contains("Santa Rosa de Osos"));
+        // El nombre completo va antes que las coincidencias por palabra
+        List<Municipio> santa = sugerencias.autocompletarMunicipio("santa", "Antioquia", 20);
+        assertTrue(SugerenciasUbicacion.clave(santa.get(0).getNombre()).startsWith("santa"));
+    }
+
+    @Test
+    void testAutocompletarDepartamento() {
+        List<Departamento> resultado = sugerencias.autocompletarDepartamento("cun", 5);
+        assertEquals("Cundinamarca", resultado.get(0).getNombre());
+        assertEquals("Bolívar", sugerencias.autocompletarDepartamento("boli", 5).get(0).getNombre());
+    }
+
+    @Test
+    void testQuisoDecir() {
+        assertEquals("Medellín", sugerencias.sugerirMunicipio("Medelin", "Antioquia", 5).get(0).getNombre());
+        assertEquals("Cartagena", sugerencias.sugerirMunicipio("Cartajena", "Bolivar", 5).get(0).getNombre());
+
+        // Municipio correcto en el departamento equivocado
+        Municipio medellin = sugerencias.sugerirMunicipio("Medellín", "Cundinamarca", 5).get(0);
+        assertEquals("Antioquia", medellin.getDepartamento());
+
+        // A igual distancia se prefieren los municipios del departamento indicado
+        List<Municipio> buenavista = sugerencias.sugerirMunicipio("Buenavist", "Sucre", 5);
+        assertEquals("Sucre", buenavista.get(0).getDepartamento());
+
+        assertTrue(sugerencias.sugerirMunicipio("Atlantis", "Antioquia", 5).isEmpty());
+        assertTrue(sugerencias.sugerirMunicipio("Medelin", "Antioquia", 5).size() <= 5);
+    }
+
+    @Test
+    void testDistancia() {
+        assertEquals(0, SugerenciasUbicacion.distancia("cali", "cali"));
+        assertEquals(1, SugerenciasUbicacion.distancia("medelin", "medellin"));
+        assertEquals(2, SugerenciasUbicacion.distancia("cartajeno", "cartagena"));
+        assertEquals(4, SugerenciasUbicacion.distancia("", "cali"));
+    }
+
+    private static List<String> nombres(List<Municipio> municipios) {
+        return municipios.stream().map(Municipio::getNombre).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,137 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.modelmapper.ModelMapper;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.server.ResponseStatusException;
+
+import com.dreamteam.arriendatufinca.dtos.solicitud.SimpleSolicitudDTO;
+import com.dreamteam.arriendatufinca.entities.EstadoSolicitud;
+import com.dreamteam.arriendatufinca.entities.Propiedad;
+import com.dreamteam.arriendatufinca.entities.Solicitud;
+import com.dreamteam.arriendatufinca.enums.SolicitudStatus;
+import com.dreamteam.arriendatufinca.exception.ManejadorErrores;
+import com.dreamteam.arriendatufinca.repository.EstadoSolicitudRepository;
+import com.dreamteam.arriendatufinca.repository.SolicitudRepository;
+
+class TransicionSolicitudTest {
+
+    @InjectMocks
+    private SolicitudService solicitudService;
+
+    @Mock
+    private SolicitudRepository solicitudRepository;
+
+    @Spy
+    private CatalogoEstadosSolicitud catalogoEstados = new CatalogoEstadosSolicitud(mock(EstadoSolicitudRepository.class));
+
+    @Mock
+    private IndiceDisponibilidad indiceDisponibilidad;
+
+    @Mock
+    private ModelMapper modelMapper;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(modelMapper.map(any(Solicitud.class), eq(SimpleSolicitudDTO.class))).thenReturn(new SimpleSolicitudDTO());
+    }
+
+    @Test
+    void testActualizarEstadoSolicitud_UnSoloUpdate() {
+        when(solicitudRepository.actualizarEstado(eq(1), anyCollection(), any(EstadoSolicitud.class))).thenReturn(1);
+        when(solicitudRepository.findByIdConDetalle(1)).thenReturn(Optional.of(solicitud(SolicitudStatus.POR_PAGAR)));
+
+        ResponseEntity<SimpleSolicitudDTO> result = solicitudService.actualizarEstadoSolicitud(SolicitudStatus.POR_PAGAR, 1);
+
+        // La respuesta es la solicitud completa, igual que cuando no hay cambio de estado
+        assertEquals(1, result.getBody().getIdSolicitud());
+        assertEquals(SolicitudStatus.POR_PAGAR.getNombre(), result.getBody().getEstadoSolicitud().getNombreEstadoSolicitud());
+        assertEquals(LocalDateTime.of(2030, 1, 10, 15, 0), result.getBody().getFechaInicio());
+        assertEquals(4, result.getBody().getPropiedad().getIdPropiedad());
+        verify(solicitudRepository).actualizarEstado(1, List.of(catalogoEstados.referencia(SolicitudStatus.PENDIENTE)),
+                                                     catalogoEstados.referencia(SolicitudStatus.POR_PAGAR));
+        verify(solicitudRepository, never()).save(any(Solicitud.class));
+        verify(solicitudRepository).findByIdConDetalle(1);
+        verify(indiceDisponibilidad).cambiarEstado(1, SolicitudStatus.POR_PAGAR);
+    }
+
+    @Test
+    void testActualizarEstadoSolicitud_TransicionInvalida() {
+        when(solicitudRepository.actualizarEstado(eq(1), anyCollection(), any(EstadoSolicitud.class))).thenReturn(0);
+        when(solicitudRepository.findByIdConDetalle(1)).thenReturn(Optional.of(solicitud(SolicitudStatus.CERRADA)));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            solicitudService.actualizarEstadoSolicitud(SolicitudStatus.POR_PAGAR, 1);
+        });
+
+        assertEquals(ManejadorErrores.ERROR_CAMBIO_ESTADO_INVALIDO, exception.getReason());
+        verify(indiceDisponibilidad, never()).cambiarEstado(anyInt(), any(SolicitudStatus.class));
+    }
+
+    @Test
+    void testActualizarEstadoSolicitud_MismoEstado() {
+        when(solicitudRepository.actualizarEstado(eq(1), anyCollection(), any(EstadoSolicitud.class))).thenReturn(0);
+        when(solicitudRepository.findByIdConDetalle(1)).thenReturn(Optional.of(solicitud(SolicitudStatus.POR_PAGAR)));
+
+        ResponseEntity<SimpleSolicitudDTO> result = solicitudService.actualizarEstadoSolicitud(SolicitudStatus.POR_PAGAR, 1);
+
+        assertEquals(4, result.getBody().getPropiedad().getIdPropiedad());
+        verify(indiceDisponibilidad, never()).cambiarEstado(anyInt(), any(SolicitudStatus.class));
+    }
+
+    @Test
+    void testActualizarEstadoSolicitud_NoExiste() {
+        when(solicitudRepository.findByIdConDetalle(1)).thenReturn(Optional.empty());
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            solicitudService.actualizarEstadoSolicitud(SolicitudStatus.RECHAZADA, 1);
+        });
+
+        assertEquals(ManejadorErrores.ERROR_SOLICITUD_NO_EXISTE, exception.getReason());
+    }
+
+    @Test
+    void testActualizarEstadoSolicitud_SinEstadosAnteriores() {
+        when(solicitudRepository.findByIdConDetalle(1)).thenReturn(Optional.of(solicitud(SolicitudStatus.POR_PAGAR)));
+
+        ResponseStatusException exception = assertThrows(ResponseStatusException.class, () -> {
+            solicitudService.actualizarEstadoSolicitud(SolicitudStatus.PENDIENTE, 1);
+        });
+
+        assertEquals(ManejadorErrores.ERROR_CAMBIO_ESTADO_INVALIDO, exception.getReason());
+        verify(solicitudRepository, never()).actualizarEstado(anyInt(), any(), any());
+    }
+
+    private static EstadoSolicitud estado(SolicitudStatus solicitudStatus) {
+        return new EstadoSolicitud(solicitudStatus.getId(), solicitudStatus.getNombre());
+    }
+
+    private static Solicitud solicitud(SolicitudStatus solicitudStatus) {
+        Solicitud solicitud = new Solicitud();
+        solicitud.setIdSolicitud(1);
+        solicitud.setEstadoSolicitud(estado(solicitudStatus));
+        solicitud.setFechaInicio(LocalDateTime.of(2030, 1, 10, 15, 0));
+        solicitud.setFechaFinal(LocalDateTime.of(2030, 1, 12, 11, 0));
+        Propiedad propiedad = new Propiedad();
+        propiedad.setIdPropiedad(4);
+        solicitud.setPropiedad(propiedad);
+        return solicitud;
+    }
+}
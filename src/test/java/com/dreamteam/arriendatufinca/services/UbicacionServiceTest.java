@@ -0,0 +1,85 @@
+package com.dreamteam.arriendatufinca.services;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.io.ByteArrayInputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class UbicacionServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private UbicacionService ubicacionService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        CatalogoGeografico catalogo = new CatalogoGeografico();
+        ubicacionService = new UbicacionService(catalogo, new SugerenciasUbicacion(catalogo), objectMapper);
+        ubicacionService.init();
+    }
+
+    @Test
+    void testCatalogoCompleto() throws Exception {
+        ResponseEntity<byte[]> respuesta = ubicacionService.getCatalogo(null, null);
+
+        assertEquals(HttpStatus.OK, respuesta.getStatusCode());
+        assertNull(respuesta.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("max-age=604800, public", respuesta.getHeaders().getCacheControl());
+        JsonNode regiones = objectMapper.readTree(respuesta.getBody());
+        assertEquals(6, regiones.size());
+        int departamentos = 0;
+        int municipios = 0;
+        for (JsonNode region : regiones) {
+            for (JsonNode departamento : region.get("departamentos")) {
+                departamentos++;
+                municipios += departamento.get("municipios").size();
+            }
+        }
+        assertEquals(33, departamentos);
+        assertEquals(1123, municipios);
+        JsonNode antioquia = regiones.get(0).get("departamentos").get(0);
+        assertEquals("Región Eje Cafetero - Antioquia", regiones.get(0).get("nombre").asText());
+        assertEquals("05", antioquia.get("codigo").asText());
+        assertEquals("05001", antioquia.get("municipios").get(0).get("codigo").asText());
+        assertEquals("Medellín", antioquia.get("municipios").get(0).get("nombre").asText());
+    }
+
+    @Test
+    void testCatalogoComprimido() throws Exception {
+        byte[] plano = ubicacionService.getCatalogo(null, null).getBody();
+        ResponseEntity<byte[]> respuesta = ubicacionService.getCatalogo(null, "deflate, gzip;q=0.8, br");
+
+        assertEquals("gzip", respuesta.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(respuesta.getBody().length < plano.length);
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(respuesta.getBody()))) {
+            assertArrayEquals(plano, gzip.readAllBytes());
+        }
+        // q=0 excluye la codificación
+        assertNull(ubicacionService.getCatalogo(null, "gzip;q=0").getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void testNoModificado() {
+        String etag = ubicacionService.getCatalogo(null, null).getHeaders().getETag();
+        String etagGzip = ubicacionService.getCatalogo(null, "gzip").getHeaders().getETag();
+        assertNotEquals(etag, etagGzip);
+        assertTrue(etag.startsWith("\""));
+
+        ResponseEntity<byte[]> respuesta = ubicacionService.getCatalogo(etag, null);
+        assertEquals(HttpStatus.NOT_MODIFIED, respuesta.getStatusCode());
+        assertNull(respuesta.getBody());
+        assertEquals(etag, respuesta.getHeaders().getETag());
+
+        assertEquals(HttpStatus.NOT_MODIFIED, ubicacionService.getCatalogo("\"otro\", W/" + etagGzip, "gzip").getStatusCode());
+        assertEquals(HttpStatus.OK, ubicacionService.getCatalogo(etagGzip, null).getStatusCode());
+        assertEquals(HttpStatus.OK, ubicacionService.getCatalogo("\"otro\"", null).getStatusCode());
+    }
+}
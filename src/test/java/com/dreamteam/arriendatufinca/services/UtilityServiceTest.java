@@ -3,9 +3,12 @@ package com.dreamteam.arriendatufinca.services;
 import static org.junit.jupiter.api.Assertions.*;
 
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.web.server.ResponseStatusException;
 
 class UtilityServiceTest {
@@ -88,4 +91,58 @@ class UtilityServiceTest {
         assertEquals(HttpStatus.NOT_FOUND, exception.getStatusCode());
         assertEquals(errorMessage, exception.getReason());
     }
+
+    @Test
+    void testCursor_IdaYVuelta() {
+        String cursor = UtilityService.codificarCursor(12345);
+
+        assertEquals(12345, UtilityService.decodificarCursor(cursor));
+    }
+
+    @Test
+    void testAcotarTamanoPagina() {
+        assertEquals(UtilityService.TAMANO_PAGINA_DEFECTO, UtilityService.acotarTamanoPagina(null));
+        assertEquals(UtilityService.TAMANO_PAGINA_DEFECTO, UtilityService.acotarTamanoPagina(0));
+        assertEquals(15, UtilityService.acotarTamanoPagina(15));
+        assertEquals(UtilityService.TAMANO_PAGINA_MAXIMO, UtilityService.acotarTamanoPagina(10_000));
+    }
+
+    @Test
+    void testEjecutarAlConfirmar_SinTransaccion() {
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        UtilityService.ejecutarAlConfirmar(ejecuciones::incrementAndGet);
+
+        assertEquals(1, ejecuciones.get());
+    }
+
+    @Test
+    void testEjecutarAlConfirmar_EsperaLaConfirmacion() {
+        AtomicInteger ejecuciones = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            UtilityService.ejecutarAlConfirmar(ejecuciones::incrementAndGet);
+            assertEquals(0, ejecuciones.get());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertEquals(1, ejecuciones.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void testEjecutarAlConfirmar_NoSeAplicaSiSeDeshace() {
+        AtomicInteger ejecuciones = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            UtilityService.ejecutarAlConfirmar(ejecuciones::incrementAndGet);
+
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sincronizacion -> sincronizacion.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            assertEquals(0, ejecuciones.get());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
 }